@@ -0,0 +1,59 @@
+package org.rdlinux.luava.reflection.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.rdlinux.luava.reflection.BeanUtils;
+import org.rdlinux.luava.reflection.benchmark.model.Bean200;
+import org.rdlinux.luava.reflection.benchmark.model.Bean5;
+import org.rdlinux.luava.reflection.benchmark.model.Bean50;
+import org.rdlinux.luava.reflection.benchmark.model.HandWritten;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * bean转Map基准，对比beanToMap、Map视图读取两个key与手写转换
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BeanToMapBenchmark {
+    @Param({"5", "50", "200"})
+    private int size;
+    private Object source;
+    private Function<Object, Map<String, Object>> handWritten;
+
+    @Setup
+    public void setup() {
+        if (this.size == 5) {
+            this.source = Bean5.sample();
+            this.handWritten = s -> HandWritten.toMap((Bean5) s);
+        } else if (this.size == 50) {
+            this.source = Bean50.sample();
+            this.handWritten = s -> HandWritten.toMap((Bean50) s);
+        } else {
+            this.source = Bean200.sample();
+            this.handWritten = s -> HandWritten.toMap((Bean200) s);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> baseline() {
+        return this.handWritten.apply(this.source);
+    }
+
+    @Benchmark
+    public Map<String, Object> beanToMap() {
+        return BeanUtils.beanToMap(this.source);
+    }
+
+    @Benchmark
+    public Object asMapTwoKeys() {
+        Map<String, Object> map = BeanUtils.asMap(this.source);
+        map.get("field0");
+        return map.get("field1");
+    }
+}
@@ -0,0 +1,28 @@
+package org.rdlinux.luava.reflection.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 运行所有基准测试，默认附带GC分析器以输出gc.alloc.rate.norm。
+ * 参数为要运行的基准测试名称正则，不传时运行全部。
+ * <pre>
+ * java -jar target/benchmarks.jar CopyBenchmark
+ * </pre>
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException {
+        ChainedOptionsBuilder builder = new OptionsBuilder().addProfiler(GCProfiler.class);
+        if (args.length == 0) {
+            builder.include(BenchmarkRunner.class.getPackage().getName() + ".*");
+        } else {
+            for (String arg : args) {
+                builder.include(arg);
+            }
+        }
+        new Runner(builder.build()).run();
+    }
+}
@@ -0,0 +1,83 @@
+package org.rdlinux.luava.reflection.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.rdlinux.luava.reflection.BeanCopier;
+import org.rdlinux.luava.reflection.BeanUtils;
+import org.rdlinux.luava.reflection.CopyOption;
+import org.rdlinux.luava.reflection.benchmark.model.Bean200;
+import org.rdlinux.luava.reflection.benchmark.model.Bean5;
+import org.rdlinux.luava.reflection.benchmark.model.Bean50;
+import org.rdlinux.luava.reflection.benchmark.model.HandWritten;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * bean拷贝基准，按属性数量和拷贝选项对比copyProperties、预编译拷贝器与手写拷贝
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CopyBenchmark {
+    @Param({"5", "50", "200"})
+    private int size;
+    /**
+     * DEFAULT: 默认选项, FIELD: 直接读写属性, IGNORE_NULL: 忽略空值, IGNORE_FIELDS: 忽略部分属性
+     */
+    @Param({"DEFAULT", "FIELD", "IGNORE_NULL", "IGNORE_FIELDS"})
+    private String option;
+    private Object source;
+    private Object target;
+    private CopyOption copyOption;
+    private BeanCopier<Object, Object> copier;
+    private BiConsumer<Object, Object> handWritten;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        if (this.size == 5) {
+            this.source = Bean5.sample();
+            this.target = new Bean5();
+            this.handWritten = (s, t) -> HandWritten.copy((Bean5) s, (Bean5) t);
+        } else if (this.size == 50) {
+            this.source = Bean50.sample();
+            this.target = new Bean50();
+            this.handWritten = (s, t) -> HandWritten.copy((Bean50) s, (Bean50) t);
+        } else {
+            this.source = Bean200.sample();
+            this.target = new Bean200();
+            this.handWritten = (s, t) -> HandWritten.copy((Bean200) s, (Bean200) t);
+        }
+        this.copyOption = new CopyOption();
+        if ("FIELD".equals(this.option)) {
+            this.copyOption.setUseGetter(false).setUseSetter(false);
+        } else if ("IGNORE_NULL".equals(this.option)) {
+            this.copyOption.setIgnoreNullValue(true);
+        } else if ("IGNORE_FIELDS".equals(this.option)) {
+            this.copyOption.addIgnoreFields("field0", "field1", "field2");
+        }
+        this.copier = (BeanCopier<Object, Object>) BeanUtils.compile(this.source.getClass(), this.target.getClass(),
+                this.copyOption);
+    }
+
+    @Benchmark
+    public Object baseline() {
+        this.handWritten.accept(this.source, this.target);
+        return this.target;
+    }
+
+    @Benchmark
+    public Object copyProperties() {
+        BeanUtils.copyProperties(this.source, this.target, this.copyOption);
+        return this.target;
+    }
+
+    @Benchmark
+    public Object compiledCopier() {
+        this.copier.copy(this.source, this.target);
+        return this.target;
+    }
+}
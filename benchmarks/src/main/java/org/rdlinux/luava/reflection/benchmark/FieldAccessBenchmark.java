@@ -0,0 +1,87 @@
+package org.rdlinux.luava.reflection.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.rdlinux.luava.reflection.FieldAccessor;
+import org.rdlinux.luava.reflection.ReflectionUtils;
+import org.rdlinux.luava.reflection.benchmark.model.Level1;
+import org.rdlinux.luava.reflection.benchmark.model.Level4;
+import org.rdlinux.luava.reflection.benchmark.model.Level8;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 属性读写基准，读写的属性声明在继承层级的最顶层，对比属性模式、get/set方法模式与直接调用
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FieldAccessBenchmark {
+    @Param({"1", "4", "8"})
+    private int depth;
+    private Level1 bean;
+    private Field field;
+    private FieldAccessor accessor;
+    private int value;
+
+    @Setup
+    public void setup() {
+        if (this.depth == 1) {
+            this.bean = Level1.sample();
+        } else if (this.depth == 4) {
+            this.bean = Level4.sample();
+        } else {
+            this.bean = Level8.sample();
+        }
+        this.field = ReflectionUtils.getField(this.bean.getClass(), "level1Field1");
+        this.accessor = ReflectionUtils.getFieldAccessor(this.field);
+    }
+
+    @Benchmark
+    public int baselineGet() {
+        return this.bean.getLevel1Field1();
+    }
+
+    @Benchmark
+    public void baselineSet() {
+        this.bean.setLevel1Field1(++this.value);
+    }
+
+    @Benchmark
+    public Object getFieldValueByName() {
+        return ReflectionUtils.getFieldValue(this.bean, "level1Field1");
+    }
+
+    @Benchmark
+    public Object getFieldValueByGetter() {
+        return ReflectionUtils.getFieldValue(this.bean, this.field, true);
+    }
+
+    @Benchmark
+    public Object getFieldValueByField() {
+        return ReflectionUtils.getFieldValue(this.bean, this.field, false);
+    }
+
+    @Benchmark
+    public void setFieldValueBySetter() {
+        ReflectionUtils.setFieldValue(this.bean, this.field, ++this.value, true);
+    }
+
+    @Benchmark
+    public void setFieldValueByField() {
+        ReflectionUtils.setFieldValue(this.bean, this.field, ++this.value, false);
+    }
+
+    @Benchmark
+    public int fieldAccessorGetInt() {
+        return this.accessor.getInt(this.bean);
+    }
+
+    @Benchmark
+    public void fieldAccessorSetInt() {
+        this.accessor.setInt(this.bean, ++this.value);
+    }
+}
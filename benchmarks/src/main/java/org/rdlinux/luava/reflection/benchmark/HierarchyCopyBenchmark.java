@@ -0,0 +1,57 @@
+package org.rdlinux.luava.reflection.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.rdlinux.luava.reflection.BeanUtils;
+import org.rdlinux.luava.reflection.benchmark.model.HandWritten;
+import org.rdlinux.luava.reflection.benchmark.model.Level1;
+import org.rdlinux.luava.reflection.benchmark.model.Level4;
+import org.rdlinux.luava.reflection.benchmark.model.Level8;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * 继承层级深度对拷贝的影响，每层5个属性
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HierarchyCopyBenchmark {
+    @Param({"1", "4", "8"})
+    private int depth;
+    private Object source;
+    private Object target;
+    private BiConsumer<Object, Object> handWritten;
+
+    @Setup
+    public void setup() {
+        if (this.depth == 1) {
+            this.source = Level1.sample();
+            this.target = new Level1();
+            this.handWritten = (s, t) -> HandWritten.copy((Level1) s, (Level1) t);
+        } else if (this.depth == 4) {
+            this.source = Level4.sample();
+            this.target = new Level4();
+            this.handWritten = (s, t) -> HandWritten.copy((Level4) s, (Level4) t);
+        } else {
+            this.source = Level8.sample();
+            this.target = new Level8();
+            this.handWritten = (s, t) -> HandWritten.copy((Level8) s, (Level8) t);
+        }
+    }
+
+    @Benchmark
+    public Object baseline() {
+        this.handWritten.accept(this.source, this.target);
+        return this.target;
+    }
+
+    @Benchmark
+    public Object copyProperties() {
+        BeanUtils.copyProperties(this.source, this.target);
+        return this.target;
+    }
+}
@@ -0,0 +1,51 @@
+package org.rdlinux.luava.reflection.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.rdlinux.luava.reflection.MethodInvoker;
+import org.rdlinux.luava.reflection.ReflectionUtils;
+import org.rdlinux.luava.reflection.benchmark.model.Bean5;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 方法调用基准，对比按Method调用、按方法名称调用、方法调用器与直接调用
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InvokeMethodBenchmark {
+    private Bean5 bean;
+    private Method method;
+    private MethodInvoker invoker;
+
+    @Setup
+    public void setup() {
+        this.bean = Bean5.sample();
+        this.method = ReflectionUtils.getMethod(Bean5.class, "getField0");
+        this.invoker = ReflectionUtils.getMethodInvoker(this.method);
+    }
+
+    @Benchmark
+    public Object baseline() {
+        return this.bean.getField0();
+    }
+
+    @Benchmark
+    public Object invokeMethod() {
+        return ReflectionUtils.invokeMethod(this.bean, this.method);
+    }
+
+    @Benchmark
+    public Object invokeMethodByName() {
+        return ReflectionUtils.invokeMethod(this.bean, "getField0");
+    }
+
+    @Benchmark
+    public Object methodInvoker() {
+        return this.invoker.invoke0(this.bean);
+    }
+}
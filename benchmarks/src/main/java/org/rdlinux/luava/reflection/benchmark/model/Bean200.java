@@ -0,0 +1,2019 @@
+package org.rdlinux.luava.reflection.benchmark.model;
+
+/**
+ * 200个属性的bean
+ */
+public class Bean200 {
+    private String field0;
+    private int field1;
+    private long field2;
+    private Integer field3;
+    private double field4;
+    private boolean field5;
+    private Long field6;
+    private String field7;
+    private int field8;
+    private long field9;
+    private Integer field10;
+    private double field11;
+    private boolean field12;
+    private Long field13;
+    private String field14;
+    private int field15;
+    private long field16;
+    private Integer field17;
+    private double field18;
+    private boolean field19;
+    private Long field20;
+    private String field21;
+    private int field22;
+    private long field23;
+    private Integer field24;
+    private double field25;
+    private boolean field26;
+    private Long field27;
+    private String field28;
+    private int field29;
+    private long field30;
+    private Integer field31;
+    private double field32;
+    private boolean field33;
+    private Long field34;
+    private String field35;
+    private int field36;
+    private long field37;
+    private Integer field38;
+    private double field39;
+    private boolean field40;
+    private Long field41;
+    private String field42;
+    private int field43;
+    private long field44;
+    private Integer field45;
+    private double field46;
+    private boolean field47;
+    private Long field48;
+    private String field49;
+    private int field50;
+    private long field51;
+    private Integer field52;
+    private double field53;
+    private boolean field54;
+    private Long field55;
+    private String field56;
+    private int field57;
+    private long field58;
+    private Integer field59;
+    private double field60;
+    private boolean field61;
+    private Long field62;
+    private String field63;
+    private int field64;
+    private long field65;
+    private Integer field66;
+    private double field67;
+    private boolean field68;
+    private Long field69;
+    private String field70;
+    private int field71;
+    private long field72;
+    private Integer field73;
+    private double field74;
+    private boolean field75;
+    private Long field76;
+    private String field77;
+    private int field78;
+    private long field79;
+    private Integer field80;
+    private double field81;
+    private boolean field82;
+    private Long field83;
+    private String field84;
+    private int field85;
+    private long field86;
+    private Integer field87;
+    private double field88;
+    private boolean field89;
+    private Long field90;
+    private String field91;
+    private int field92;
+    private long field93;
+    private Integer field94;
+    private double field95;
+    private boolean field96;
+    private Long field97;
+    private String field98;
+    private int field99;
+    private long field100;
+    private Integer field101;
+    private double field102;
+    private boolean field103;
+    private Long field104;
+    private String field105;
+    private int field106;
+    private long field107;
+    private Integer field108;
+    private double field109;
+    private boolean field110;
+    private Long field111;
+    private String field112;
+    private int field113;
+    private long field114;
+    private Integer field115;
+    private double field116;
+    private boolean field117;
+    private Long field118;
+    private String field119;
+    private int field120;
+    private long field121;
+    private Integer field122;
+    private double field123;
+    private boolean field124;
+    private Long field125;
+    private String field126;
+    private int field127;
+    private long field128;
+    private Integer field129;
+    private double field130;
+    private boolean field131;
+    private Long field132;
+    private String field133;
+    private int field134;
+    private long field135;
+    private Integer field136;
+    private double field137;
+    private boolean field138;
+    private Long field139;
+    private String field140;
+    private int field141;
+    private long field142;
+    private Integer field143;
+    private double field144;
+    private boolean field145;
+    private Long field146;
+    private String field147;
+    private int field148;
+    private long field149;
+    private Integer field150;
+    private double field151;
+    private boolean field152;
+    private Long field153;
+    private String field154;
+    private int field155;
+    private long field156;
+    private Integer field157;
+    private double field158;
+    private boolean field159;
+    private Long field160;
+    private String field161;
+    private int field162;
+    private long field163;
+    private Integer field164;
+    private double field165;
+    private boolean field166;
+    private Long field167;
+    private String field168;
+    private int field169;
+    private long field170;
+    private Integer field171;
+    private double field172;
+    private boolean field173;
+    private Long field174;
+    private String field175;
+    private int field176;
+    private long field177;
+    private Integer field178;
+    private double field179;
+    private boolean field180;
+    private Long field181;
+    private String field182;
+    private int field183;
+    private long field184;
+    private Integer field185;
+    private double field186;
+    private boolean field187;
+    private Long field188;
+    private String field189;
+    private int field190;
+    private long field191;
+    private Integer field192;
+    private double field193;
+    private boolean field194;
+    private Long field195;
+    private String field196;
+    private int field197;
+    private long field198;
+    private Integer field199;
+
+    /**
+     * 创建所有属性都有值的实例
+     */
+    public static Bean200 sample() {
+        Bean200 bean = new Bean200();
+        bean.fill();
+        return bean;
+    }
+
+    protected void fill() {
+        this.field0 = "v0";
+        this.field1 = 1;
+        this.field2 = 2L;
+        this.field3 = 3;
+        this.field4 = 4.5;
+        this.field5 = false;
+        this.field6 = 6L;
+        this.field7 = "v7";
+        this.field8 = 8;
+        this.field9 = 9L;
+        this.field10 = 10;
+        this.field11 = 11.5;
+        this.field12 = true;
+        this.field13 = 13L;
+        this.field14 = "v14";
+        this.field15 = 15;
+        this.field16 = 16L;
+        this.field17 = 17;
+        this.field18 = 18.5;
+        this.field19 = false;
+        this.field20 = 20L;
+        this.field21 = "v21";
+        this.field22 = 22;
+        this.field23 = 23L;
+        this.field24 = 24;
+        this.field25 = 25.5;
+        this.field26 = true;
+        this.field27 = 27L;
+        this.field28 = "v28";
+        this.field29 = 29;
+        this.field30 = 30L;
+        this.field31 = 31;
+        this.field32 = 32.5;
+        this.field33 = false;
+        this.field34 = 34L;
+        this.field35 = "v35";
+        this.field36 = 36;
+        this.field37 = 37L;
+        this.field38 = 38;
+        this.field39 = 39.5;
+        this.field40 = true;
+        this.field41 = 41L;
+        this.field42 = "v42";
+        this.field43 = 43;
+        this.field44 = 44L;
+        this.field45 = 45;
+        this.field46 = 46.5;
+        this.field47 = false;
+        this.field48 = 48L;
+        this.field49 = "v49";
+        this.field50 = 50;
+        this.field51 = 51L;
+        this.field52 = 52;
+        this.field53 = 53.5;
+        this.field54 = true;
+        this.field55 = 55L;
+        this.field56 = "v56";
+        this.field57 = 57;
+        this.field58 = 58L;
+        this.field59 = 59;
+        this.field60 = 60.5;
+        this.field61 = false;
+        this.field62 = 62L;
+        this.field63 = "v63";
+        this.field64 = 64;
+        this.field65 = 65L;
+        this.field66 = 66;
+        this.field67 = 67.5;
+        this.field68 = true;
+        this.field69 = 69L;
+        this.field70 = "v70";
+        this.field71 = 71;
+        this.field72 = 72L;
+        this.field73 = 73;
+        this.field74 = 74.5;
+        this.field75 = false;
+        this.field76 = 76L;
+        this.field77 = "v77";
+        this.field78 = 78;
+        this.field79 = 79L;
+        this.field80 = 80;
+        this.field81 = 81.5;
+        this.field82 = true;
+        this.field83 = 83L;
+        this.field84 = "v84";
+        this.field85 = 85;
+        this.field86 = 86L;
+        this.field87 = 87;
+        this.field88 = 88.5;
+        this.field89 = false;
+        this.field90 = 90L;
+        this.field91 = "v91";
+        this.field92 = 92;
+        this.field93 = 93L;
+        this.field94 = 94;
+        this.field95 = 95.5;
+        this.field96 = true;
+        this.field97 = 97L;
+        this.field98 = "v98";
+        this.field99 = 99;
+        this.field100 = 100L;
+        this.field101 = 101;
+        this.field102 = 102.5;
+        this.field103 = false;
+        this.field104 = 104L;
+        this.field105 = "v105";
+        this.field106 = 106;
+        this.field107 = 107L;
+        this.field108 = 108;
+        this.field109 = 109.5;
+        this.field110 = true;
+        this.field111 = 111L;
+        this.field112 = "v112";
+        this.field113 = 113;
+        this.field114 = 114L;
+        this.field115 = 115;
+        this.field116 = 116.5;
+        this.field117 = false;
+        this.field118 = 118L;
+        this.field119 = "v119";
+        this.field120 = 120;
+        this.field121 = 121L;
+        this.field122 = 122;
+        this.field123 = 123.5;
+        this.field124 = true;
+        this.field125 = 125L;
+        this.field126 = "v126";
+        this.field127 = 127;
+        this.field128 = 128L;
+        this.field129 = 129;
+        this.field130 = 130.5;
+        this.field131 = false;
+        this.field132 = 132L;
+        this.field133 = "v133";
+        this.field134 = 134;
+        this.field135 = 135L;
+        this.field136 = 136;
+        this.field137 = 137.5;
+        this.field138 = true;
+        this.field139 = 139L;
+        this.field140 = "v140";
+        this.field141 = 141;
+        this.field142 = 142L;
+        this.field143 = 143;
+        this.field144 = 144.5;
+        this.field145 = false;
+        this.field146 = 146L;
+        this.field147 = "v147";
+        this.field148 = 148;
+        this.field149 = 149L;
+        this.field150 = 150;
+        this.field151 = 151.5;
+        this.field152 = true;
+        this.field153 = 153L;
+        this.field154 = "v154";
+        this.field155 = 155;
+        this.field156 = 156L;
+        this.field157 = 157;
+        this.field158 = 158.5;
+        this.field159 = false;
+        this.field160 = 160L;
+        this.field161 = "v161";
+        this.field162 = 162;
+        this.field163 = 163L;
+        this.field164 = 164;
+        this.field165 = 165.5;
+        this.field166 = true;
+        this.field167 = 167L;
+        this.field168 = "v168";
+        this.field169 = 169;
+        this.field170 = 170L;
+        this.field171 = 171;
+        this.field172 = 172.5;
+        this.field173 = false;
+        this.field174 = 174L;
+        this.field175 = "v175";
+        this.field176 = 176;
+        this.field177 = 177L;
+        this.field178 = 178;
+        this.field179 = 179.5;
+        this.field180 = true;
+        this.field181 = 181L;
+        this.field182 = "v182";
+        this.field183 = 183;
+        this.field184 = 184L;
+        this.field185 = 185;
+        this.field186 = 186.5;
+        this.field187 = false;
+        this.field188 = 188L;
+        this.field189 = "v189";
+        this.field190 = 190;
+        this.field191 = 191L;
+        this.field192 = 192;
+        this.field193 = 193.5;
+        this.field194 = true;
+        this.field195 = 195L;
+        this.field196 = "v196";
+        this.field197 = 197;
+        this.field198 = 198L;
+        this.field199 = 199;
+    }
+
+    public String getField0() {
+        return this.field0;
+    }
+
+    public void setField0(String field0) {
+        this.field0 = field0;
+    }
+
+    public int getField1() {
+        return this.field1;
+    }
+
+    public void setField1(int field1) {
+        this.field1 = field1;
+    }
+
+    public long getField2() {
+        return this.field2;
+    }
+
+    public void setField2(long field2) {
+        this.field2 = field2;
+    }
+
+    public Integer getField3() {
+        return this.field3;
+    }
+
+    public void setField3(Integer field3) {
+        this.field3 = field3;
+    }
+
+    public double getField4() {
+        return this.field4;
+    }
+
+    public void setField4(double field4) {
+        this.field4 = field4;
+    }
+
+    public boolean isField5() {
+        return this.field5;
+    }
+
+    public void setField5(boolean field5) {
+        this.field5 = field5;
+    }
+
+    public Long getField6() {
+        return this.field6;
+    }
+
+    public void setField6(Long field6) {
+        this.field6 = field6;
+    }
+
+    public String getField7() {
+        return this.field7;
+    }
+
+    public void setField7(String field7) {
+        this.field7 = field7;
+    }
+
+    public int getField8() {
+        return this.field8;
+    }
+
+    public void setField8(int field8) {
+        this.field8 = field8;
+    }
+
+    public long getField9() {
+        return this.field9;
+    }
+
+    public void setField9(long field9) {
+        this.field9 = field9;
+    }
+
+    public Integer getField10() {
+        return this.field10;
+    }
+
+    public void setField10(Integer field10) {
+        this.field10 = field10;
+    }
+
+    public double getField11() {
+        return this.field11;
+    }
+
+    public void setField11(double field11) {
+        this.field11 = field11;
+    }
+
+    public boolean isField12() {
+        return this.field12;
+    }
+
+    public void setField12(boolean field12) {
+        this.field12 = field12;
+    }
+
+    public Long getField13() {
+        return this.field13;
+    }
+
+    public void setField13(Long field13) {
+        this.field13 = field13;
+    }
+
+    public String getField14() {
+        return this.field14;
+    }
+
+    public void setField14(String field14) {
+        this.field14 = field14;
+    }
+
+    public int getField15() {
+        return this.field15;
+    }
+
+    public void setField15(int field15) {
+        this.field15 = field15;
+    }
+
+    public long getField16() {
+        return this.field16;
+    }
+
+    public void setField16(long field16) {
+        this.field16 = field16;
+    }
+
+    public Integer getField17() {
+        return this.field17;
+    }
+
+    public void setField17(Integer field17) {
+        this.field17 = field17;
+    }
+
+    public double getField18() {
+        return this.field18;
+    }
+
+    public void setField18(double field18) {
+        this.field18 = field18;
+    }
+
+    public boolean isField19() {
+        return this.field19;
+    }
+
+    public void setField19(boolean field19) {
+        this.field19 = field19;
+    }
+
+    public Long getField20() {
+        return this.field20;
+    }
+
+    public void setField20(Long field20) {
+        this.field20 = field20;
+    }
+
+    public String getField21() {
+        return this.field21;
+    }
+
+    public void setField21(String field21) {
+        this.field21 = field21;
+    }
+
+    public int getField22() {
+        return this.field22;
+    }
+
+    public void setField22(int field22) {
+        this.field22 = field22;
+    }
+
+    public long getField23() {
+        return this.field23;
+    }
+
+    public void setField23(long field23) {
+        this.field23 = field23;
+    }
+
+    public Integer getField24() {
+        return this.field24;
+    }
+
+    public void setField24(Integer field24) {
+        this.field24 = field24;
+    }
+
+    public double getField25() {
+        return this.field25;
+    }
+
+    public void setField25(double field25) {
+        this.field25 = field25;
+    }
+
+    public boolean isField26() {
+        return this.field26;
+    }
+
+    public void setField26(boolean field26) {
+        this.field26 = field26;
+    }
+
+    public Long getField27() {
+        return this.field27;
+    }
+
+    public void setField27(Long field27) {
+        this.field27 = field27;
+    }
+
+    public String getField28() {
+        return this.field28;
+    }
+
+    public void setField28(String field28) {
+        this.field28 = field28;
+    }
+
+    public int getField29() {
+        return this.field29;
+    }
+
+    public void setField29(int field29) {
+        this.field29 = field29;
+    }
+
+    public long getField30() {
+        return this.field30;
+    }
+
+    public void setField30(long field30) {
+        this.field30 = field30;
+    }
+
+    public Integer getField31() {
+        return this.field31;
+    }
+
+    public void setField31(Integer field31) {
+        this.field31 = field31;
+    }
+
+    public double getField32() {
+        return this.field32;
+    }
+
+    public void setField32(double field32) {
+        this.field32 = field32;
+    }
+
+    public boolean isField33() {
+        return this.field33;
+    }
+
+    public void setField33(boolean field33) {
+        this.field33 = field33;
+    }
+
+    public Long getField34() {
+        return this.field34;
+    }
+
+    public void setField34(Long field34) {
+        this.field34 = field34;
+    }
+
+    public String getField35() {
+        return this.field35;
+    }
+
+    public void setField35(String field35) {
+        this.field35 = field35;
+    }
+
+    public int getField36() {
+        return this.field36;
+    }
+
+    public void setField36(int field36) {
+        this.field36 = field36;
+    }
+
+    public long getField37() {
+        return this.field37;
+    }
+
+    public void setField37(long field37) {
+        this.field37 = field37;
+    }
+
+    public Integer getField38() {
+        return this.field38;
+    }
+
+    public void setField38(Integer field38) {
+        this.field38 = field38;
+    }
+
+    public double getField39() {
+        return this.field39;
+    }
+
+    public void setField39(double field39) {
+        this.field39 = field39;
+    }
+
+    public boolean isField40() {
+        return this.field40;
+    }
+
+    public void setField40(boolean field40) {
+        this.field40 = field40;
+    }
+
+    public Long getField41() {
+        return this.field41;
+    }
+
+    public void setField41(Long field41) {
+        this.field41 = field41;
+    }
+
+    public String getField42() {
+        return this.field42;
+    }
+
+    public void setField42(String field42) {
+        this.field42 = field42;
+    }
+
+    public int getField43() {
+        return this.field43;
+    }
+
+    public void setField43(int field43) {
+        this.field43 = field43;
+    }
+
+    public long getField44() {
+        return this.field44;
+    }
+
+    public void setField44(long field44) {
+        this.field44 = field44;
+    }
+
+    public Integer getField45() {
+        return this.field45;
+    }
+
+    public void setField45(Integer field45) {
+        this.field45 = field45;
+    }
+
+    public double getField46() {
+        return this.field46;
+    }
+
+    public void setField46(double field46) {
+        this.field46 = field46;
+    }
+
+    public boolean isField47() {
+        return this.field47;
+    }
+
+    public void setField47(boolean field47) {
+        this.field47 = field47;
+    }
+
+    public Long getField48() {
+        return this.field48;
+    }
+
+    public void setField48(Long field48) {
+        this.field48 = field48;
+    }
+
+    public String getField49() {
+        return this.field49;
+    }
+
+    public void setField49(String field49) {
+        this.field49 = field49;
+    }
+
+    public int getField50() {
+        return this.field50;
+    }
+
+    public void setField50(int field50) {
+        this.field50 = field50;
+    }
+
+    public long getField51() {
+        return this.field51;
+    }
+
+    public void setField51(long field51) {
+        this.field51 = field51;
+    }
+
+    public Integer getField52() {
+        return this.field52;
+    }
+
+    public void setField52(Integer field52) {
+        this.field52 = field52;
+    }
+
+    public double getField53() {
+        return this.field53;
+    }
+
+    public void setField53(double field53) {
+        this.field53 = field53;
+    }
+
+    public boolean isField54() {
+        return this.field54;
+    }
+
+    public void setField54(boolean field54) {
+        this.field54 = field54;
+    }
+
+    public Long getField55() {
+        return this.field55;
+    }
+
+    public void setField55(Long field55) {
+        this.field55 = field55;
+    }
+
+    public String getField56() {
+        return this.field56;
+    }
+
+    public void setField56(String field56) {
+        this.field56 = field56;
+    }
+
+    public int getField57() {
+        return this.field57;
+    }
+
+    public void setField57(int field57) {
+        this.field57 = field57;
+    }
+
+    public long getField58() {
+        return this.field58;
+    }
+
+    public void setField58(long field58) {
+        this.field58 = field58;
+    }
+
+    public Integer getField59() {
+        return this.field59;
+    }
+
+    public void setField59(Integer field59) {
+        this.field59 = field59;
+    }
+
+    public double getField60() {
+        return this.field60;
+    }
+
+    public void setField60(double field60) {
+        this.field60 = field60;
+    }
+
+    public boolean isField61() {
+        return this.field61;
+    }
+
+    public void setField61(boolean field61) {
+        this.field61 = field61;
+    }
+
+    public Long getField62() {
+        return this.field62;
+    }
+
+    public void setField62(Long field62) {
+        this.field62 = field62;
+    }
+
+    public String getField63() {
+        return this.field63;
+    }
+
+    public void setField63(String field63) {
+        this.field63 = field63;
+    }
+
+    public int getField64() {
+        return this.field64;
+    }
+
+    public void setField64(int field64) {
+        this.field64 = field64;
+    }
+
+    public long getField65() {
+        return this.field65;
+    }
+
+    public void setField65(long field65) {
+        this.field65 = field65;
+    }
+
+    public Integer getField66() {
+        return this.field66;
+    }
+
+    public void setField66(Integer field66) {
+        this.field66 = field66;
+    }
+
+    public double getField67() {
+        return this.field67;
+    }
+
+    public void setField67(double field67) {
+        this.field67 = field67;
+    }
+
+    public boolean isField68() {
+        return this.field68;
+    }
+
+    public void setField68(boolean field68) {
+        this.field68 = field68;
+    }
+
+    public Long getField69() {
+        return this.field69;
+    }
+
+    public void setField69(Long field69) {
+        this.field69 = field69;
+    }
+
+    public String getField70() {
+        return this.field70;
+    }
+
+    public void setField70(String field70) {
+        this.field70 = field70;
+    }
+
+    public int getField71() {
+        return this.field71;
+    }
+
+    public void setField71(int field71) {
+        this.field71 = field71;
+    }
+
+    public long getField72() {
+        return this.field72;
+    }
+
+    public void setField72(long field72) {
+        this.field72 = field72;
+    }
+
+    public Integer getField73() {
+        return this.field73;
+    }
+
+    public void setField73(Integer field73) {
+        this.field73 = field73;
+    }
+
+    public double getField74() {
+        return this.field74;
+    }
+
+    public void setField74(double field74) {
+        this.field74 = field74;
+    }
+
+    public boolean isField75() {
+        return this.field75;
+    }
+
+    public void setField75(boolean field75) {
+        this.field75 = field75;
+    }
+
+    public Long getField76() {
+        return this.field76;
+    }
+
+    public void setField76(Long field76) {
+        this.field76 = field76;
+    }
+
+    public String getField77() {
+        return this.field77;
+    }
+
+    public void setField77(String field77) {
+        this.field77 = field77;
+    }
+
+    public int getField78() {
+        return this.field78;
+    }
+
+    public void setField78(int field78) {
+        this.field78 = field78;
+    }
+
+    public long getField79() {
+        return this.field79;
+    }
+
+    public void setField79(long field79) {
+        this.field79 = field79;
+    }
+
+    public Integer getField80() {
+        return this.field80;
+    }
+
+    public void setField80(Integer field80) {
+        this.field80 = field80;
+    }
+
+    public double getField81() {
+        return this.field81;
+    }
+
+    public void setField81(double field81) {
+        this.field81 = field81;
+    }
+
+    public boolean isField82() {
+        return this.field82;
+    }
+
+    public void setField82(boolean field82) {
+        this.field82 = field82;
+    }
+
+    public Long getField83() {
+        return this.field83;
+    }
+
+    public void setField83(Long field83) {
+        this.field83 = field83;
+    }
+
+    public String getField84() {
+        return this.field84;
+    }
+
+    public void setField84(String field84) {
+        this.field84 = field84;
+    }
+
+    public int getField85() {
+        return this.field85;
+    }
+
+    public void setField85(int field85) {
+        this.field85 = field85;
+    }
+
+    public long getField86() {
+        return this.field86;
+    }
+
+    public void setField86(long field86) {
+        this.field86 = field86;
+    }
+
+    public Integer getField87() {
+        return this.field87;
+    }
+
+    public void setField87(Integer field87) {
+        this.field87 = field87;
+    }
+
+    public double getField88() {
+        return this.field88;
+    }
+
+    public void setField88(double field88) {
+        this.field88 = field88;
+    }
+
+    public boolean isField89() {
+        return this.field89;
+    }
+
+    public void setField89(boolean field89) {
+        this.field89 = field89;
+    }
+
+    public Long getField90() {
+        return this.field90;
+    }
+
+    public void setField90(Long field90) {
+        this.field90 = field90;
+    }
+
+    public String getField91() {
+        return this.field91;
+    }
+
+    public void setField91(String field91) {
+        this.field91 = field91;
+    }
+
+    public int getField92() {
+        return this.field92;
+    }
+
+    public void setField92(int field92) {
+        this.field92 = field92;
+    }
+
+    public long getField93() {
+        return this.field93;
+    }
+
+    public void setField93(long field93) {
+        this.field93 = field93;
+    }
+
+    public Integer getField94() {
+        return this.field94;
+    }
+
+    public void setField94(Integer field94) {
+        this.field94 = field94;
+    }
+
+    public double getField95() {
+        return this.field95;
+    }
+
+    public void setField95(double field95) {
+        this.field95 = field95;
+    }
+
+    public boolean isField96() {
+        return this.field96;
+    }
+
+    public void setField96(boolean field96) {
+        this.field96 = field96;
+    }
+
+    public Long getField97() {
+        return this.field97;
+    }
+
+    public void setField97(Long field97) {
+        this.field97 = field97;
+    }
+
+    public String getField98() {
+        return this.field98;
+    }
+
+    public void setField98(String field98) {
+        this.field98 = field98;
+    }
+
+    public int getField99() {
+        return this.field99;
+    }
+
+    public void setField99(int field99) {
+        this.field99 = field99;
+    }
+
+    public long getField100() {
+        return this.field100;
+    }
+
+    public void setField100(long field100) {
+        this.field100 = field100;
+    }
+
+    public Integer getField101() {
+        return this.field101;
+    }
+
+    public void setField101(Integer field101) {
+        this.field101 = field101;
+    }
+
+    public double getField102() {
+        return this.field102;
+    }
+
+    public void setField102(double field102) {
+        this.field102 = field102;
+    }
+
+    public boolean isField103() {
+        return this.field103;
+    }
+
+    public void setField103(boolean field103) {
+        this.field103 = field103;
+    }
+
+    public Long getField104() {
+        return this.field104;
+    }
+
+    public void setField104(Long field104) {
+        this.field104 = field104;
+    }
+
+    public String getField105() {
+        return this.field105;
+    }
+
+    public void setField105(String field105) {
+        this.field105 = field105;
+    }
+
+    public int getField106() {
+        return this.field106;
+    }
+
+    public void setField106(int field106) {
+        this.field106 = field106;
+    }
+
+    public long getField107() {
+        return this.field107;
+    }
+
+    public void setField107(long field107) {
+        this.field107 = field107;
+    }
+
+    public Integer getField108() {
+        return this.field108;
+    }
+
+    public void setField108(Integer field108) {
+        this.field108 = field108;
+    }
+
+    public double getField109() {
+        return this.field109;
+    }
+
+    public void setField109(double field109) {
+        this.field109 = field109;
+    }
+
+    public boolean isField110() {
+        return this.field110;
+    }
+
+    public void setField110(boolean field110) {
+        this.field110 = field110;
+    }
+
+    public Long getField111() {
+        return this.field111;
+    }
+
+    public void setField111(Long field111) {
+        this.field111 = field111;
+    }
+
+    public String getField112() {
+        return this.field112;
+    }
+
+    public void setField112(String field112) {
+        this.field112 = field112;
+    }
+
+    public int getField113() {
+        return this.field113;
+    }
+
+    public void setField113(int field113) {
+        this.field113 = field113;
+    }
+
+    public long getField114() {
+        return this.field114;
+    }
+
+    public void setField114(long field114) {
+        this.field114 = field114;
+    }
+
+    public Integer getField115() {
+        return this.field115;
+    }
+
+    public void setField115(Integer field115) {
+        this.field115 = field115;
+    }
+
+    public double getField116() {
+        return this.field116;
+    }
+
+    public void setField116(double field116) {
+        this.field116 = field116;
+    }
+
+    public boolean isField117() {
+        return this.field117;
+    }
+
+    public void setField117(boolean field117) {
+        this.field117 = field117;
+    }
+
+    public Long getField118() {
+        return this.field118;
+    }
+
+    public void setField118(Long field118) {
+        this.field118 = field118;
+    }
+
+    public String getField119() {
+        return this.field119;
+    }
+
+    public void setField119(String field119) {
+        this.field119 = field119;
+    }
+
+    public int getField120() {
+        return this.field120;
+    }
+
+    public void setField120(int field120) {
+        this.field120 = field120;
+    }
+
+    public long getField121() {
+        return this.field121;
+    }
+
+    public void setField121(long field121) {
+        this.field121 = field121;
+    }
+
+    public Integer getField122() {
+        return this.field122;
+    }
+
+    public void setField122(Integer field122) {
+        this.field122 = field122;
+    }
+
+    public double getField123() {
+        return this.field123;
+    }
+
+    public void setField123(double field123) {
+        this.field123 = field123;
+    }
+
+    public boolean isField124() {
+        return this.field124;
+    }
+
+    public void setField124(boolean field124) {
+        this.field124 = field124;
+    }
+
+    public Long getField125() {
+        return this.field125;
+    }
+
+    public void setField125(Long field125) {
+        this.field125 = field125;
+    }
+
+    public String getField126() {
+        return this.field126;
+    }
+
+    public void setField126(String field126) {
+        this.field126 = field126;
+    }
+
+    public int getField127() {
+        return this.field127;
+    }
+
+    public void setField127(int field127) {
+        this.field127 = field127;
+    }
+
+    public long getField128() {
+        return this.field128;
+    }
+
+    public void setField128(long field128) {
+        this.field128 = field128;
+    }
+
+    public Integer getField129() {
+        return this.field129;
+    }
+
+    public void setField129(Integer field129) {
+        this.field129 = field129;
+    }
+
+    public double getField130() {
+        return this.field130;
+    }
+
+    public void setField130(double field130) {
+        this.field130 = field130;
+    }
+
+    public boolean isField131() {
+        return this.field131;
+    }
+
+    public void setField131(boolean field131) {
+        this.field131 = field131;
+    }
+
+    public Long getField132() {
+        return this.field132;
+    }
+
+    public void setField132(Long field132) {
+        this.field132 = field132;
+    }
+
+    public String getField133() {
+        return this.field133;
+    }
+
+    public void setField133(String field133) {
+        this.field133 = field133;
+    }
+
+    public int getField134() {
+        return this.field134;
+    }
+
+    public void setField134(int field134) {
+        this.field134 = field134;
+    }
+
+    public long getField135() {
+        return this.field135;
+    }
+
+    public void setField135(long field135) {
+        this.field135 = field135;
+    }
+
+    public Integer getField136() {
+        return this.field136;
+    }
+
+    public void setField136(Integer field136) {
+        this.field136 = field136;
+    }
+
+    public double getField137() {
+        return this.field137;
+    }
+
+    public void setField137(double field137) {
+        this.field137 = field137;
+    }
+
+    public boolean isField138() {
+        return this.field138;
+    }
+
+    public void setField138(boolean field138) {
+        this.field138 = field138;
+    }
+
+    public Long getField139() {
+        return this.field139;
+    }
+
+    public void setField139(Long field139) {
+        this.field139 = field139;
+    }
+
+    public String getField140() {
+        return this.field140;
+    }
+
+    public void setField140(String field140) {
+        this.field140 = field140;
+    }
+
+    public int getField141() {
+        return this.field141;
+    }
+
+    public void setField141(int field141) {
+        this.field141 = field141;
+    }
+
+    public long getField142() {
+        return this.field142;
+    }
+
+    public void setField142(long field142) {
+        this.field142 = field142;
+    }
+
+    public Integer getField143() {
+        return this.field143;
+    }
+
+    public void setField143(Integer field143) {
+        this.field143 = field143;
+    }
+
+    public double getField144() {
+        return this.field144;
+    }
+
+    public void setField144(double field144) {
+        this.field144 = field144;
+    }
+
+    public boolean isField145() {
+        return this.field145;
+    }
+
+    public void setField145(boolean field145) {
+        this.field145 = field145;
+    }
+
+    public Long getField146() {
+        return this.field146;
+    }
+
+    public void setField146(Long field146) {
+        this.field146 = field146;
+    }
+
+    public String getField147() {
+        return this.field147;
+    }
+
+    public void setField147(String field147) {
+        this.field147 = field147;
+    }
+
+    public int getField148() {
+        return this.field148;
+    }
+
+    public void setField148(int field148) {
+        this.field148 = field148;
+    }
+
+    public long getField149() {
+        return this.field149;
+    }
+
+    public void setField149(long field149) {
+        this.field149 = field149;
+    }
+
+    public Integer getField150() {
+        return this.field150;
+    }
+
+    public void setField150(Integer field150) {
+        this.field150 = field150;
+    }
+
+    public double getField151() {
+        return this.field151;
+    }
+
+    public void setField151(double field151) {
+        this.field151 = field151;
+    }
+
+    public boolean isField152() {
+        return this.field152;
+    }
+
+    public void setField152(boolean field152) {
+        this.field152 = field152;
+    }
+
+    public Long getField153() {
+        return this.field153;
+    }
+
+    public void setField153(Long field153) {
+        this.field153 = field153;
+    }
+
+    public String getField154() {
+        return this.field154;
+    }
+
+    public void setField154(String field154) {
+        this.field154 = field154;
+    }
+
+    public int getField155() {
+        return this.field155;
+    }
+
+    public void setField155(int field155) {
+        this.field155 = field155;
+    }
+
+    public long getField156() {
+        return this.field156;
+    }
+
+    public void setField156(long field156) {
+        this.field156 = field156;
+    }
+
+    public Integer getField157() {
+        return this.field157;
+    }
+
+    public void setField157(Integer field157) {
+        this.field157 = field157;
+    }
+
+    public double getField158() {
+        return this.field158;
+    }
+
+    public void setField158(double field158) {
+        this.field158 = field158;
+    }
+
+    public boolean isField159() {
+        return this.field159;
+    }
+
+    public void setField159(boolean field159) {
+        this.field159 = field159;
+    }
+
+    public Long getField160() {
+        return this.field160;
+    }
+
+    public void setField160(Long field160) {
+        this.field160 = field160;
+    }
+
+    public String getField161() {
+        return this.field161;
+    }
+
+    public void setField161(String field161) {
+        this.field161 = field161;
+    }
+
+    public int getField162() {
+        return this.field162;
+    }
+
+    public void setField162(int field162) {
+        this.field162 = field162;
+    }
+
+    public long getField163() {
+        return this.field163;
+    }
+
+    public void setField163(long field163) {
+        this.field163 = field163;
+    }
+
+    public Integer getField164() {
+        return this.field164;
+    }
+
+    public void setField164(Integer field164) {
+        this.field164 = field164;
+    }
+
+    public double getField165() {
+        return this.field165;
+    }
+
+    public void setField165(double field165) {
+        this.field165 = field165;
+    }
+
+    public boolean isField166() {
+        return this.field166;
+    }
+
+    public void setField166(boolean field166) {
+        this.field166 = field166;
+    }
+
+    public Long getField167() {
+        return this.field167;
+    }
+
+    public void setField167(Long field167) {
+        this.field167 = field167;
+    }
+
+    public String getField168() {
+        return this.field168;
+    }
+
+    public void setField168(String field168) {
+        this.field168 = field168;
+    }
+
+    public int getField169() {
+        return this.field169;
+    }
+
+    public void setField169(int field169) {
+        this.field169 = field169;
+    }
+
+    public long getField170() {
+        return this.field170;
+    }
+
+    public void setField170(long field170) {
+        this.field170 = field170;
+    }
+
+    public Integer getField171() {
+        return this.field171;
+    }
+
+    public void setField171(Integer field171) {
+        this.field171 = field171;
+    }
+
+    public double getField172() {
+        return this.field172;
+    }
+
+    public void setField172(double field172) {
+        this.field172 = field172;
+    }
+
+    public boolean isField173() {
+        return this.field173;
+    }
+
+    public void setField173(boolean field173) {
+        this.field173 = field173;
+    }
+
+    public Long getField174() {
+        return this.field174;
+    }
+
+    public void setField174(Long field174) {
+        this.field174 = field174;
+    }
+
+    public String getField175() {
+        return this.field175;
+    }
+
+    public void setField175(String field175) {
+        this.field175 = field175;
+    }
+
+    public int getField176() {
+        return this.field176;
+    }
+
+    public void setField176(int field176) {
+        this.field176 = field176;
+    }
+
+    public long getField177() {
+        return this.field177;
+    }
+
+    public void setField177(long field177) {
+        this.field177 = field177;
+    }
+
+    public Integer getField178() {
+        return this.field178;
+    }
+
+    public void setField178(Integer field178) {
+        this.field178 = field178;
+    }
+
+    public double getField179() {
+        return this.field179;
+    }
+
+    public void setField179(double field179) {
+        this.field179 = field179;
+    }
+
+    public boolean isField180() {
+        return this.field180;
+    }
+
+    public void setField180(boolean field180) {
+        this.field180 = field180;
+    }
+
+    public Long getField181() {
+        return this.field181;
+    }
+
+    public void setField181(Long field181) {
+        this.field181 = field181;
+    }
+
+    public String getField182() {
+        return this.field182;
+    }
+
+    public void setField182(String field182) {
+        this.field182 = field182;
+    }
+
+    public int getField183() {
+        return this.field183;
+    }
+
+    public void setField183(int field183) {
+        this.field183 = field183;
+    }
+
+    public long getField184() {
+        return this.field184;
+    }
+
+    public void setField184(long field184) {
+        this.field184 = field184;
+    }
+
+    public Integer getField185() {
+        return this.field185;
+    }
+
+    public void setField185(Integer field185) {
+        this.field185 = field185;
+    }
+
+    public double getField186() {
+        return this.field186;
+    }
+
+    public void setField186(double field186) {
+        this.field186 = field186;
+    }
+
+    public boolean isField187() {
+        return this.field187;
+    }
+
+    public void setField187(boolean field187) {
+        this.field187 = field187;
+    }
+
+    public Long getField188() {
+        return this.field188;
+    }
+
+    public void setField188(Long field188) {
+        this.field188 = field188;
+    }
+
+    public String getField189() {
+        return this.field189;
+    }
+
+    public void setField189(String field189) {
+        this.field189 = field189;
+    }
+
+    public int getField190() {
+        return this.field190;
+    }
+
+    public void setField190(int field190) {
+        this.field190 = field190;
+    }
+
+    public long getField191() {
+        return this.field191;
+    }
+
+    public void setField191(long field191) {
+        this.field191 = field191;
+    }
+
+    public Integer getField192() {
+        return this.field192;
+    }
+
+    public void setField192(Integer field192) {
+        this.field192 = field192;
+    }
+
+    public double getField193() {
+        return this.field193;
+    }
+
+    public void setField193(double field193) {
+        this.field193 = field193;
+    }
+
+    public boolean isField194() {
+        return this.field194;
+    }
+
+    public void setField194(boolean field194) {
+        this.field194 = field194;
+    }
+
+    public Long getField195() {
+        return this.field195;
+    }
+
+    public void setField195(Long field195) {
+        this.field195 = field195;
+    }
+
+    public String getField196() {
+        return this.field196;
+    }
+
+    public void setField196(String field196) {
+        this.field196 = field196;
+    }
+
+    public int getField197() {
+        return this.field197;
+    }
+
+    public void setField197(int field197) {
+        this.field197 = field197;
+    }
+
+    public long getField198() {
+        return this.field198;
+    }
+
+    public void setField198(long field198) {
+        this.field198 = field198;
+    }
+
+    public Integer getField199() {
+        return this.field199;
+    }
+
+    public void setField199(Integer field199) {
+        this.field199 = field199;
+    }
+}
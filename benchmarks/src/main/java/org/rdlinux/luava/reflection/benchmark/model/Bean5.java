@@ -0,0 +1,69 @@
+package org.rdlinux.luava.reflection.benchmark.model;
+
+/**
+ * 5个属性的bean
+ */
+public class Bean5 {
+    private String field0;
+    private int field1;
+    private long field2;
+    private Integer field3;
+    private double field4;
+
+    /**
+     * 创建所有属性都有值的实例
+     */
+    public static Bean5 sample() {
+        Bean5 bean = new Bean5();
+        bean.fill();
+        return bean;
+    }
+
+    protected void fill() {
+        this.field0 = "v0";
+        this.field1 = 1;
+        this.field2 = 2L;
+        this.field3 = 3;
+        this.field4 = 4.5;
+    }
+
+    public String getField0() {
+        return this.field0;
+    }
+
+    public void setField0(String field0) {
+        this.field0 = field0;
+    }
+
+    public int getField1() {
+        return this.field1;
+    }
+
+    public void setField1(int field1) {
+        this.field1 = field1;
+    }
+
+    public long getField2() {
+        return this.field2;
+    }
+
+    public void setField2(long field2) {
+        this.field2 = field2;
+    }
+
+    public Integer getField3() {
+        return this.field3;
+    }
+
+    public void setField3(Integer field3) {
+        this.field3 = field3;
+    }
+
+    public double getField4() {
+        return this.field4;
+    }
+
+    public void setField4(double field4) {
+        this.field4 = field4;
+    }
+}
@@ -0,0 +1,519 @@
+package org.rdlinux.luava.reflection.benchmark.model;
+
+/**
+ * 50个属性的bean
+ */
+public class Bean50 {
+    private String field0;
+    private int field1;
+    private long field2;
+    private Integer field3;
+    private double field4;
+    private boolean field5;
+    private Long field6;
+    private String field7;
+    private int field8;
+    private long field9;
+    private Integer field10;
+    private double field11;
+    private boolean field12;
+    private Long field13;
+    private String field14;
+    private int field15;
+    private long field16;
+    private Integer field17;
+    private double field18;
+    private boolean field19;
+    private Long field20;
+    private String field21;
+    private int field22;
+    private long field23;
+    private Integer field24;
+    private double field25;
+    private boolean field26;
+    private Long field27;
+    private String field28;
+    private int field29;
+    private long field30;
+    private Integer field31;
+    private double field32;
+    private boolean field33;
+    private Long field34;
+    private String field35;
+    private int field36;
+    private long field37;
+    private Integer field38;
+    private double field39;
+    private boolean field40;
+    private Long field41;
+    private String field42;
+    private int field43;
+    private long field44;
+    private Integer field45;
+    private double field46;
+    private boolean field47;
+    private Long field48;
+    private String field49;
+
+    /**
+     * 创建所有属性都有值的实例
+     */
+    public static Bean50 sample() {
+        Bean50 bean = new Bean50();
+        bean.fill();
+        return bean;
+    }
+
+    protected void fill() {
+        this.field0 = "v0";
+        this.field1 = 1;
+        this.field2 = 2L;
+        this.field3 = 3;
+        this.field4 = 4.5;
+        this.field5 = false;
+        this.field6 = 6L;
+        this.field7 = "v7";
+        this.field8 = 8;
+        this.field9 = 9L;
+        this.field10 = 10;
+        this.field11 = 11.5;
+        this.field12 = true;
+        this.field13 = 13L;
+        this.field14 = "v14";
+        this.field15 = 15;
+        this.field16 = 16L;
+        this.field17 = 17;
+        this.field18 = 18.5;
+        this.field19 = false;
+        this.field20 = 20L;
+        this.field21 = "v21";
+        this.field22 = 22;
+        this.field23 = 23L;
+        this.field24 = 24;
+        this.field25 = 25.5;
+        this.field26 = true;
+        this.field27 = 27L;
+        this.field28 = "v28";
+        this.field29 = 29;
+        this.field30 = 30L;
+        this.field31 = 31;
+        this.field32 = 32.5;
+        this.field33 = false;
+        this.field34 = 34L;
+        this.field35 = "v35";
+        this.field36 = 36;
+        this.field37 = 37L;
+        this.field38 = 38;
+        this.field39 = 39.5;
+        this.field40 = true;
+        this.field41 = 41L;
+        this.field42 = "v42";
+        this.field43 = 43;
+        this.field44 = 44L;
+        this.field45 = 45;
+        this.field46 = 46.5;
+        this.field47 = false;
+        this.field48 = 48L;
+        this.field49 = "v49";
+    }
+
+    public String getField0() {
+        return this.field0;
+    }
+
+    public void setField0(String field0) {
+        this.field0 = field0;
+    }
+
+    public int getField1() {
+        return this.field1;
+    }
+
+    public void setField1(int field1) {
+        this.field1 = field1;
+    }
+
+    public long getField2() {
+        return this.field2;
+    }
+
+    public void setField2(long field2) {
+        this.field2 = field2;
+    }
+
+    public Integer getField3() {
+        return this.field3;
+    }
+
+    public void setField3(Integer field3) {
+        this.field3 = field3;
+    }
+
+    public double getField4() {
+        return this.field4;
+    }
+
+    public void setField4(double field4) {
+        this.field4 = field4;
+    }
+
+    public boolean isField5() {
+        return this.field5;
+    }
+
+    public void setField5(boolean field5) {
+        this.field5 = field5;
+    }
+
+    public Long getField6() {
+        return this.field6;
+    }
+
+    public void setField6(Long field6) {
+        this.field6 = field6;
+    }
+
+    public String getField7() {
+        return this.field7;
+    }
+
+    public void setField7(String field7) {
+        this.field7 = field7;
+    }
+
+    public int getField8() {
+        return this.field8;
+    }
+
+    public void setField8(int field8) {
+        this.field8 = field8;
+    }
+
+    public long getField9() {
+        return this.field9;
+    }
+
+    public void setField9(long field9) {
+        this.field9 = field9;
+    }
+
+    public Integer getField10() {
+        return this.field10;
+    }
+
+    public void setField10(Integer field10) {
+        this.field10 = field10;
+    }
+
+    public double getField11() {
+        return this.field11;
+    }
+
+    public void setField11(double field11) {
+        this.field11 = field11;
+    }
+
+    public boolean isField12() {
+        return this.field12;
+    }
+
+    public void setField12(boolean field12) {
+        this.field12 = field12;
+    }
+
+    public Long getField13() {
+        return this.field13;
+    }
+
+    public void setField13(Long field13) {
+        this.field13 = field13;
+    }
+
+    public String getField14() {
+        return this.field14;
+    }
+
+    public void setField14(String field14) {
+        this.field14 = field14;
+    }
+
+    public int getField15() {
+        return this.field15;
+    }
+
+    public void setField15(int field15) {
+        this.field15 = field15;
+    }
+
+    public long getField16() {
+        return this.field16;
+    }
+
+    public void setField16(long field16) {
+        this.field16 = field16;
+    }
+
+    public Integer getField17() {
+        return this.field17;
+    }
+
+    public void setField17(Integer field17) {
+        this.field17 = field17;
+    }
+
+    public double getField18() {
+        return this.field18;
+    }
+
+    public void setField18(double field18) {
+        this.field18 = field18;
+    }
+
+    public boolean isField19() {
+        return this.field19;
+    }
+
+    public void setField19(boolean field19) {
+        this.field19 = field19;
+    }
+
+    public Long getField20() {
+        return this.field20;
+    }
+
+    public void setField20(Long field20) {
+        this.field20 = field20;
+    }
+
+    public String getField21() {
+        return this.field21;
+    }
+
+    public void setField21(String field21) {
+        this.field21 = field21;
+    }
+
+    public int getField22() {
+        return this.field22;
+    }
+
+    public void setField22(int field22) {
+        this.field22 = field22;
+    }
+
+    public long getField23() {
+        return this.field23;
+    }
+
+    public void setField23(long field23) {
+        this.field23 = field23;
+    }
+
+    public Integer getField24() {
+        return this.field24;
+    }
+
+    public void setField24(Integer field24) {
+        this.field24 = field24;
+    }
+
+    public double getField25() {
+        return this.field25;
+    }
+
+    public void setField25(double field25) {
+        this.field25 = field25;
+    }
+
+    public boolean isField26() {
+        return this.field26;
+    }
+
+    public void setField26(boolean field26) {
+        this.field26 = field26;
+    }
+
+    public Long getField27() {
+        return this.field27;
+    }
+
+    public void setField27(Long field27) {
+        this.field27 = field27;
+    }
+
+    public String getField28() {
+        return this.field28;
+    }
+
+    public void setField28(String field28) {
+        this.field28 = field28;
+    }
+
+    public int getField29() {
+        return this.field29;
+    }
+
+    public void setField29(int field29) {
+        this.field29 = field29;
+    }
+
+    public long getField30() {
+        return this.field30;
+    }
+
+    public void setField30(long field30) {
+        this.field30 = field30;
+    }
+
+    public Integer getField31() {
+        return this.field31;
+    }
+
+    public void setField31(Integer field31) {
+        this.field31 = field31;
+    }
+
+    public double getField32() {
+        return this.field32;
+    }
+
+    public void setField32(double field32) {
+        this.field32 = field32;
+    }
+
+    public boolean isField33() {
+        return this.field33;
+    }
+
+    public void setField33(boolean field33) {
+        this.field33 = field33;
+    }
+
+    public Long getField34() {
+        return this.field34;
+    }
+
+    public void setField34(Long field34) {
+        this.field34 = field34;
+    }
+
+    public String getField35() {
+        return this.field35;
+    }
+
+    public void setField35(String field35) {
+        this.field35 = field35;
+    }
+
+    public int getField36() {
+        return this.field36;
+    }
+
+    public void setField36(int field36) {
+        this.field36 = field36;
+    }
+
+    public long getField37() {
+        return this.field37;
+    }
+
+    public void setField37(long field37) {
+        this.field37 = field37;
+    }
+
+    public Integer getField38() {
+        return this.field38;
+    }
+
+    public void setField38(Integer field38) {
+        this.field38 = field38;
+    }
+
+    public double getField39() {
+        return this.field39;
+    }
+
+    public void setField39(double field39) {
+        this.field39 = field39;
+    }
+
+    public boolean isField40() {
+        return this.field40;
+    }
+
+    public void setField40(boolean field40) {
+        this.field40 = field40;
+    }
+
+    public Long getField41() {
+        return this.field41;
+    }
+
+    public void setField41(Long field41) {
+        this.field41 = field41;
+    }
+
+    public String getField42() {
+        return this.field42;
+    }
+
+    public void setField42(String field42) {
+        this.field42 = field42;
+    }
+
+    public int getField43() {
+        return this.field43;
+    }
+
+    public void setField43(int field43) {
+        this.field43 = field43;
+    }
+
+    public long getField44() {
+        return this.field44;
+    }
+
+    public void setField44(long field44) {
+        this.field44 = field44;
+    }
+
+    public Integer getField45() {
+        return this.field45;
+    }
+
+    public void setField45(Integer field45) {
+        this.field45 = field45;
+    }
+
+    public double getField46() {
+        return this.field46;
+    }
+
+    public void setField46(double field46) {
+        this.field46 = field46;
+    }
+
+    public boolean isField47() {
+        return this.field47;
+    }
+
+    public void setField47(boolean field47) {
+        this.field47 = field47;
+    }
+
+    public Long getField48() {
+        return this.field48;
+    }
+
+    public void setField48(Long field48) {
+        this.field48 = field48;
+    }
+
+    public String getField49() {
+        return this.field49;
+    }
+
+    public void setField49(String field49) {
+        this.field49 = field49;
+    }
+}
@@ -0,0 +1,840 @@
+package org.rdlinux.luava.reflection.benchmark.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 手写的拷贝和转换代码，作为基准对照
+ */
+public final class HandWritten {
+    private HandWritten() {
+    }
+
+    public static void copy(Bean5 source, Bean5 target) {
+        target.setField0(source.getField0());
+        target.setField1(source.getField1());
+        target.setField2(source.getField2());
+        target.setField3(source.getField3());
+        target.setField4(source.getField4());
+    }
+
+    public static Map<String, Object> toMap(Bean5 source) {
+        Map<String, Object> result = new HashMap<>();
+        if (source.getField0() != null) {
+            result.put("field0", source.getField0());
+        }
+        result.put("field1", source.getField1());
+        result.put("field2", source.getField2());
+        if (source.getField3() != null) {
+            result.put("field3", source.getField3());
+        }
+        result.put("field4", source.getField4());
+        return result;
+    }
+
+    public static void copy(Bean50 source, Bean50 target) {
+        target.setField0(source.getField0());
+        target.setField1(source.getField1());
+        target.setField2(source.getField2());
+        target.setField3(source.getField3());
+        target.setField4(source.getField4());
+        target.setField5(source.isField5());
+        target.setField6(source.getField6());
+        target.setField7(source.getField7());
+        target.setField8(source.getField8());
+        target.setField9(source.getField9());
+        target.setField10(source.getField10());
+        target.setField11(source.getField11());
+        target.setField12(source.isField12());
+        target.setField13(source.getField13());
+        target.setField14(source.getField14());
+        target.setField15(source.getField15());
+        target.setField16(source.getField16());
+        target.setField17(source.getField17());
+        target.setField18(source.getField18());
+        target.setField19(source.isField19());
+        target.setField20(source.getField20());
+        target.setField21(source.getField21());
+        target.setField22(source.getField22());
+        target.setField23(source.getField23());
+        target.setField24(source.getField24());
+        target.setField25(source.getField25());
+        target.setField26(source.isField26());
+        target.setField27(source.getField27());
+        target.setField28(source.getField28());
+        target.setField29(source.getField29());
+        target.setField30(source.getField30());
+        target.setField31(source.getField31());
+        target.setField32(source.getField32());
+        target.setField33(source.isField33());
+        target.setField34(source.getField34());
+        target.setField35(source.getField35());
+        target.setField36(source.getField36());
+        target.setField37(source.getField37());
+        target.setField38(source.getField38());
+        target.setField39(source.getField39());
+        target.setField40(source.isField40());
+        target.setField41(source.getField41());
+        target.setField42(source.getField42());
+        target.setField43(source.getField43());
+        target.setField44(source.getField44());
+        target.setField45(source.getField45());
+        target.setField46(source.getField46());
+        target.setField47(source.isField47());
+        target.setField48(source.getField48());
+        target.setField49(source.getField49());
+    }
+
+    public static Map<String, Object> toMap(Bean50 source) {
+        Map<String, Object> result = new HashMap<>();
+        if (source.getField0() != null) {
+            result.put("field0", source.getField0());
+        }
+        result.put("field1", source.getField1());
+        result.put("field2", source.getField2());
+        if (source.getField3() != null) {
+            result.put("field3", source.getField3());
+        }
+        result.put("field4", source.getField4());
+        result.put("field5", source.isField5());
+        if (source.getField6() != null) {
+            result.put("field6", source.getField6());
+        }
+        if (source.getField7() != null) {
+            result.put("field7", source.getField7());
+        }
+        result.put("field8", source.getField8());
+        result.put("field9", source.getField9());
+        if (source.getField10() != null) {
+            result.put("field10", source.getField10());
+        }
+        result.put("field11", source.getField11());
+        result.put("field12", source.isField12());
+        if (source.getField13() != null) {
+            result.put("field13", source.getField13());
+        }
+        if (source.getField14() != null) {
+            result.put("field14", source.getField14());
+        }
+        result.put("field15", source.getField15());
+        result.put("field16", source.getField16());
+        if (source.getField17() != null) {
+            result.put("field17", source.getField17());
+        }
+        result.put("field18", source.getField18());
+        result.put("field19", source.isField19());
+        if (source.getField20() != null) {
+            result.put("field20", source.getField20());
+        }
+        if (source.getField21() != null) {
+            result.put("field21", source.getField21());
+        }
+        result.put("field22", source.getField22());
+        result.put("field23", source.getField23());
+        if (source.getField24() != null) {
+            result.put("field24", source.getField24());
+        }
+        result.put("field25", source.getField25());
+        result.put("field26", source.isField26());
+        if (source.getField27() != null) {
+            result.put("field27", source.getField27());
+        }
+        if (source.getField28() != null) {
+            result.put("field28", source.getField28());
+        }
+        result.put("field29", source.getField29());
+        result.put("field30", source.getField30());
+        if (source.getField31() != null) {
+            result.put("field31", source.getField31());
+        }
+        result.put("field32", source.getField32());
+        result.put("field33", source.isField33());
+        if (source.getField34() != null) {
+            result.put("field34", source.getField34());
+        }
+        if (source.getField35() != null) {
+            result.put("field35", source.getField35());
+        }
+        result.put("field36", source.getField36());
+        result.put("field37", source.getField37());
+        if (source.getField38() != null) {
+            result.put("field38", source.getField38());
+        }
+        result.put("field39", source.getField39());
+        result.put("field40", source.isField40());
+        if (source.getField41() != null) {
+            result.put("field41", source.getField41());
+        }
+        if (source.getField42() != null) {
+            result.put("field42", source.getField42());
+        }
+        result.put("field43", source.getField43());
+        result.put("field44", source.getField44());
+        if (source.getField45() != null) {
+            result.put("field45", source.getField45());
+        }
+        result.put("field46", source.getField46());
+        result.put("field47", source.isField47());
+        if (source.getField48() != null) {
+            result.put("field48", source.getField48());
+        }
+        if (source.getField49() != null) {
+            result.put("field49", source.getField49());
+        }
+        return result;
+    }
+
+    public static void copy(Bean200 source, Bean200 target) {
+        target.setField0(source.getField0());
+        target.setField1(source.getField1());
+        target.setField2(source.getField2());
+        target.setField3(source.getField3());
+        target.setField4(source.getField4());
+        target.setField5(source.isField5());
+        target.setField6(source.getField6());
+        target.setField7(source.getField7());
+        target.setField8(source.getField8());
+        target.setField9(source.getField9());
+        target.setField10(source.getField10());
+        target.setField11(source.getField11());
+        target.setField12(source.isField12());
+        target.setField13(source.getField13());
+        target.setField14(source.getField14());
+        target.setField15(source.getField15());
+        target.setField16(source.getField16());
+        target.setField17(source.getField17());
+        target.setField18(source.getField18());
+        target.setField19(source.isField19());
+        target.setField20(source.getField20());
+        target.setField21(source.getField21());
+        target.setField22(source.getField22());
+        target.setField23(source.getField23());
+        target.setField24(source.getField24());
+        target.setField25(source.getField25());
+        target.setField26(source.isField26());
+        target.setField27(source.getField27());
+        target.setField28(source.getField28());
+        target.setField29(source.getField29());
+        target.setField30(source.getField30());
+        target.setField31(source.getField31());
+        target.setField32(source.getField32());
+        target.setField33(source.isField33());
+        target.setField34(source.getField34());
+        target.setField35(source.getField35());
+        target.setField36(source.getField36());
+        target.setField37(source.getField37());
+        target.setField38(source.getField38());
+        target.setField39(source.getField39());
+        target.setField40(source.isField40());
+        target.setField41(source.getField41());
+        target.setField42(source.getField42());
+        target.setField43(source.getField43());
+        target.setField44(source.getField44());
+        target.setField45(source.getField45());
+        target.setField46(source.getField46());
+        target.setField47(source.isField47());
+        target.setField48(source.getField48());
+        target.setField49(source.getField49());
+        target.setField50(source.getField50());
+        target.setField51(source.getField51());
+        target.setField52(source.getField52());
+        target.setField53(source.getField53());
+        target.setField54(source.isField54());
+        target.setField55(source.getField55());
+        target.setField56(source.getField56());
+        target.setField57(source.getField57());
+        target.setField58(source.getField58());
+        target.setField59(source.getField59());
+        target.setField60(source.getField60());
+        target.setField61(source.isField61());
+        target.setField62(source.getField62());
+        target.setField63(source.getField63());
+        target.setField64(source.getField64());
+        target.setField65(source.getField65());
+        target.setField66(source.getField66());
+        target.setField67(source.getField67());
+        target.setField68(source.isField68());
+        target.setField69(source.getField69());
+        target.setField70(source.getField70());
+        target.setField71(source.getField71());
+        target.setField72(source.getField72());
+        target.setField73(source.getField73());
+        target.setField74(source.getField74());
+        target.setField75(source.isField75());
+        target.setField76(source.getField76());
+        target.setField77(source.getField77());
+        target.setField78(source.getField78());
+        target.setField79(source.getField79());
+        target.setField80(source.getField80());
+        target.setField81(source.getField81());
+        target.setField82(source.isField82());
+        target.setField83(source.getField83());
+        target.setField84(source.getField84());
+        target.setField85(source.getField85());
+        target.setField86(source.getField86());
+        target.setField87(source.getField87());
+        target.setField88(source.getField88());
+        target.setField89(source.isField89());
+        target.setField90(source.getField90());
+        target.setField91(source.getField91());
+        target.setField92(source.getField92());
+        target.setField93(source.getField93());
+        target.setField94(source.getField94());
+        target.setField95(source.getField95());
+        target.setField96(source.isField96());
+        target.setField97(source.getField97());
+        target.setField98(source.getField98());
+        target.setField99(source.getField99());
+        target.setField100(source.getField100());
+        target.setField101(source.getField101());
+        target.setField102(source.getField102());
+        target.setField103(source.isField103());
+        target.setField104(source.getField104());
+        target.setField105(source.getField105());
+        target.setField106(source.getField106());
+        target.setField107(source.getField107());
+        target.setField108(source.getField108());
+        target.setField109(source.getField109());
+        target.setField110(source.isField110());
+        target.setField111(source.getField111());
+        target.setField112(source.getField112());
+        target.setField113(source.getField113());
+        target.setField114(source.getField114());
+        target.setField115(source.getField115());
+        target.setField116(source.getField116());
+        target.setField117(source.isField117());
+        target.setField118(source.getField118());
+        target.setField119(source.getField119());
+        target.setField120(source.getField120());
+        target.setField121(source.getField121());
+        target.setField122(source.getField122());
+        target.setField123(source.getField123());
+        target.setField124(source.isField124());
+        target.setField125(source.getField125());
+        target.setField126(source.getField126());
+        target.setField127(source.getField127());
+        target.setField128(source.getField128());
+        target.setField129(source.getField129());
+        target.setField130(source.getField130());
+        target.setField131(source.isField131());
+        target.setField132(source.getField132());
+        target.setField133(source.getField133());
+        target.setField134(source.getField134());
+        target.setField135(source.getField135());
+        target.setField136(source.getField136());
+        target.setField137(source.getField137());
+        target.setField138(source.isField138());
+        target.setField139(source.getField139());
+        target.setField140(source.getField140());
+        target.setField141(source.getField141());
+        target.setField142(source.getField142());
+        target.setField143(source.getField143());
+        target.setField144(source.getField144());
+        target.setField145(source.isField145());
+        target.setField146(source.getField146());
+        target.setField147(source.getField147());
+        target.setField148(source.getField148());
+        target.setField149(source.getField149());
+        target.setField150(source.getField150());
+        target.setField151(source.getField151());
+        target.setField152(source.isField152());
+        target.setField153(source.getField153());
+        target.setField154(source.getField154());
+        target.setField155(source.getField155());
+        target.setField156(source.getField156());
+        target.setField157(source.getField157());
+        target.setField158(source.getField158());
+        target.setField159(source.isField159());
+        target.setField160(source.getField160());
+        target.setField161(source.getField161());
+        target.setField162(source.getField162());
+        target.setField163(source.getField163());
+        target.setField164(source.getField164());
+        target.setField165(source.getField165());
+        target.setField166(source.isField166());
+        target.setField167(source.getField167());
+        target.setField168(source.getField168());
+        target.setField169(source.getField169());
+        target.setField170(source.getField170());
+        target.setField171(source.getField171());
+        target.setField172(source.getField172());
+        target.setField173(source.isField173());
+        target.setField174(source.getField174());
+        target.setField175(source.getField175());
+        target.setField176(source.getField176());
+        target.setField177(source.getField177());
+        target.setField178(source.getField178());
+        target.setField179(source.getField179());
+        target.setField180(source.isField180());
+        target.setField181(source.getField181());
+        target.setField182(source.getField182());
+        target.setField183(source.getField183());
+        target.setField184(source.getField184());
+        target.setField185(source.getField185());
+        target.setField186(source.getField186());
+        target.setField187(source.isField187());
+        target.setField188(source.getField188());
+        target.setField189(source.getField189());
+        target.setField190(source.getField190());
+        target.setField191(source.getField191());
+        target.setField192(source.getField192());
+        target.setField193(source.getField193());
+        target.setField194(source.isField194());
+        target.setField195(source.getField195());
+        target.setField196(source.getField196());
+        target.setField197(source.getField197());
+        target.setField198(source.getField198());
+        target.setField199(source.getField199());
+    }
+
+    public static Map<String, Object> toMap(Bean200 source) {
+        Map<String, Object> result = new HashMap<>();
+        if (source.getField0() != null) {
+            result.put("field0", source.getField0());
+        }
+        result.put("field1", source.getField1());
+        result.put("field2", source.getField2());
+        if (source.getField3() != null) {
+            result.put("field3", source.getField3());
+        }
+        result.put("field4", source.getField4());
+        result.put("field5", source.isField5());
+        if (source.getField6() != null) {
+            result.put("field6", source.getField6());
+        }
+        if (source.getField7() != null) {
+            result.put("field7", source.getField7());
+        }
+        result.put("field8", source.getField8());
+        result.put("field9", source.getField9());
+        if (source.getField10() != null) {
+            result.put("field10", source.getField10());
+        }
+        result.put("field11", source.getField11());
+        result.put("field12", source.isField12());
+        if (source.getField13() != null) {
+            result.put("field13", source.getField13());
+        }
+        if (source.getField14() != null) {
+            result.put("field14", source.getField14());
+        }
+        result.put("field15", source.getField15());
+        result.put("field16", source.getField16());
+        if (source.getField17() != null) {
+            result.put("field17", source.getField17());
+        }
+        result.put("field18", source.getField18());
+        result.put("field19", source.isField19());
+        if (source.getField20() != null) {
+            result.put("field20", source.getField20());
+        }
+        if (source.getField21() != null) {
+            result.put("field21", source.getField21());
+        }
+        result.put("field22", source.getField22());
+        result.put("field23", source.getField23());
+        if (source.getField24() != null) {
+            result.put("field24", source.getField24());
+        }
+        result.put("field25", source.getField25());
+        result.put("field26", source.isField26());
+        if (source.getField27() != null) {
+            result.put("field27", source.getField27());
+        }
+        if (source.getField28() != null) {
+            result.put("field28", source.getField28());
+        }
+        result.put("field29", source.getField29());
+        result.put("field30", source.getField30());
+        if (source.getField31() != null) {
+            result.put("field31", source.getField31());
+        }
+        result.put("field32", source.getField32());
+        result.put("field33", source.isField33());
+        if (source.getField34() != null) {
+            result.put("field34", source.getField34());
+        }
+        if (source.getField35() != null) {
+            result.put("field35", source.getField35());
+        }
+        result.put("field36", source.getField36());
+        result.put("field37", source.getField37());
+        if (source.getField38() != null) {
+            result.put("field38", source.getField38());
+        }
+        result.put("field39", source.getField39());
+        result.put("field40", source.isField40());
+        if (source.getField41() != null) {
+            result.put("field41", source.getField41());
+        }
+        if (source.getField42() != null) {
+            result.put("field42", source.getField42());
+        }
+        result.put("field43", source.getField43());
+        result.put("field44", source.getField44());
+        if (source.getField45() != null) {
+            result.put("field45", source.getField45());
+        }
+        result.put("field46", source.getField46());
+        result.put("field47", source.isField47());
+        if (source.getField48() != null) {
+            result.put("field48", source.getField48());
+        }
+        if (source.getField49() != null) {
+            result.put("field49", source.getField49());
+        }
+        result.put("field50", source.getField50());
+        result.put("field51", source.getField51());
+        if (source.getField52() != null) {
+            result.put("field52", source.getField52());
+        }
+        result.put("field53", source.getField53());
+        result.put("field54", source.isField54());
+        if (source.getField55() != null) {
+            result.put("field55", source.getField55());
+        }
+        if (source.getField56() != null) {
+            result.put("field56", source.getField56());
+        }
+        result.put("field57", source.getField57());
+        result.put("field58", source.getField58());
+        if (source.getField59() != null) {
+            result.put("field59", source.getField59());
+        }
+        result.put("field60", source.getField60());
+        result.put("field61", source.isField61());
+        if (source.getField62() != null) {
+            result.put("field62", source.getField62());
+        }
+        if (source.getField63() != null) {
+            result.put("field63", source.getField63());
+        }
+        result.put("field64", source.getField64());
+        result.put("field65", source.getField65());
+        if (source.getField66() != null) {
+            result.put("field66", source.getField66());
+        }
+        result.put("field67", source.getField67());
+        result.put("field68", source.isField68());
+        if (source.getField69() != null) {
+            result.put("field69", source.getField69());
+        }
+        if (source.getField70() != null) {
+            result.put("field70", source.getField70());
+        }
+        result.put("field71", source.getField71());
+        result.put("field72", source.getField72());
+        if (source.getField73() != null) {
+            result.put("field73", source.getField73());
+        }
+        result.put("field74", source.getField74());
+        result.put("field75", source.isField75());
+        if (source.getField76() != null) {
+            result.put("field76", source.getField76());
+        }
+        if (source.getField77() != null) {
+            result.put("field77", source.getField77());
+        }
+        result.put("field78", source.getField78());
+        result.put("field79", source.getField79());
+        if (source.getField80() != null) {
+            result.put("field80", source.getField80());
+        }
+        result.put("field81", source.getField81());
+        result.put("field82", source.isField82());
+        if (source.getField83() != null) {
+            result.put("field83", source.getField83());
+        }
+        if (source.getField84() != null) {
+            result.put("field84", source.getField84());
+        }
+        result.put("field85", source.getField85());
+        result.put("field86", source.getField86());
+        if (source.getField87() != null) {
+            result.put("field87", source.getField87());
+        }
+        result.put("field88", source.getField88());
+        result.put("field89", source.isField89());
+        if (source.getField90() != null) {
+            result.put("field90", source.getField90());
+        }
+        if (source.getField91() != null) {
+            result.put("field91", source.getField91());
+        }
+        result.put("field92", source.getField92());
+        result.put("field93", source.getField93());
+        if (source.getField94() != null) {
+            result.put("field94", source.getField94());
+        }
+        result.put("field95", source.getField95());
+        result.put("field96", source.isField96());
+        if (source.getField97() != null) {
+            result.put("field97", source.getField97());
+        }
+        if (source.getField98() != null) {
+            result.put("field98", source.getField98());
+        }
+        result.put("field99", source.getField99());
+        result.put("field100", source.getField100());
+        if (source.getField101() != null) {
+            result.put("field101", source.getField101());
+        }
+        result.put("field102", source.getField102());
+        result.put("field103", source.isField103());
+        if (source.getField104() != null) {
+            result.put("field104", source.getField104());
+        }
+        if (source.getField105() != null) {
+            result.put("field105", source.getField105());
+        }
+        result.put("field106", source.getField106());
+        result.put("field107", source.getField107());
+        if (source.getField108() != null) {
+            result.put("field108", source.getField108());
+        }
+        result.put("field109", source.getField109());
+        result.put("field110", source.isField110());
+        if (source.getField111() != null) {
+            result.put("field111", source.getField111());
+        }
+        if (source.getField112() != null) {
+            result.put("field112", source.getField112());
+        }
+        result.put("field113", source.getField113());
+        result.put("field114", source.getField114());
+        if (source.getField115() != null) {
+            result.put("field115", source.getField115());
+        }
+        result.put("field116", source.getField116());
+        result.put("field117", source.isField117());
+        if (source.getField118() != null) {
+            result.put("field118", source.getField118());
+        }
+        if (source.getField119() != null) {
+            result.put("field119", source.getField119());
+        }
+        result.put("field120", source.getField120());
+        result.put("field121", source.getField121());
+        if (source.getField122() != null) {
+            result.put("field122", source.getField122());
+        }
+        result.put("field123", source.getField123());
+        result.put("field124", source.isField124());
+        if (source.getField125() != null) {
+            result.put("field125", source.getField125());
+        }
+        if (source.getField126() != null) {
+            result.put("field126", source.getField126());
+        }
+        result.put("field127", source.getField127());
+        result.put("field128", source.getField128());
+        if (source.getField129() != null) {
+            result.put("field129", source.getField129());
+        }
+        result.put("field130", source.getField130());
+        result.put("field131", source.isField131());
+        if (source.getField132() != null) {
+            result.put("field132", source.getField132());
+        }
+        if (source.getField133() != null) {
+            result.put("field133", source.getField133());
+        }
+        result.put("field134", source.getField134());
+        result.put("field135", source.getField135());
+        if (source.getField136() != null) {
+            result.put("field136", source.getField136());
+        }
+        result.put("field137", source.getField137());
+        result.put("field138", source.isField138());
+        if (source.getField139() != null) {
+            result.put("field139", source.getField139());
+        }
+        if (source.getField140() != null) {
+            result.put("field140", source.getField140());
+        }
+        result.put("field141", source.getField141());
+        result.put("field142", source.getField142());
+        if (source.getField143() != null) {
+            result.put("field143", source.getField143());
+        }
+        result.put("field144", source.getField144());
+        result.put("field145", source.isField145());
+        if (source.getField146() != null) {
+            result.put("field146", source.getField146());
+        }
+        if (source.getField147() != null) {
+            result.put("field147", source.getField147());
+        }
+        result.put("field148", source.getField148());
+        result.put("field149", source.getField149());
+        if (source.getField150() != null) {
+            result.put("field150", source.getField150());
+        }
+        result.put("field151", source.getField151());
+        result.put("field152", source.isField152());
+        if (source.getField153() != null) {
+            result.put("field153", source.getField153());
+        }
+        if (source.getField154() != null) {
+            result.put("field154", source.getField154());
+        }
+        result.put("field155", source.getField155());
+        result.put("field156", source.getField156());
+        if (source.getField157() != null) {
+            result.put("field157", source.getField157());
+        }
+        result.put("field158", source.getField158());
+        result.put("field159", source.isField159());
+        if (source.getField160() != null) {
+            result.put("field160", source.getField160());
+        }
+        if (source.getField161() != null) {
+            result.put("field161", source.getField161());
+        }
+        result.put("field162", source.getField162());
+        result.put("field163", source.getField163());
+        if (source.getField164() != null) {
+            result.put("field164", source.getField164());
+        }
+        result.put("field165", source.getField165());
+        result.put("field166", source.isField166());
+        if (source.getField167() != null) {
+            result.put("field167", source.getField167());
+        }
+        if (source.getField168() != null) {
+            result.put("field168", source.getField168());
+        }
+        result.put("field169", source.getField169());
+        result.put("field170", source.getField170());
+        if (source.getField171() != null) {
+            result.put("field171", source.getField171());
+        }
+        result.put("field172", source.getField172());
+        result.put("field173", source.isField173());
+        if (source.getField174() != null) {
+            result.put("field174", source.getField174());
+        }
+        if (source.getField175() != null) {
+            result.put("field175", source.getField175());
+        }
+        result.put("field176", source.getField176());
+        result.put("field177", source.getField177());
+        if (source.getField178() != null) {
+            result.put("field178", source.getField178());
+        }
+        result.put("field179", source.getField179());
+        result.put("field180", source.isField180());
+        if (source.getField181() != null) {
+            result.put("field181", source.getField181());
+        }
+        if (source.getField182() != null) {
+            result.put("field182", source.getField182());
+        }
+        result.put("field183", source.getField183());
+        result.put("field184", source.getField184());
+        if (source.getField185() != null) {
+            result.put("field185", source.getField185());
+        }
+        result.put("field186", source.getField186());
+        result.put("field187", source.isField187());
+        if (source.getField188() != null) {
+            result.put("field188", source.getField188());
+        }
+        if (source.getField189() != null) {
+            result.put("field189", source.getField189());
+        }
+        result.put("field190", source.getField190());
+        result.put("field191", source.getField191());
+        if (source.getField192() != null) {
+            result.put("field192", source.getField192());
+        }
+        result.put("field193", source.getField193());
+        result.put("field194", source.isField194());
+        if (source.getField195() != null) {
+            result.put("field195", source.getField195());
+        }
+        if (source.getField196() != null) {
+            result.put("field196", source.getField196());
+        }
+        result.put("field197", source.getField197());
+        result.put("field198", source.getField198());
+        if (source.getField199() != null) {
+            result.put("field199", source.getField199());
+        }
+        return result;
+    }
+
+    public static void copy(Level1 source, Level1 target) {
+        target.setLevel1Field0(source.getLevel1Field0());
+        target.setLevel1Field1(source.getLevel1Field1());
+        target.setLevel1Field2(source.getLevel1Field2());
+        target.setLevel1Field3(source.getLevel1Field3());
+        target.setLevel1Field4(source.getLevel1Field4());
+    }
+
+    public static void copy(Level4 source, Level4 target) {
+        target.setLevel1Field0(source.getLevel1Field0());
+        target.setLevel1Field1(source.getLevel1Field1());
+        target.setLevel1Field2(source.getLevel1Field2());
+        target.setLevel1Field3(source.getLevel1Field3());
+        target.setLevel1Field4(source.getLevel1Field4());
+        target.setLevel2Field0(source.getLevel2Field0());
+        target.setLevel2Field1(source.getLevel2Field1());
+        target.setLevel2Field2(source.getLevel2Field2());
+        target.setLevel2Field3(source.getLevel2Field3());
+        target.setLevel2Field4(source.getLevel2Field4());
+        target.setLevel3Field0(source.getLevel3Field0());
+        target.setLevel3Field1(source.getLevel3Field1());
+        target.setLevel3Field2(source.getLevel3Field2());
+        target.setLevel3Field3(source.getLevel3Field3());
+        target.setLevel3Field4(source.getLevel3Field4());
+        target.setLevel4Field0(source.getLevel4Field0());
+        target.setLevel4Field1(source.getLevel4Field1());
+        target.setLevel4Field2(source.getLevel4Field2());
+        target.setLevel4Field3(source.getLevel4Field3());
+        target.setLevel4Field4(source.getLevel4Field4());
+    }
+
+    public static void copy(Level8 source, Level8 target) {
+        target.setLevel1Field0(source.getLevel1Field0());
+        target.setLevel1Field1(source.getLevel1Field1());
+        target.setLevel1Field2(source.getLevel1Field2());
+        target.setLevel1Field3(source.getLevel1Field3());
+        target.setLevel1Field4(source.getLevel1Field4());
+        target.setLevel2Field0(source.getLevel2Field0());
+        target.setLevel2Field1(source.getLevel2Field1());
+        target.setLevel2Field2(source.getLevel2Field2());
+        target.setLevel2Field3(source.getLevel2Field3());
+        target.setLevel2Field4(source.getLevel2Field4());
+        target.setLevel3Field0(source.getLevel3Field0());
+        target.setLevel3Field1(source.getLevel3Field1());
+        target.setLevel3Field2(source.getLevel3Field2());
+        target.setLevel3Field3(source.getLevel3Field3());
+        target.setLevel3Field4(source.getLevel3Field4());
+        target.setLevel4Field0(source.getLevel4Field0());
+        target.setLevel4Field1(source.getLevel4Field1());
+        target.setLevel4Field2(source.getLevel4Field2());
+        target.setLevel4Field3(source.getLevel4Field3());
+        target.setLevel4Field4(source.getLevel4Field4());
+        target.setLevel5Field0(source.getLevel5Field0());
+        target.setLevel5Field1(source.getLevel5Field1());
+        target.setLevel5Field2(source.getLevel5Field2());
+        target.setLevel5Field3(source.getLevel5Field3());
+        target.setLevel5Field4(source.getLevel5Field4());
+        target.setLevel6Field0(source.getLevel6Field0());
+        target.setLevel6Field1(source.getLevel6Field1());
+        target.setLevel6Field2(source.getLevel6Field2());
+        target.setLevel6Field3(source.getLevel6Field3());
+        target.setLevel6Field4(source.getLevel6Field4());
+        target.setLevel7Field0(source.getLevel7Field0());
+        target.setLevel7Field1(source.getLevel7Field1());
+        target.setLevel7Field2(source.getLevel7Field2());
+        target.setLevel7Field3(source.getLevel7Field3());
+        target.setLevel7Field4(source.getLevel7Field4());
+        target.setLevel8Field0(source.getLevel8Field0());
+        target.setLevel8Field1(source.getLevel8Field1());
+        target.setLevel8Field2(source.getLevel8Field2());
+        target.setLevel8Field3(source.getLevel8Field3());
+        target.setLevel8Field4(source.getLevel8Field4());
+    }
+}
@@ -0,0 +1,69 @@
+package org.rdlinux.luava.reflection.benchmark.model;
+
+/**
+ * 继承层级第1层，每层5个属性
+ */
+public class Level1 {
+    private String level1Field0;
+    private int level1Field1;
+    private long level1Field2;
+    private Integer level1Field3;
+    private double level1Field4;
+
+    /**
+     * 创建所有属性都有值的实例
+     */
+    public static Level1 sample() {
+        Level1 bean = new Level1();
+        bean.fill();
+        return bean;
+    }
+
+    protected void fill() {
+        this.level1Field0 = "v0";
+        this.level1Field1 = 1;
+        this.level1Field2 = 2L;
+        this.level1Field3 = 3;
+        this.level1Field4 = 4.5;
+    }
+
+    public String getLevel1Field0() {
+        return this.level1Field0;
+    }
+
+    public void setLevel1Field0(String level1Field0) {
+        this.level1Field0 = level1Field0;
+    }
+
+    public int getLevel1Field1() {
+        return this.level1Field1;
+    }
+
+    public void setLevel1Field1(int level1Field1) {
+        this.level1Field1 = level1Field1;
+    }
+
+    public long getLevel1Field2() {
+        return this.level1Field2;
+    }
+
+    public void setLevel1Field2(long level1Field2) {
+        this.level1Field2 = level1Field2;
+    }
+
+    public Integer getLevel1Field3() {
+        return this.level1Field3;
+    }
+
+    public void setLevel1Field3(Integer level1Field3) {
+        this.level1Field3 = level1Field3;
+    }
+
+    public double getLevel1Field4() {
+        return this.level1Field4;
+    }
+
+    public void setLevel1Field4(double level1Field4) {
+        this.level1Field4 = level1Field4;
+    }
+}
@@ -0,0 +1,71 @@
+package org.rdlinux.luava.reflection.benchmark.model;
+
+/**
+ * 继承层级第2层，每层5个属性
+ */
+public class Level2 extends Level1 {
+    private String level2Field0;
+    private int level2Field1;
+    private long level2Field2;
+    private Integer level2Field3;
+    private double level2Field4;
+
+    /**
+     * 创建所有属性都有值的实例
+     */
+    public static Level2 sample() {
+        Level2 bean = new Level2();
+        bean.fill();
+        return bean;
+    }
+
+    @Override
+    protected void fill() {
+        super.fill();
+        this.level2Field0 = "v0";
+        this.level2Field1 = 1;
+        this.level2Field2 = 2L;
+        this.level2Field3 = 3;
+        this.level2Field4 = 4.5;
+    }
+
+    public String getLevel2Field0() {
+        return this.level2Field0;
+    }
+
+    public void setLevel2Field0(String level2Field0) {
+        this.level2Field0 = level2Field0;
+    }
+
+    public int getLevel2Field1() {
+        return this.level2Field1;
+    }
+
+    public void setLevel2Field1(int level2Field1) {
+        this.level2Field1 = level2Field1;
+    }
+
+    public long getLevel2Field2() {
+        return this.level2Field2;
+    }
+
+    public void setLevel2Field2(long level2Field2) {
+        this.level2Field2 = level2Field2;
+    }
+
+    public Integer getLevel2Field3() {
+        return this.level2Field3;
+    }
+
+    public void setLevel2Field3(Integer level2Field3) {
+        this.level2Field3 = level2Field3;
+    }
+
+    public double getLevel2Field4() {
+        return this.level2Field4;
+    }
+
+    public void setLevel2Field4(double level2Field4) {
+        this.level2Field4 = level2Field4;
+    }
+}
@@ -0,0 +1,71 @@
+package org.rdlinux.luava.reflection.benchmark.model;
+
+/**
+ * 继承层级第3层，每层5个属性
+ */
+public class Level3 extends Level2 {
+    private String level3Field0;
+    private int level3Field1;
+    private long level3Field2;
+    private Integer level3Field3;
+    private double level3Field4;
+
+    /**
+     * 创建所有属性都有值的实例
+     */
+    public static Level3 sample() {
+        Level3 bean = new Level3();
+        bean.fill();
+        return bean;
+    }
+
+    @Override
+    protected void fill() {
+        super.fill();
+        this.level3Field0 = "v0";
+        this.level3Field1 = 1;
+        this.level3Field2 = 2L;
+        this.level3Field3 = 3;
+        this.level3Field4 = 4.5;
+    }
+
+    public String getLevel3Field0() {
+        return this.level3Field0;
+    }
+
+    public void setLevel3Field0(String level3Field0) {
+        this.level3Field0 = level3Field0;
+    }
+
+    public int getLevel3Field1() {
+        return this.level3Field1;
+    }
+
+    public void setLevel3Field1(int level3Field1) {
+        this.level3Field1 = level3Field1;
+    }
+
+    public long getLevel3Field2() {
+        return this.level3Field2;
+    }
+
+    public void setLevel3Field2(long level3Field2) {
+        this.level3Field2 = level3Field2;
+    }
+
+    public Integer getLevel3Field3() {
+        return this.level3Field3;
+    }
+
+    public void setLevel3Field3(Integer level3Field3) {
+        this.level3Field3 = level3Field3;
+    }
+
+    public double getLevel3Field4() {
+        return this.level3Field4;
+    }
+
+    public void setLevel3Field4(double level3Field4) {
+        this.level3Field4 = level3Field4;
+    }
+}
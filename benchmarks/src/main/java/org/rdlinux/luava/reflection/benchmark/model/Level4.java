@@ -0,0 +1,71 @@
+package org.rdlinux.luava.reflection.benchmark.model;
+
+/**
+ * 继承层级第4层，每层5个属性
+ */
+public class Level4 extends Level3 {
+    private String level4Field0;
+    private int level4Field1;
+    private long level4Field2;
+    private Integer level4Field3;
+    private double level4Field4;
+
+    /**
+     * 创建所有属性都有值的实例
+     */
+    public static Level4 sample() {
+        Level4 bean = new Level4();
+        bean.fill();
+        return bean;
+    }
+
+    @Override
+    protected void fill() {
+        super.fill();
+        this.level4Field0 = "v0";
+        this.level4Field1 = 1;
+        this.level4Field2 = 2L;
+        this.level4Field3 = 3;
+        this.level4Field4 = 4.5;
+    }
+
+    public String getLevel4Field0() {
+        return this.level4Field0;
+    }
+
+    public void setLevel4Field0(String level4Field0) {
+        this.level4Field0 = level4Field0;
+    }
+
+    public int getLevel4Field1() {
+        return this.level4Field1;
+    }
+
+    public void setLevel4Field1(int level4Field1) {
+        this.level4Field1 = level4Field1;
+    }
+
+    public long getLevel4Field2() {
+        return this.level4Field2;
+    }
+
+    public void setLevel4Field2(long level4Field2) {
+        this.level4Field2 = level4Field2;
+    }
+
+    public Integer getLevel4Field3() {
+        return this.level4Field3;
+    }
+
+    public void setLevel4Field3(Integer level4Field3) {
+        this.level4Field3 = level4Field3;
+    }
+
+    public double getLevel4Field4() {
+        return this.level4Field4;
+    }
+
+    public void setLevel4Field4(double level4Field4) {
+        this.level4Field4 = level4Field4;
+    }
+}
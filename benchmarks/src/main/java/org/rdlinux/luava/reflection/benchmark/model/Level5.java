@@ -0,0 +1,71 @@
+package org.rdlinux.luava.reflection.benchmark.model;
+
+/**
+ * 继承层级第5层，每层5个属性
+ */
+public class Level5 extends Level4 {
+    private String level5Field0;
+    private int level5Field1;
+    private long level5Field2;
+    private Integer level5Field3;
+    private double level5Field4;
+
+    /**
+     * 创建所有属性都有值的实例
+     */
+    public static Level5 sample() {
+        Level5 bean = new Level5();
+        bean.fill();
+        return bean;
+    }
+
+    @Override
+    protected void fill() {
+        super.fill();
+        this.level5Field0 = "v0";
+        this.level5Field1 = 1;
+        this.level5Field2 = 2L;
+        this.level5Field3 = 3;
+        this.level5Field4 = 4.5;
+    }
+
+    public String getLevel5Field0() {
+        return this.level5Field0;
+    }
+
+    public void setLevel5Field0(String level5Field0) {
+        this.level5Field0 = level5Field0;
+    }
+
+    public int getLevel5Field1() {
+        return this.level5Field1;
+    }
+
+    public void setLevel5Field1(int level5Field1) {
+        this.level5Field1 = level5Field1;
+    }
+
+    public long getLevel5Field2() {
+        return this.level5Field2;
+    }
+
+    public void setLevel5Field2(long level5Field2) {
+        this.level5Field2 = level5Field2;
+    }
+
+    public Integer getLevel5Field3() {
+        return this.level5Field3;
+    }
+
+    public void setLevel5Field3(Integer level5Field3) {
+        this.level5Field3 = level5Field3;
+    }
+
+    public double getLevel5Field4() {
+        return this.level5Field4;
+    }
+
+    public void setLevel5Field4(double level5Field4) {
+        this.level5Field4 = level5Field4;
+    }
+}
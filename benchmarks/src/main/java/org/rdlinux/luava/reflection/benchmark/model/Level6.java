@@ -0,0 +1,71 @@
+package org.rdlinux.luava.reflection.benchmark.model;
+
+/**
+ * 继承层级第6层，每层5个属性
+ */
+public class Level6 extends Level5 {
+    private String level6Field0;
+    private int level6Field1;
+    private long level6Field2;
+    private Integer level6Field3;
+    private double level6Field4;
+
+    /**
+     * 创建所有属性都有值的实例
+     */
+    public static Level6 sample() {
+        Level6 bean = new Level6();
+        bean.fill();
+        return bean;
+    }
+
+    @Override
+    protected void fill() {
+        super.fill();
+        this.level6Field0 = "v0";
+        this.level6Field1 = 1;
+        this.level6Field2 = 2L;
+        this.level6Field3 = 3;
+        this.level6Field4 = 4.5;
+    }
+
+    public String getLevel6Field0() {
+        return this.level6Field0;
+    }
+
+    public void setLevel6Field0(String level6Field0) {
+        this.level6Field0 = level6Field0;
+    }
+
+    public int getLevel6Field1() {
+        return this.level6Field1;
+    }
+
+    public void setLevel6Field1(int level6Field1) {
+        this.level6Field1 = level6Field1;
+    }
+
+    public long getLevel6Field2() {
+        return this.level6Field2;
+    }
+
+    public void setLevel6Field2(long level6Field2) {
+        this.level6Field2 = level6Field2;
+    }
+
+    public Integer getLevel6Field3() {
+        return this.level6Field3;
+    }
+
+    public void setLevel6Field3(Integer level6Field3) {
+        this.level6Field3 = level6Field3;
+    }
+
+    public double getLevel6Field4() {
+        return this.level6Field4;
+    }
+
+    public void setLevel6Field4(double level6Field4) {
+        this.level6Field4 = level6Field4;
+    }
+}
@@ -0,0 +1,71 @@
+package org.rdlinux.luava.reflection.benchmark.model;
+
+/**
+ * 继承层级第7层，每层5个属性
+ */
+public class Level7 extends Level6 {
+    private String level7Field0;
+    private int level7Field1;
+    private long level7Field2;
+    private Integer level7Field3;
+    private double level7Field4;
+
+    /**
+     * 创建所有属性都有值的实例
+     */
+    public static Level7 sample() {
+        Level7 bean = new Level7();
+        bean.fill();
+        return bean;
+    }
+
+    @Override
+    protected void fill() {
+        super.fill();
+        this.level7Field0 = "v0";
+        this.level7Field1 = 1;
+        this.level7Field2 = 2L;
+        this.level7Field3 = 3;
+        this.level7Field4 = 4.5;
+    }
+
+    public String getLevel7Field0() {
+        return this.level7Field0;
+    }
+
+    public void setLevel7Field0(String level7Field0) {
+        this.level7Field0 = level7Field0;
+    }
+
+    public int getLevel7Field1() {
+        return this.level7Field1;
+    }
+
+    public void setLevel7Field1(int level7Field1) {
+        this.level7Field1 = level7Field1;
+    }
+
+    public long getLevel7Field2() {
+        return this.level7Field2;
+    }
+
+    public void setLevel7Field2(long level7Field2) {
+        this.level7Field2 = level7Field2;
+    }
+
+    public Integer getLevel7Field3() {
+        return this.level7Field3;
+    }
+
+    public void setLevel7Field3(Integer level7Field3) {
+        this.level7Field3 = level7Field3;
+    }
+
+    public double getLevel7Field4() {
+        return this.level7Field4;
+    }
+
+    public void setLevel7Field4(double level7Field4) {
+        this.level7Field4 = level7Field4;
+    }
+}
@@ -0,0 +1,71 @@
+package org.rdlinux.luava.reflection.benchmark.model;
+
+/**
+ * 继承层级第8层，每层5个属性
+ */
+public class Level8 extends Level7 {
+    private String level8Field0;
+    private int level8Field1;
+    private long level8Field2;
+    private Integer level8Field3;
+    private double level8Field4;
+
+    /**
+     * 创建所有属性都有值的实例
+     */
+    public static Level8 sample() {
+        Level8 bean = new Level8();
+        bean.fill();
+        return bean;
+    }
+
+    @Override
+    protected void fill() {
+        super.fill();
+        this.level8Field0 = "v0";
+        this.level8Field1 = 1;
+        this.level8Field2 = 2L;
+        this.level8Field3 = 3;
+        this.level8Field4 = 4.5;
+    }
+
+    public String getLevel8Field0() {
+        return this.level8Field0;
+    }
+
+    public void setLevel8Field0(String level8Field0) {
+        this.level8Field0 = level8Field0;
+    }
+
+    public int getLevel8Field1() {
+        return this.level8Field1;
+    }
+
+    public void setLevel8Field1(int level8Field1) {
+        this.level8Field1 = level8Field1;
+    }
+
+    public long getLevel8Field2() {
+        return this.level8Field2;
+    }
+
+    public void setLevel8Field2(long level8Field2) {
+        this.level8Field2 = level8Field2;
+    }
+
+    public Integer getLevel8Field3() {
+        return this.level8Field3;
+    }
+
+    public void setLevel8Field3(Integer level8Field3) {
+        this.level8Field3 = level8Field3;
+    }
+
+    public double getLevel8Field4() {
+        return this.level8Field4;
+    }
+
+    public void setLevel8Field4(double level8Field4) {
+        this.level8Field4 = level8Field4;
+    }
+}
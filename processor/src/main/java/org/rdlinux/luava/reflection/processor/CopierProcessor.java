@@ -0,0 +1,363 @@
+package org.rdlinux.luava.reflection.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * 编译期拷贝器生成器，为标注了org.rdlinux.luava.reflection.GenerateCopier的接口生成不使用反射的实现类，
+ * 并在META-INF/services/org.rdlinux.luava.reflection.GeneratedCopier中声明，运行时由ServiceLoader加载。
+ * <p>
+ * 属性规则与运行时一致：源类型及其超类的非static、非final属性，通过public的get/set方法读写，
+ * set方法参数类型必须与属性类型一致。
+ */
+@SupportedAnnotationTypes(CopierProcessor.GENERATE_COPIER)
+public class CopierProcessor extends AbstractProcessor {
+    static final String GENERATE_COPIER = "org.rdlinux.luava.reflection.GenerateCopier";
+    static final String GENERATED_COPIER = "org.rdlinux.luava.reflection.GeneratedCopier";
+    static final String SERVICE_FILE = "META-INF/services/" + GENERATED_COPIER;
+    private final Set<String> generated = new TreeSet<>();
+
+    private static String capitalize(String fieldName) {
+        char first = fieldName.charAt(0);
+        if (Character.isUpperCase(first)) {
+            return fieldName;
+        }
+        return Character.toUpperCase(first) + fieldName.substring(1);
+    }
+
+    /**
+     * 判断boolean属性名称是否已以is开头，与运行时规则一致
+     */
+    private static boolean isPrefixedWithIs(String fieldName) {
+        if (fieldName.length() < 3 || !fieldName.startsWith("is")) {
+            return false;
+        }
+        char c = fieldName.charAt(2);
+        return (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            this.writeServiceFile();
+            return false;
+        }
+        TypeElement annotation = this.processingEnv.getElementUtils().getTypeElement(GENERATE_COPIER);
+        if (annotation == null) {
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            try {
+                if (element.getKind() != ElementKind.INTERFACE) {
+                    throw new CopierException("@GenerateCopier can only be used on an interface.");
+                }
+                this.generate((TypeElement) element, this.findAnnotation(element, annotation));
+            } catch (CopierException e) {
+                this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), element);
+            }
+        }
+        return true;
+    }
+
+    private AnnotationMirror findAnnotation(Element element, TypeElement annotation) {
+        Types types = this.processingEnv.getTypeUtils();
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (types.isSameType(mirror.getAnnotationType(), annotation.asType())) {
+                return mirror;
+            }
+        }
+        throw new CopierException("Can not find @GenerateCopier.");
+    }
+
+    private Map<String, AnnotationValue> values(AnnotationMirror mirror) {
+        Map<String, AnnotationValue> values = new HashMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : this.processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+            values.put(entry.getKey().getSimpleName().toString(), entry.getValue());
+        }
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void generate(TypeElement copierInterface, AnnotationMirror annotation) {
+        Map<String, AnnotationValue> values = this.values(annotation);
+        DeclaredType sourceType = (DeclaredType) values.get("source").getValue();
+        DeclaredType targetType = (DeclaredType) values.get("target").getValue();
+        Set<String> ignoreFields = new HashSet<>();
+        for (AnnotationValue value : (List<? extends AnnotationValue>) values.get("ignoreFields").getValue()) {
+            ignoreFields.add((String) value.getValue());
+        }
+        Map<String, String> fieldMapping = new HashMap<>();
+        for (AnnotationValue value : (List<? extends AnnotationValue>) values.get("fieldMappings").getValue()) {
+            Map<String, AnnotationValue> mapping = this.values((AnnotationMirror) value.getValue());
+            fieldMapping.putIfAbsent((String) mapping.get("source").getValue(),
+                    (String) mapping.get("target").getValue());
+        }
+        boolean ignoreNullValue = (Boolean) values.get("ignoreNullValue").getValue();
+        boolean ignoreError = (Boolean) values.get("ignoreError").getValue();
+        // 与默认CopyOption一致时BeanUtils.copyProperties(source, target)才使用生成的拷贝器
+        boolean defaultOption = ignoreFields.isEmpty() && fieldMapping.isEmpty() && !ignoreNullValue && !ignoreError;
+        this.checkInterface(copierInterface);
+
+        Types types = this.processingEnv.getTypeUtils();
+        Elements elements = this.processingEnv.getElementUtils();
+        String sourceName = types.erasure(sourceType).toString();
+        String targetName = types.erasure(targetType).toString();
+        String packageName = elements.getPackageOf(copierInterface).getQualifiedName().toString();
+        String simpleName = this.implementationName(copierInterface);
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        StringBuilder body = new StringBuilder();
+        Map<String, VariableElement> targetProperties = this.properties(targetType);
+        for (VariableElement sourceField : this.properties(sourceType).values()) {
+            String fieldName = sourceField.getSimpleName().toString();
+            if (ignoreFields.contains(fieldName)) {
+                continue;
+            }
+            String targetFieldName = fieldMapping.getOrDefault(fieldName, fieldName);
+            VariableElement targetField = targetProperties.get(targetFieldName);
+            if (targetField == null) {
+                continue;
+            }
+            ExecutableElement getter = this.findGetter(sourceType, sourceField);
+            ExecutableElement setter = this.findSetter(targetType, targetField);
+            String error = null;
+            TypeMirror valueType = null;
+            TypeMirror parameterType = null;
+            if (getter == null) {
+                error = String.format("Can not find the get method of the field named '%s' in %s.", fieldName,
+                        sourceName);
+            } else if (setter == null) {
+                error = String.format("Can not find the set method of the field named '%s' in %s.",
+                        targetFieldName, targetName);
+            } else {
+                valueType = ((ExecutableType) types.asMemberOf(sourceType, getter)).getReturnType();
+                parameterType = ((ExecutableType) types.asMemberOf(targetType, setter))
+                        .getParameterTypes().get(0);
+                if (!types.isAssignable(valueType, parameterType)) {
+                    error = String.format("Can not copy the value of the field named '%s' to the field '%s'.",
+                            fieldName, targetFieldName);
+                }
+            }
+            if (error != null) {
+                if (ignoreError) {
+                    continue;
+                }
+                throw new CopierException(error);
+            }
+            String read = "source." + getter.getSimpleName() + "()";
+            String write = "target." + setter.getSimpleName();
+            boolean nullable = valueType.getKind() == TypeKind.DECLARED || valueType.getKind() == TypeKind.ARRAY;
+            // 包装类型拆箱写入基本类型时，null与运行时拷贝器一样按拷贝失败处理
+            boolean unboxing = valueType.getKind() == TypeKind.DECLARED && parameterType.getKind().isPrimitive();
+            if (nullable && (ignoreNullValue || unboxing && ignoreError)) {
+                body.append("        {\n")
+                        .append("            ").append(valueType).append(" value = ").append(read).append(";\n")
+                        .append("            if (value != null) {\n")
+                        .append("                ").append(write).append("(value);\n")
+                        .append("            }\n")
+                        .append("        }\n");
+            } else if (unboxing) {
+                body.append("        {\n")
+                        .append("            ").append(valueType).append(" value = ").append(read).append(";\n")
+                        .append("            if (value == null) {\n")
+                        .append("                throw new IllegalArgumentException(\"")
+                        .append(String.format("Can not copy the value of the field named '%s' to the field '%s'.",
+                                fieldName, targetFieldName))
+                        .append("\");\n")
+                        .append("            }\n")
+                        .append("            ").append(write).append("(value);\n")
+                        .append("        }\n");
+            } else {
+                body.append("        ").append(write).append("(").append(read).append(");\n");
+            }
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * Generated by ").append(CopierProcessor.class.getName()).append(" from ")
+                .append(copierInterface.getQualifiedName()).append(", do not edit.\n */\n")
+                .append("public final class ").append(simpleName).append(" implements ")
+                .append(copierInterface.getQualifiedName()).append(", ").append(GENERATED_COPIER).append("<")
+                .append(sourceName).append(", ").append(targetName).append("> {\n")
+                .append("    @Override\n")
+                .append("    public Class<").append(sourceName).append("> getSourceClass() {\n")
+                .append("        return ").append(sourceName).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public Class<").append(targetName).append("> getTargetClass() {\n")
+                .append("        return ").append(targetName).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public boolean isDefaultOption() {\n")
+                .append("        return ").append(defaultOption).append(";\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public void copy(").append(sourceName).append(" source, ").append(targetName)
+                .append(" target) {\n")
+                .append("        if (source == null || target == null) {\n")
+                .append("            return;\n")
+                .append("        }\n")
+                .append(body)
+                .append("    }\n")
+                .append("}\n");
+        try {
+            JavaFileObject file = this.processingEnv.getFiler().createSourceFile(qualifiedName, copierInterface);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException e) {
+            throw new CopierException("Can not write " + qualifiedName + ": " + e.getMessage());
+        }
+        this.generated.add(qualifiedName);
+    }
+
+    /**
+     * 接口中只能声明copy(S source, T target)方法以及{@link #GENERATED_COPIER}中的方法
+     */
+    private void checkInterface(TypeElement copierInterface) {
+        if (!copierInterface.getTypeParameters().isEmpty()) {
+            throw new CopierException("The interface annotated with @GenerateCopier can not be generic.");
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(
+                this.processingEnv.getElementUtils().getAllMembers(copierInterface))) {
+            if (!method.getModifiers().contains(Modifier.ABSTRACT)) {
+                continue;
+            }
+            String name = method.getSimpleName().toString();
+            int parameterCount = method.getParameters().size();
+            if (name.equals("copy") && parameterCount == 2
+                    || (name.equals("getSourceClass") || name.equals("getTargetClass")) && parameterCount == 0) {
+                continue;
+            }
+            throw new CopierException(String.format(
+                    "The interface annotated with @GenerateCopier can only declare copy(S source, T target), found %s.",
+                    method));
+        }
+    }
+
+    /**
+     * 实现类名称，嵌套接口以下划线连接外部类名称
+     */
+    private String implementationName(TypeElement copierInterface) {
+        StringBuilder name = new StringBuilder(copierInterface.getSimpleName()).append("Impl");
+        Element enclosing = copierInterface.getEnclosingElement();
+        while (enclosing != null && enclosing.getKind() != ElementKind.PACKAGE) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.toString();
+    }
+
+    /**
+     * 类型及其超类的非static、非final属性，同名属性以超类为准，与运行时一致
+     */
+    private Map<String, VariableElement> properties(DeclaredType type) {
+        Map<String, VariableElement> properties = new LinkedHashMap<>();
+        TypeElement current = (TypeElement) type.asElement();
+        while (current != null && !current.getQualifiedName().contentEquals("java.lang.Object")) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                Set<Modifier> modifiers = field.getModifiers();
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) {
+                    continue;
+                }
+                properties.put(field.getSimpleName().toString(), field);
+            }
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED
+                    ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+        return properties;
+    }
+
+    private List<ExecutableElement> publicMethods(DeclaredType type, String name, int parameterCount) {
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(
+                this.processingEnv.getElementUtils().getAllMembers((TypeElement) type.asElement()))) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if (method.getSimpleName().contentEquals(name) && method.getParameters().size() == parameterCount
+                    && modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.STATIC)) {
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    private ExecutableElement findGetter(DeclaredType type, VariableElement field) {
+        String fieldName = field.getSimpleName().toString();
+        String methodName;
+        if (field.asType().getKind() == TypeKind.BOOLEAN) {
+            methodName = isPrefixedWithIs(fieldName) ? fieldName : "is" + capitalize(fieldName);
+        } else {
+            methodName = "get" + capitalize(fieldName);
+        }
+        List<ExecutableElement> methods = this.publicMethods(type, methodName, 0);
+        return methods.isEmpty() ? null : methods.get(0);
+    }
+
+    private ExecutableElement findSetter(DeclaredType type, VariableElement field) {
+        Types types = this.processingEnv.getTypeUtils();
+        TypeMirror fieldType = types.erasure(field.asType());
+        for (ExecutableElement method : this.publicMethods(type, "set" + capitalize(field.getSimpleName().toString()),
+                1)) {
+            if (types.isSameType(types.erasure(method.getParameters().get(0).asType()), fieldType)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private void writeServiceFile() {
+        if (this.generated.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String name : this.generated) {
+                    writer.write(name);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Can not write " + SERVICE_FILE + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * 生成失败，消息作为编译错误输出
+     */
+    private static final class CopierException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        CopierException(String message) {
+            super(message);
+        }
+    }
+}
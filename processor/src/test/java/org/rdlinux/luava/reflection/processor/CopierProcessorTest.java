@@ -0,0 +1,192 @@
+package org.rdlinux.luava.reflection.processor;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.rdlinux.luava.reflection.BeanCopier;
+import org.rdlinux.luava.reflection.BeanUtils;
+import org.rdlinux.luava.reflection.CopyOption;
+import org.rdlinux.luava.reflection.GeneratedCopier;
+
+import javax.tools.*;
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ServiceLoader;
+
+public class CopierProcessorTest {
+    private static final String SOURCE = "package demo;\n"
+            + "public class Source {\n"
+            + "    private String code;\n"
+            + "    private int count;\n"
+            + "    private boolean enabled;\n"
+            + "    private String secret;\n"
+            + "    public String getCode() { return this.code; }\n"
+            + "    public void setCode(String code) { this.code = code; }\n"
+            + "    public int getCount() { return this.count; }\n"
+            + "    public void setCount(int count) { this.count = count; }\n"
+            + "    public boolean isEnabled() { return this.enabled; }\n"
+            + "    public void setEnabled(boolean enabled) { this.enabled = enabled; }\n"
+            + "    public String getSecret() { return this.secret; }\n"
+            + "    public void setSecret(String secret) { this.secret = secret; }\n"
+            + "}\n";
+    private static final String TARGET = "package demo;\n"
+            + "public class Target {\n"
+            + "    private String number = \"keep\";\n"
+            + "    private Integer count;\n"
+            + "    private boolean enabled;\n"
+            + "    private String secret;\n"
+            + "    public String getNumber() { return this.number; }\n"
+            + "    public void setNumber(String number) { this.number = number; }\n"
+            + "    public Integer getCount() { return this.count; }\n"
+            + "    public void setCount(Integer count) { this.count = count; }\n"
+            + "    public boolean isEnabled() { return this.enabled; }\n"
+            + "    public void setEnabled(boolean enabled) { this.enabled = enabled; }\n"
+            + "    public String getSecret() { return this.secret; }\n"
+            + "    public void setSecret(String secret) { this.secret = secret; }\n"
+            + "}\n";
+    private static final String COPIER = "package demo;\n"
+            + "import org.rdlinux.luava.reflection.GenerateCopier;\n"
+            + "@GenerateCopier(source = Source.class, target = Target.class, ignoreFields = \"secret\",\n"
+            + "        fieldMappings = @GenerateCopier.Mapping(source = \"code\", target = \"number\"),\n"
+            + "        ignoreNullValue = true)\n"
+            + "public interface SourceCopier {\n"
+            + "    void copy(Source source, Target target);\n"
+            + "}\n";
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static JavaFileObject source(String name, String content) {
+        return new SimpleJavaFileObject(URI.create("string:///demo/" + name + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compile(File output, JavaFileObject... sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<String> options = new ArrayList<>(Arrays.asList("-d", output.getPath(), "-s", output.getPath(),
+                "-classpath", System.getProperty("java.class.path")));
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null,
+                Arrays.asList(sources));
+        task.setProcessors(Arrays.asList(new CopierProcessor()));
+        task.call();
+        return diagnostics.getDiagnostics();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void generateTest() throws Exception {
+        File output = this.folder.newFolder();
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = this.compile(output, source("Source", SOURCE),
+                source("Target", TARGET), source("SourceCopier", COPIER));
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics) {
+            Assert.assertNotEquals(diagnostic.toString(), Diagnostic.Kind.ERROR, diagnostic.getKind());
+        }
+        String service = new String(Files.readAllBytes(new File(output, CopierProcessor.SERVICE_FILE).toPath()),
+                StandardCharsets.UTF_8);
+        Assert.assertEquals("demo.SourceCopierImpl", service.trim());
+        String generated = new String(Files.readAllBytes(new File(output, "demo/SourceCopierImpl.java").toPath()),
+                StandardCharsets.UTF_8);
+        Assert.assertFalse(generated.contains("Secret"));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toURI().toURL()},
+                CopierProcessorTest.class.getClassLoader())) {
+            GeneratedCopier<Object, Object> copier = ServiceLoader.load(GeneratedCopier.class, loader).iterator()
+                    .next();
+            Class<?> sourceClass = loader.loadClass("demo.Source");
+            Class<?> targetClass = loader.loadClass("demo.Target");
+            Assert.assertEquals(sourceClass, copier.getSourceClass());
+            // 指定了忽略属性和属性映射，不替代BeanUtils.copyProperties(source, target)
+            Assert.assertFalse(copier.isDefaultOption());
+            Object source = sourceClass.getConstructor().newInstance();
+            sourceClass.getMethod("setCount", int.class).invoke(source, 3);
+            sourceClass.getMethod("setEnabled", boolean.class).invoke(source, true);
+            sourceClass.getMethod("setSecret", String.class).invoke(source, "s");
+            Object target = targetClass.getConstructor().newInstance();
+            copier.copy(source, target);
+            Assert.assertEquals(3, targetClass.getMethod("getCount").invoke(target));
+            Assert.assertEquals(true, targetClass.getMethod("isEnabled").invoke(target));
+            // 空值被忽略，忽略属性不拷贝
+            Assert.assertEquals("keep", targetClass.getMethod("getNumber").invoke(target));
+            Assert.assertNull(targetClass.getMethod("getSecret").invoke(target));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void unboxingTest() throws Exception {
+        String copier = "package demo;\n"
+                + "import org.rdlinux.luava.reflection.GenerateCopier;\n"
+                + "@GenerateCopier(source = Target.class, target = Source.class, ignoreFields = \"number\")\n"
+                + "public interface TargetCopier {\n"
+                + "}\n";
+        File output = this.folder.newFolder();
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = this.compile(output, source("Source", SOURCE),
+                source("Target", TARGET), source("TargetCopier", copier));
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics) {
+            Assert.assertNotEquals(diagnostic.toString(), Diagnostic.Kind.ERROR, diagnostic.getKind());
+        }
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toURI().toURL()},
+                CopierProcessorTest.class.getClassLoader())) {
+            GeneratedCopier<Object, Object> generated = ServiceLoader.load(GeneratedCopier.class, loader).iterator()
+                    .next();
+            Class<Object> sourceClass = (Class<Object>) loader.loadClass("demo.Target");
+            Class<Object> targetClass = (Class<Object>) loader.loadClass("demo.Source");
+            BeanCopier<Object, Object> runtime = BeanUtils.compile(sourceClass, targetClass,
+                    new CopyOption().addIgnoreFields("number"));
+            // Integer为null拷贝到int属性时，生成的拷贝器与运行时拷贝器抛出相同的异常
+            Object source = sourceClass.getConstructor().newInstance();
+            String generatedMessage = null;
+            String runtimeMessage = null;
+            try {
+                generated.copy(source, targetClass.getConstructor().newInstance());
+                Assert.fail();
+            } catch (IllegalArgumentException e) {
+                generatedMessage = e.getMessage();
+            }
+            try {
+                runtime.copy(source, targetClass.getConstructor().newInstance());
+                Assert.fail();
+            } catch (IllegalArgumentException e) {
+                runtimeMessage = e.getMessage();
+            }
+            Assert.assertEquals(runtimeMessage, generatedMessage);
+            Assert.assertEquals("Can not copy the value of the field named 'count' to the field 'count'.",
+                    generatedMessage);
+
+            sourceClass.getMethod("setCount", Integer.class).invoke(source, 3);
+            Object target = targetClass.getConstructor().newInstance();
+            generated.copy(source, target);
+            Assert.assertEquals(3, targetClass.getMethod("getCount").invoke(target));
+        }
+    }
+
+    @Test
+    public void incompatibleTypeTest() throws Exception {
+        String copier = "package demo;\n"
+                + "import org.rdlinux.luava.reflection.GenerateCopier;\n"
+                + "@GenerateCopier(source = Source.class, target = Target.class,\n"
+                + "        fieldMappings = @GenerateCopier.Mapping(source = \"count\", target = \"number\"))\n"
+                + "public interface SourceCopier {\n"
+                + "}\n";
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = this.compile(this.folder.newFolder(),
+                source("Source", SOURCE), source("Target", TARGET), source("SourceCopier", copier));
+        boolean found = false;
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics) {
+            found |= diagnostic.getKind() == Diagnostic.Kind.ERROR && diagnostic.getMessage(null)
+                    .contains("Can not copy the value of the field named 'count' to the field 'number'.");
+        }
+        Assert.assertTrue(found);
+    }
+}
@@ -0,0 +1,148 @@
+package org.rdlinux.luava.reflection;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 访问器生成器，通过{@link LambdaMetafactory}为get/set方法生成直接调用的{@link Function}/{@link BiConsumer}，
+ * 生成的类可被JIT内联。无法生成时(非public、类加载器不可见等)回退为反射调用。
+ */
+final class AccessorGenerator {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private AccessorGenerator() {
+    }
+
+    /**
+     * 生成get方法访问器
+     *
+     * @param getter get方法
+     */
+    static Function<Object, Object> getter(Method getter) {
+        Function<Object, Object> generated = generateGetter(getter);
+        if (generated != null) {
+            return generated;
+        }
+        return bean -> {
+            try {
+                return getter.invoke(bean);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalArgumentException(e);
+            }
+        };
+    }
+
+    /**
+     * 生成set方法访问器
+     *
+     * @param setter set方法
+     */
+    static BiConsumer<Object, Object> setter(Method setter) {
+        BiConsumer<Object, Object> generated = generateSetter(setter);
+        if (generated != null) {
+            return generated;
+        }
+        return (bean, value) -> {
+            try {
+                setter.invoke(bean, value);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalArgumentException(e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> generateGetter(Method getter) {
+        if (!isGeneratable(getter)) {
+            return null;
+        }
+        try {
+            MethodHandle handle = LOOKUP.unreflect(getter);
+            CallSite site = LambdaMetafactory.metafactory(LOOKUP, "apply", MethodType.methodType(Function.class),
+                    GETTER_TYPE, handle,
+                    MethodType.methodType(wrap(getter.getReturnType()), getter.getDeclaringClass()));
+            return (Function<Object, Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> generateSetter(Method setter) {
+        if (!isGeneratable(setter)) {
+            return null;
+        }
+        try {
+            MethodHandle handle = LOOKUP.unreflect(setter);
+            CallSite site = LambdaMetafactory.metafactory(LOOKUP, "accept", MethodType.methodType(BiConsumer.class),
+                    SETTER_TYPE, handle, MethodType.methodType(void.class, setter.getDeclaringClass(),
+                            wrap(setter.getParameterTypes()[0])));
+            return (BiConsumer<Object, Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * 生成的类定义在本类的类加载器中，只能直接调用public类型的public实例方法，且方法所在类必须对本类的类加载器可见
+     */
+    private static boolean isGeneratable(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        int modifiers = method.getModifiers();
+        if (!Modifier.isPublic(modifiers) || Modifier.isStatic(modifiers)
+                || !Modifier.isPublic(declaringClass.getModifiers())) {
+            return false;
+        }
+        return isVisible(declaringClass) && isVisible(method.getReturnType())
+                && (method.getParameterCount() == 0 || isVisible(method.getParameterTypes()[0]));
+    }
+
+    static boolean isVisible(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, AccessorGenerator.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    static Class<?> wrap(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == float.class) {
+            return Float.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        } else if (type == char.class) {
+            return Character.class;
+        } else {
+            return Void.class;
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package org.rdlinux.luava.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 预编译的bean拷贝器，针对(源类型, 目标类型, 拷贝选项)只计算一次属性对应关系，之后每次拷贝只执行编译好的步骤。
+ * 实例不可变，可在多线程之间共享。拷贝选项开启深拷贝时，可变的属性值拷贝其副本后再写入目标bean。
+ *
+ * @param <S> 源类型
+ * @param <T> 目标类型
+ */
+public final class BeanCopier<S, T> {
+    private final Class<S> sourceClass;
+    private final Class<T> targetClass;
+    private final CopyStep[] steps;
+    /**
+     * 是否有需要深拷贝的步骤
+     */
+    private final boolean deep;
+    /**
+     * 度量开启后首次拷贝时绑定
+     */
+    private volatile ReflectionMetrics.CopyStats stats;
+
+    private BeanCopier(Class<S> sourceClass, Class<T> targetClass, CopyStep[] steps) {
+        this.sourceClass = sourceClass;
+        this.targetClass = targetClass;
+        this.steps = steps;
+        boolean deep = false;
+        for (CopyStep step : steps) {
+            deep |= step.isDeep();
+        }
+        this.deep = deep;
+    }
+
+    /**
+     * 编译拷贝器
+     *
+     * @param sourceClass 源类型
+     * @param targetClass 目标类型
+     * @param copyOption  拷贝选项
+     */
+    static <S, T> BeanCopier<S, T> compile(Class<S> sourceClass, Class<T> targetClass, CopyOption copyOption) {
+        return compile(sourceClass, targetClass, copyOption, Collections.emptySet());
+    }
+
+    /**
+     * 编译拷贝器，跳过指定的目标属性
+     *
+     * @param sourceClass   源类型
+     * @param targetClass   目标类型
+     * @param copyOption    拷贝选项
+     * @param excludedNames 不拷贝的目标属性名称
+     */
+    static <S, T> BeanCopier<S, T> compile(Class<S> sourceClass, Class<T> targetClass, CopyOption copyOption,
+                                           Set<String> excludedNames) {
+        if (sourceClass == null || targetClass == null) {
+            throw new IllegalArgumentException("sourceClass and targetClass can not be null");
+        }
+        if (copyOption == null) {
+            copyOption = new CopyOption();
+        }
+        long start = ReflectionMetrics.enabled ? System.nanoTime() : 0;
+        ClassMetadata sourceMetadata = ClassMetadata.forClass(sourceClass);
+        ClassMetadata targetMetadata = ClassMetadata.forClass(targetClass);
+        Set<String> ignoreFields = copyOption.ignoreFieldSet();
+        List<CopyStep> steps = new ArrayList<>();
+        for (PropertyMetadata sourceProperty : sourceMetadata.propertyArray()) {
+            String fieldName = sourceProperty.getName();
+            if (ignoreFields.contains(fieldName)) {
+                continue;
+            }
+            String targetFieldName = copyOption.getFieldMapping().get(fieldName);
+            if (targetFieldName == null) {
+                targetFieldName = fieldName;
+            }
+            PropertyMetadata targetProperty = targetMetadata.getProperty(targetFieldName);
+            if (targetProperty == null || excludedNames.contains(targetFieldName)) {
+                continue;
+            }
+            // 目标属性没有set方法且忽略错误时，直接跳过该属性，不在每次拷贝时抛出异常
+            if (copyOption.isUseSetter() && targetProperty.getSetter() == null && copyOption.isIgnoreError()) {
+                continue;
+            }
+            steps.add(createStep(sourceProperty, targetProperty, copyOption));
+        }
+        BeanCopier<S, T> copier = new BeanCopier<>(sourceClass, targetClass, steps.toArray(new CopyStep[0]));
+        if (start != 0) {
+            ReflectionMetrics.recordPlanCompiled(sourceClass, targetClass, steps.size(), System.nanoTime() - start);
+        }
+        return copier;
+    }
+
+    /**
+     * 创建拷贝步骤，源属性为基本类型且目标属性为相同基本类型或其包装类型时，把读取句柄和写入句柄组合成一个句柄，
+     * 目标为相同基本类型时基本类型值不装箱，目标为包装类型时只在写入前装箱一次，不经过Object读取。
+     * 包装类型到基本类型的拷贝走通用步骤，读取到的已是包装对象，写入时只拆箱，不产生新对象。
+     * 属性类型不兼容或注册了转换器时，在此选定转换器，拷贝时不再查找。
+     */
+    private static CopyStep createStep(PropertyMetadata sourceProperty, PropertyMetadata targetProperty,
+                                       CopyOption copyOption) {
+        Class<?> sourceType = sourceProperty.getType();
+        Class<?> targetType = targetProperty.getType();
+        Converter<Object, Object> converter = Converters.find(sourceType, targetType, copyOption);
+        if (converter != null) {
+            return new PropertyCopyStep(sourceProperty, targetProperty, copyOption, converter);
+        }
+        if (sourceType.isPrimitive()
+                && (targetType == sourceType || targetType == AccessorGenerator.wrap(sourceType))) {
+            MethodHandle reader = sourceProperty.readHandle(copyOption.isUseGetter());
+            MethodHandle writer = targetProperty.writeHandle(copyOption.isUseSetter());
+            if (reader != null && writer != null) {
+                writer = writer.asType(MethodType.methodType(void.class, Object.class, sourceType));
+                // (Object target, Object source)void
+                MethodHandle handle = MethodHandles.collectArguments(writer, 1, reader);
+                return new PrimitiveCopyStep(sourceProperty, targetProperty, copyOption, handle);
+            }
+        }
+        return new PropertyCopyStep(sourceProperty, targetProperty, copyOption, null);
+    }
+
+    public Class<S> getSourceClass() {
+        return this.sourceClass;
+    }
+
+    public Class<T> getTargetClass() {
+        return this.targetClass;
+    }
+
+    /**
+     * 把source bean的属性拷贝到target bean
+     *
+     * @param source the source bean
+     * @param target the target bean
+     */
+    public void copy(S source, T target) {
+        if (source == null || target == null) {
+            return;
+        }
+        // 深拷贝时源bean映射到目标bean，属性值引用源bean时指向目标bean
+        DeepCopier.Context context = null;
+        if (this.deep) {
+            context = new DeepCopier.Context();
+            context.register(source, target);
+        }
+        if (ReflectionMetrics.enabled) {
+            this.copyWithMetrics(source, target, context);
+            return;
+        }
+        for (CopyStep step : this.steps) {
+            step.copy(source, target, context);
+        }
+    }
+
+    private void copyWithMetrics(Object source, Object target, DeepCopier.Context context) {
+        ReflectionMetrics.CopyStats stats = this.stats;
+        if (stats == null) {
+            stats = ReflectionMetrics.copyStats(this.sourceClass, this.targetClass);
+            this.stats = stats;
+        }
+        long start = System.nanoTime();
+        try {
+            for (CopyStep step : this.steps) {
+                step.copy(source, target, context);
+            }
+        } finally {
+            ReflectionMetrics.recordCopy(stats, this.sourceClass, this.targetClass, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 单个属性的拷贝步骤
+     */
+    private abstract static class CopyStep {
+        final PropertyMetadata sourceProperty;
+        final PropertyMetadata targetProperty;
+        final boolean ignoreError;
+
+        CopyStep(PropertyMetadata sourceProperty, PropertyMetadata targetProperty, CopyOption copyOption) {
+            this.sourceProperty = sourceProperty;
+            this.targetProperty = targetProperty;
+            this.ignoreError = copyOption.isIgnoreError();
+        }
+
+        /**
+         * 拷贝属性
+         *
+         * @param source  源bean
+         * @param target  目标bean
+         * @param context 深拷贝上下文，浅拷贝时为null
+         */
+        abstract void copy(Object source, Object target, DeepCopier.Context context);
+
+        boolean isDeep() {
+            return false;
+        }
+
+        void fail(Throwable e) {
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+            if (!this.ignoreError) {
+                throw new IllegalArgumentException(
+                        String.format("Can not copy the value of the field named '%s' to the field '%s'.",
+                                this.sourceProperty.getName(), this.targetProperty.getName()),
+                        e);
+            }
+        }
+    }
+
+    /**
+     * 通用拷贝步骤，以Object读写属性值，有转换器时先转换再写入
+     */
+    private static final class PropertyCopyStep extends CopyStep {
+        private final boolean useGetter;
+        private final boolean useSetter;
+        private final boolean ignoreNullValue;
+        /**
+         * 深拷贝且源属性声明类型不是总是直接引用的类型
+         */
+        private final boolean deep;
+        private final Converter<Object, Object> converter;
+
+        PropertyCopyStep(PropertyMetadata sourceProperty, PropertyMetadata targetProperty, CopyOption copyOption,
+                         Converter<Object, Object> converter) {
+            super(sourceProperty, targetProperty, copyOption);
+            this.useGetter = copyOption.isUseGetter();
+            this.useSetter = copyOption.isUseSetter();
+            this.ignoreNullValue = copyOption.isIgnoreNullValue();
+            this.converter = converter;
+            this.deep = converter == null && copyOption.isDeepCopy()
+                    && !DeepCopier.isReference(sourceProperty.getType());
+        }
+
+        @Override
+        boolean isDeep() {
+            return this.deep;
+        }
+
+        @Override
+        void copy(Object source, Object target, DeepCopier.Context context) {
+            try {
+                Object sourceValue = this.sourceProperty.read(source, this.useGetter);
+                if (sourceValue == null && this.ignoreNullValue) {
+                    return;
+                }
+                if (this.converter != null) {
+                    if (sourceValue != null) {
+                        sourceValue = this.converter.convert(sourceValue);
+                        if (sourceValue == null && this.ignoreNullValue) {
+                            return;
+                        }
+                    }
+                } else if (this.deep) {
+                    sourceValue = context.copy(sourceValue);
+                }
+                this.targetProperty.write(target, sourceValue, this.useSetter);
+            } catch (Exception e) {
+                this.fail(e);
+            }
+        }
+    }
+
+    /**
+     * 基本类型拷贝步骤，通过组合好的句柄直接传递基本类型值
+     */
+    private static final class PrimitiveCopyStep extends CopyStep {
+        /**
+         * (Object target, Object source)void
+         */
+        private final MethodHandle handle;
+
+        PrimitiveCopyStep(PropertyMetadata sourceProperty, PropertyMetadata targetProperty, CopyOption copyOption,
+                          MethodHandle handle) {
+            super(sourceProperty, targetProperty, copyOption);
+            this.handle = handle;
+        }
+
+        @Override
+        void copy(Object source, Object target, DeepCopier.Context context) {
+            try {
+                this.handle.invokeExact(target, source);
+            } catch (Throwable e) {
+                this.fail(e);
+            }
+        }
+    }
+}
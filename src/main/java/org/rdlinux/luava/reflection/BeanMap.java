@@ -0,0 +1,184 @@
+package org.rdlinux.luava.reflection;
+
+import java.util.*;
+
+/**
+ * bean的Map视图，不复制属性值，get时才读取属性，put时直接写入bean。
+ * 有get/set方法时使用get/set方法，否则直接读写属性。
+ * 视图的key固定为bean的属性名称，不支持新增或删除key。
+ */
+final class BeanMap extends AbstractMap<String, Object> {
+    private final Object bean;
+    private final Map<String, PropertyMetadata> index;
+    private final PropertyMetadata[] properties;
+    private EntrySet entrySet;
+
+    private BeanMap(Object bean, Map<String, PropertyMetadata> index, PropertyMetadata[] properties) {
+        this.bean = bean;
+        this.index = index;
+        this.properties = properties;
+    }
+
+    /**
+     * 创建包含bean所有属性的视图
+     *
+     * @param bean bean
+     */
+    static BeanMap of(Object bean) {
+        ClassMetadata metadata = ClassMetadata.forClass(bean.getClass());
+        return new BeanMap(bean, metadata.propertyIndex(), metadata.propertyArray());
+    }
+
+    /**
+     * 创建只包含指定属性的视图
+     *
+     * @param bean          bean
+     * @param propertyNames 属性名称
+     */
+    static BeanMap of(Object bean, String... propertyNames) {
+        ClassMetadata metadata = ClassMetadata.forClass(bean.getClass());
+        Map<String, PropertyMetadata> index = new LinkedHashMap<>();
+        for (String propertyName : propertyNames) {
+            PropertyMetadata property = metadata.getProperty(propertyName);
+            if (property == null) {
+                throw new IllegalArgumentException(String.format("Can not find the field named '%s' in %s.",
+                        propertyName, metadata.getType().getName()));
+            }
+            index.put(propertyName, property);
+        }
+        return new BeanMap(bean, index, index.values().toArray(new PropertyMetadata[0]));
+    }
+
+    private static Object read(Object bean, PropertyMetadata property) {
+        return property.read(bean, property.getGetter() != null);
+    }
+
+    private static void write(Object bean, PropertyMetadata property, Object value) {
+        property.write(bean, value, property.getSetter() != null);
+    }
+
+    @Override
+    public int size() {
+        return this.properties.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return this.index.containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        PropertyMetadata property = this.index.get(key);
+        if (property == null) {
+            return null;
+        }
+        return read(this.bean, property);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        PropertyMetadata property = this.index.get(key);
+        if (property == null) {
+            throw new IllegalArgumentException(String.format("Can not find the field named '%s' in %s.", key,
+                    this.bean.getClass().getName()));
+        }
+        Object oldValue = read(this.bean, property);
+        write(this.bean, property, value);
+        return oldValue;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        throw new UnsupportedOperationException("Can not remove the field of a bean.");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("Can not remove the field of a bean.");
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(this.index.keySet());
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (this.entrySet == null) {
+            this.entrySet = new EntrySet();
+        }
+        return this.entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new Iterator<Entry<String, Object>>() {
+                private int cursor;
+
+                @Override
+                public boolean hasNext() {
+                    return this.cursor < BeanMap.this.properties.length;
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    if (!this.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return new PropertyEntry(BeanMap.this.properties[this.cursor++]);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return BeanMap.this.properties.length;
+        }
+    }
+
+    private final class PropertyEntry implements Entry<String, Object> {
+        private final PropertyMetadata property;
+
+        PropertyEntry(PropertyMetadata property) {
+            this.property = property;
+        }
+
+        @Override
+        public String getKey() {
+            return this.property.getName();
+        }
+
+        @Override
+        public Object getValue() {
+            return read(BeanMap.this.bean, this.property);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Object oldValue = read(BeanMap.this.bean, this.property);
+            write(BeanMap.this.bean, this.property, value);
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            return Objects.equals(this.getKey(), entry.getKey()) && Objects.equals(this.getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(this.getKey()) ^ Objects.hashCode(this.getValue());
+        }
+
+        @Override
+        public String toString() {
+            return this.getKey() + "=" + this.getValue();
+        }
+    }
+}
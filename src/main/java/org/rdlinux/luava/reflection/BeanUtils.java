@@ -1,28 +1,83 @@
 package org.rdlinux.luava.reflection;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class BeanUtils {
     /**
-     * bean属性拷贝,把source bean的属性拷贝到target bean
+     * 批量拷贝默认的并行阈值，元素数量达到该值时才并行拷贝
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 2048;
+
+    /**
+     * bean属性拷贝,把source bean的属性拷贝到target bean。
+     * 不指定忽略属性且存在拷贝规则为默认设置的编译期生成拷贝器({@link GenerateCopier})时，使用生成的拷贝器
      *
      * @param source       the source bean
      * @param target       the target bean
      * @param ignoreFields 忽略属性
      */
     public static void copyProperties(Object source, Object target, String... ignoreFields) {
-        CopyOption copyOptions = new CopyOption();
-        copyOptions.addIgnoreFields(ignoreFields);
-        BeanUtils.copyProperties(source, target, copyOptions);
+        if (source == null || target == null) {
+            return;
+        }
+        if (ignoreFields == null || ignoreFields.length == 0) {
+            GeneratedCopier<Object, Object> generated = GeneratedCopierRegistry.find(source.getClass(),
+                    target.getClass());
+            if (generated != null && generated.isDefaultOption()) {
+                generated.copy(source, target);
+                return;
+            }
+        }
+        BeanUtils.cachedCopier(source.getClass(), target.getClass(), ignoreFields).copy(source, target);
+    }
+
+    /**
+     * 获取拷贝器，按(源类型, 目标类型, 拷贝选项的快照)缓存，设置相同的拷贝选项复用同一个拷贝器
+     *
+     * @param sourceClass 源类型
+     * @param targetClass 目标类型
+     * @param copyOption  拷贝属性
+     */
+    @SuppressWarnings("unchecked")
+    static BeanCopier<Object, Object> copier(Class<?> sourceClass, Class<?> targetClass, CopyOption copyOption) {
+        CopyOption snapshot = CopyOption.snapshot(copyOption);
+        return (BeanCopier<Object, Object>) ReflectionCache.<BeanCopier<?, ?>>getPlan(sourceClass, targetClass,
+                snapshot, () -> BeanUtils.compile(sourceClass, targetClass, snapshot));
+    }
+
+    /**
+     * 获取缓存的拷贝器，按(源类型, 目标类型, 忽略属性)缓存，没有忽略属性时与默认拷贝选项共用同一个拷贝器
+     *
+     * @param sourceClass  源类型
+     * @param targetClass  目标类型
+     * @param ignoreFields 忽略属性
+     */
+    @SuppressWarnings("unchecked")
+    static BeanCopier<Object, Object> cachedCopier(Class<?> sourceClass, Class<?> targetClass,
+                                                   String... ignoreFields) {
+        if (ignoreFields == null || ignoreFields.length == 0) {
+            return BeanUtils.copier(sourceClass, targetClass, CopyOption.DEFAULT);
+        }
+        List<String> planKey = Arrays.asList(ignoreFields.clone());
+        return (BeanCopier<Object, Object>) ReflectionCache.<BeanCopier<?, ?>>getPlan(sourceClass, targetClass,
+                planKey, () -> {
+                    CopyOption copyOptions = new CopyOption();
+                    copyOptions.addIgnoreFields(ignoreFields);
+                    return BeanUtils.compile(sourceClass, targetClass, copyOptions);
+                });
     }
 
     /**
-     * bean属性拷贝,把source bean的属性拷贝到target bean
+     * bean属性拷贝,把source bean的属性拷贝到target bean。
+     * 拷贝器按拷贝选项的值缓存，传入{@link CopyOption#freeze()}生成的快照可省去每次调用生成快照的开销
      *
      * @param source     the source bean
      * @param target     the target bean
@@ -32,89 +87,378 @@ public class BeanUtils {
         if (source == null || target == null) {
             return;
         }
+        BeanUtils.copier(source.getClass(), target.getClass(), copyOption).copy(source, target);
+    }
+
+    /**
+     * bean属性深拷贝，可变的属性值拷贝其副本后再写入target bean，共享引用和循环引用在拷贝结果中保持不变
+     *
+     * @param source       the source bean
+     * @param target       the target bean
+     * @param ignoreFields 忽略属性
+     */
+    public static void deepCopyProperties(Object source, Object target, String... ignoreFields) {
+        CopyOption copyOptions = new CopyOption().setDeepCopy(true);
+        copyOptions.addIgnoreFields(ignoreFields);
+        BeanUtils.copyProperties(source, target, copyOptions);
+    }
+
+    /**
+     * 深拷贝对象。不可变类型直接引用；数组、集合、Map复制容器后逐个深拷贝元素；
+     * bean通过无参构造方法创建新实例后逐个深拷贝非static属性。
+     * 对象图中共享的引用和循环引用在拷贝结果中保持不变。
+     * 没有public构造方法的集合(如不可变集合)复制为对应的常用实现。
+     * JDK中的原子类、StringBuilder、Optional等复制其内容，其他可clone的JDK类型调用clone，
+     * 其余JDK类型(如流、线程)直接引用。
+     *
+     * @param source 源对象
+     */
+    public static <T> T deepCopy(T source) {
+        return DeepCopier.copy(source);
+    }
+
+    /**
+     * 把source bean的属性拷贝到新创建的目标对象，目标类型可以是不可变类型或record。
+     * 优先通过构造方法创建目标对象，构造方法参数按名称对应源属性，源对象没有对应属性的参数取默认值；
+     * 创建后继续拷贝构造方法参数以外的属性。没有可用的构造方法，或构造方法没有覆盖所有可拷贝属性且有无参构造方法时，
+     * 使用无参构造方法并拷贝属性。
+     * 构造方法的选择和参数对应关系只计算一次
+     *
+     * @param source      the source bean
+     * @param targetClass 目标类型
+     */
+    public static <T> T copyTo(Object source, Class<T> targetClass) {
+        return BeanUtils.copyTo(source, targetClass, null);
+    }
+
+    /**
+     * 把source bean的属性拷贝到新创建的目标对象，目标类型可以是不可变类型或record。
+     * 属性映射、忽略属性、类型转换器同样作用于构造方法参数，编译结果按拷贝选项的值缓存
+     *
+     * @param source      the source bean
+     * @param targetClass 目标类型
+     * @param copyOption  拷贝属性
+     */
+    public static <T> T copyTo(Object source, Class<T> targetClass, CopyOption copyOption) {
+        if (targetClass == null) {
+            throw new IllegalArgumentException("targetClass can not be null");
+        }
+        if (source == null) {
+            return null;
+        }
+        return targetClass.cast(ConstructorCopier.forClasses(source.getClass(), targetClass, copyOption)
+                .copy(source));
+    }
+
+    /**
+     * 比较两个同类型bean的属性，返回值不同的属性。
+     * 基本类型属性按基本类型比较，数组按内容比较，其他属性按equals比较
+     *
+     * @param original     原bean
+     * @param modified     修改后的bean
+     * @param ignoreFields 忽略属性
+     */
+    public static PropertyDiff diff(Object original, Object modified, String... ignoreFields) {
+        CopyOption copyOption = new CopyOption();
+        copyOption.addIgnoreFields(ignoreFields);
+        return BeanUtils.diff(original, modified, copyOption);
+    }
+
+    /**
+     * 比较两个同类型bean的属性，返回值不同的属性。
+     * 使用拷贝选项中的忽略属性，按是否使用get方法读取属性值，忽略错误时读取失败的属性视为未变化
+     *
+     * @param original   原bean
+     * @param modified   修改后的bean
+     * @param copyOption 拷贝属性
+     */
+    public static PropertyDiff diff(Object original, Object modified, CopyOption copyOption) {
+        if (original == null || modified == null) {
+            throw new IllegalArgumentException("original and modified can not be null");
+        }
         if (copyOption == null) {
             copyOption = new CopyOption();
         }
-        Map<String, Field> sourceFieldMap = BeanUtils.getFieldMap(source.getClass());
-        Map<String, Field> targetFieldMap = BeanUtils.getFieldMap(target.getClass());
-        Set<String> fieldNames = sourceFieldMap.keySet();
-        for (String fieldName : fieldNames) {
-            if (copyOption.getIgnoreFields().contains(fieldName)) {
-                continue;
+        Class<?> type = ClassMetadata.forClass(original.getClass()).getType();
+        if (type != ClassMetadata.forClass(modified.getClass()).getType()) {
+            throw new IllegalArgumentException(String.format("Can not compare %s with %s.",
+                    original.getClass().getName(), modified.getClass().getName()));
+        }
+        DiffPlan plan = DiffPlan.forClass(type, copyOption.isUseGetter());
+        BitSet changed = plan.compare(original, modified, copyOption.getIgnoreFields(), copyOption.isIgnoreError());
+        return new PropertyDiff(plan, original, modified, changed);
+    }
+
+    /**
+     * 编译bean拷贝器，属性对应关系、忽略属性、属性映射以及get/set方法只计算一次，
+     * 返回的拷贝器不可变，可重复使用
+     *
+     * @param sourceClass 源类型
+     * @param targetClass 目标类型
+     * @param copyOption  拷贝属性
+     */
+    public static <S, T> BeanCopier<S, T> compile(Class<S> sourceClass, Class<T> targetClass, CopyOption copyOption) {
+        return BeanCopier.compile(sourceClass, targetClass, copyOption);
+    }
+
+    /**
+     * 创建转换函数，拷贝器只编译一次，每次调用创建目标bean并拷贝属性，源bean为null时返回null。
+     * 返回的函数不可变，可在多线程之间共享
+     *
+     * @param sourceClass 源类型，源bean为其子类时只拷贝源类型中的属性
+     * @param targetClass 目标类型，必须有无参构造方法
+     * @param copyOption  拷贝属性
+     */
+    public static <S, T> Function<S, T> mapper(Class<S> sourceClass, Class<T> targetClass, CopyOption copyOption) {
+        BeanCopier<Object, Object> copier = BeanUtils.copier(sourceClass, targetClass, copyOption);
+        Supplier<T> targetSupplier = Instantiators.forClass(targetClass);
+        return source -> {
+            if (source == null) {
+                return null;
             }
-            String targetFieldName = copyOption.getFieldMapping().get(fieldName);
-            if (targetFieldName == null) {
-                targetFieldName = fieldName;
+            T target = targetSupplier.get();
+            copier.copy(source, target);
+            return target;
+        };
+    }
+
+    /**
+     * 惰性转换流中的bean，每个元素在被消费时才创建目标bean并拷贝属性，占用的内存与元素数量无关。
+     * 保留源流的并行状态和拆分特征，源bean为null时转换为null，关闭返回的流时关闭源流。
+     * 总是使用运行时编译的拷贝器，不使用编译期生成的拷贝器，不指定拷贝选项时与copyProperties(source, target)共用拷贝器
+     *
+     * @param sources     源bean流
+     * @param targetClass 目标类型，必须有无参构造方法
+     */
+    public static <S, T> Stream<T> map(Stream<S> sources, Class<T> targetClass) {
+        return BeanUtils.map(sources, targetClass, null);
+    }
+
+    /**
+     * 惰性转换流中的bean，每个元素在被消费时才创建目标bean并拷贝属性，占用的内存与元素数量无关。
+     * 保留源流的并行状态和拆分特征，源bean为null时转换为null，关闭返回的流时关闭源流。
+     * 总是使用运行时编译的拷贝器，不使用编译期生成的拷贝器，不指定拷贝选项时与copyProperties(source, target)共用拷贝器
+     *
+     * @param sources     源bean流
+     * @param targetClass 目标类型，必须有无参构造方法
+     * @param copyOption  拷贝属性
+     */
+    public static <S, T> Stream<T> map(Stream<S> sources, Class<T> targetClass, CopyOption copyOption) {
+        if (sources == null) {
+            throw new IllegalArgumentException("sources can not be null");
+        }
+        Supplier<T> targetSupplier = Instantiators.forClass(targetClass);
+        MappingSpliterator<T> spliterator = new MappingSpliterator<>(sources.spliterator(), targetClass,
+                targetSupplier, CopyOption.snapshot(copyOption));
+        return StreamSupport.stream(spliterator, sources.isParallel()).onClose(sources::close);
+    }
+
+    /**
+     * 批量拷贝，拷贝器只编译一次，元素数量达到{@link #DEFAULT_PARALLEL_THRESHOLD}时在公共ForkJoinPool中并行拷贝，
+     * 返回结果与源集合顺序一致
+     *
+     * @param sources     源bean集合
+     * @param targetClass 目标类型，必须有无参构造方法
+     * @param copyOption  拷贝属性
+     */
+    public static <S, T> List<T> copyAll(Collection<? extends S> sources, Class<T> targetClass,
+                                         CopyOption copyOption) {
+        return BeanUtils.copyAll(sources, Instantiators.forClass(targetClass), copyOption);
+    }
+
+    /**
+     * 批量拷贝，拷贝器只编译一次，元素数量达到{@link #DEFAULT_PARALLEL_THRESHOLD}时在公共ForkJoinPool中并行拷贝，
+     * 返回结果与源集合顺序一致
+     *
+     * @param sources        源bean集合
+     * @param targetSupplier 目标bean提供者
+     * @param copyOption     拷贝属性
+     */
+    public static <S, T> List<T> copyAll(Collection<? extends S> sources, Supplier<T> targetSupplier,
+                                         CopyOption copyOption) {
+        return BeanUtils.copyAll(sources, targetSupplier, copyOption, DEFAULT_PARALLEL_THRESHOLD, null);
+    }
+
+    /**
+     * 批量拷贝，拷贝器只编译一次，返回结果与源集合顺序一致
+     *
+     * @param sources        源bean集合
+     * @param targetSupplier 目标bean提供者，并行拷贝时会被多个线程调用
+     * @param copyOption     拷贝属性
+     * @param threshold      并行阈值，元素数量达到该值时才并行拷贝
+     * @param pool           执行并行拷贝的线程池，为null时使用公共ForkJoinPool
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, T> List<T> copyAll(Collection<? extends S> sources, Supplier<T> targetSupplier,
+                                         CopyOption copyOption, int threshold, ForkJoinPool pool) {
+        if (targetSupplier == null) {
+            throw new IllegalArgumentException("targetSupplier can not be null");
+        }
+        if (sources == null || sources.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Object[] input = sources.toArray();
+        Object[] output = new Object[input.length];
+        if (pool == null) {
+            pool = ForkJoinPool.commonPool();
+        }
+        copyOption = CopyOption.snapshot(copyOption);
+        // 用第一个非空元素编译拷贝器，其结果直接写入输出
+        BeanCopier<Object, Object> copier = null;
+        for (int i = 0; i < input.length; i++) {
+            if (input[i] != null) {
+                Object target = targetSupplier.get();
+                copier = BeanUtils.copier(input[i].getClass(), target.getClass(), copyOption);
+                copier.copy(input[i], target);
+                output[i] = target;
+                break;
             }
+        }
+        if (copier == null) {
+            return new ArrayList<>(Collections.nCopies(input.length, null));
+        }
+        BulkCopyTask task = new BulkCopyTask(input, output, (Supplier<Object>) targetSupplier, copyOption, copier,
+                0, input.length, Math.max(1, input.length / (pool.getParallelism() * 4)));
+        if (input.length < threshold || pool.getParallelism() <= 1) {
+            task.copyRange();
+        } else {
+            pool.invoke(task);
+        }
+        return (List<T>) new ArrayList<>(Arrays.asList(output));
+    }
+
+    /**
+     * 转换源流元素的拆分器，拆分时随源拆分器一起拆分，每个拆分器缓存最近使用的拷贝器
+     */
+    private static final class MappingSpliterator<T> implements Spliterator<T> {
+        /**
+         * 转换后元素不再保证有序和唯一
+         */
+        private static final int CLEARED_CHARACTERISTICS = Spliterator.SORTED | Spliterator.DISTINCT;
+        private final Spliterator<?> source;
+        private final Class<T> targetClass;
+        private final Supplier<T> targetSupplier;
+        private final CopyOption copyOption;
+        private BeanCopier<Object, Object> copier;
 
-            Field targetField = targetFieldMap.get(targetFieldName);
-            if (targetField == null) {
-                continue;
+        MappingSpliterator(Spliterator<?> source, Class<T> targetClass, Supplier<T> targetSupplier,
+                           CopyOption copyOption) {
+            this.source = source;
+            this.targetClass = targetClass;
+            this.targetSupplier = targetSupplier;
+            this.copyOption = copyOption;
+        }
+
+        private T convert(Object source) {
+            if (source == null) {
+                return null;
+            }
+            BeanCopier<Object, Object> copier = this.copier;
+            if (copier == null || copier.getSourceClass() != source.getClass()) {
+                copier = BeanUtils.copier(source.getClass(), this.targetClass, this.copyOption);
+                this.copier = copier;
             }
+            T target = this.targetSupplier.get();
+            copier.copy(source, target);
+            return target;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            return this.source.tryAdvance(source -> action.accept(this.convert(source)));
+        }
 
-            Field sourceField = sourceFieldMap.get(fieldName);
-            if (sourceField == null) {
-                continue;
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            this.source.forEachRemaining(source -> action.accept(this.convert(source)));
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<?> prefix = this.source.trySplit();
+            if (prefix == null) {
+                return null;
             }
+            MappingSpliterator<T> split = new MappingSpliterator<>(prefix, this.targetClass, this.targetSupplier,
+                    this.copyOption);
+            split.copier = this.copier;
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.source.estimateSize();
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return this.source.getExactSizeIfKnown();
+        }
+
+        @Override
+        public int characteristics() {
+            return this.source.characteristics() & ~CLEARED_CHARACTERISTICS;
+        }
+    }
 
-            Object sourceValue = ReflectionUtils.getFieldValue(source, sourceField, copyOption.isUseGetter());
-            if (sourceValue == null && copyOption.isIgnoreNullValue()) {
-                continue;
+    /**
+     * 批量拷贝任务，按区间拆分，结果写入预分配数组的对应位置
+     */
+    private static final class BulkCopyTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final Object[] input;
+        private final Object[] output;
+        private final Supplier<Object> targetSupplier;
+        private final CopyOption copyOption;
+        private final BeanCopier<Object, Object> copier;
+        private final int from;
+        private final int to;
+        private final int batchSize;
+
+        BulkCopyTask(Object[] input, Object[] output, Supplier<Object> targetSupplier, CopyOption copyOption,
+                     BeanCopier<Object, Object> copier, int from, int to, int batchSize) {
+            this.input = input;
+            this.output = output;
+            this.targetSupplier = targetSupplier;
+            this.copyOption = copyOption;
+            this.copier = copier;
+            this.from = from;
+            this.to = to;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= this.batchSize) {
+                this.copyRange();
+            } else {
+                int middle = (this.from + this.to) >>> 1;
+                invokeAll(new BulkCopyTask(this.input, this.output, this.targetSupplier, this.copyOption,
+                                this.copier, this.from, middle, this.batchSize),
+                        new BulkCopyTask(this.input, this.output, this.targetSupplier, this.copyOption,
+                                this.copier, middle, this.to, this.batchSize));
             }
+        }
 
-            try {
-                ReflectionUtils.setFieldValue(target, targetField, sourceValue, copyOption.isUseSetter());
-            } catch (Exception e) {
-                if (!copyOption.isIgnoreError()) {
-                    throw new IllegalArgumentException(
-                            String.format("Can not copy the value of the field named '%s' to the field '%s'.",
-                                    fieldName, targetField.getName()),
-                            e);
+        @SuppressWarnings("unchecked")
+        void copyRange() {
+            BeanCopier<Object, Object> copier = this.copier;
+            for (int i = this.from; i < this.to; i++) {
+                Object source = this.input[i];
+                if (source == null || this.output[i] != null) {
+                    continue;
                 }
+                Object target = this.targetSupplier.get();
+                if (copier.getSourceClass() != source.getClass()
+                        || copier.getTargetClass() != target.getClass()) {
+                    copier = BeanUtils.copier(source.getClass(), target.getClass(), this.copyOption);
+                }
+                copier.copy(source, target);
+                this.output[i] = target;
             }
         }
     }
 
-//    /**
-//     * 是否需要递归
-//     */
-//    private static boolean isNeedRecursion(Object value) {
-//        Class<?> valueType = value.getClass();
-//        if (byte.class.isAssignableFrom(valueType) || Byte.class.isAssignableFrom(valueType)) {
-//            return false;
-//        } else if (char.class.isAssignableFrom(valueType)) {
-//            return false;
-//        } else if (Character.class.isAssignableFrom(valueType)) {
-//            return false;
-//        } else if (short.class.isAssignableFrom(valueType)) {
-//            return false;
-//        } else if (int.class.isAssignableFrom(valueType)) {
-//            return false;
-//        } else if (long.class.isAssignableFrom(valueType)) {
-//            return false;
-//        } else if (float.class.isAssignableFrom(valueType)) {
-//            return false;
-//        } else if (double.class.isAssignableFrom(valueType)) {
-//            return false;
-//        } else if (CharSequence.class.isAssignableFrom(valueType)) {
-//            return false;
-//        } else if (Number.class.isAssignableFrom(valueType)) {
-//            return false;
-//        } else if (InputStream.class.isAssignableFrom(valueType)) {
-//            return false;
-//        } else if (OutputStream.class.isAssignableFrom(valueType)) {
-//            return false;
-//        } else if (Readable.class.isAssignableFrom(valueType)) {
-//            return false;
-//        } else if (Writer.class.isAssignableFrom(valueType)) {
-//            return false;
-//        } else if (Runnable.class.isAssignableFrom(valueType)) {
-//            return false;
-//        } else {
-//            return !Callable.class.isAssignableFrom(valueType);
-//        }
-//    }
-
     /**
      * 转换成map
      *
@@ -126,13 +470,12 @@ public class BeanUtils {
             throw new IllegalArgumentException("source can not be null");
         } else {
             Map<String, Object> result = new HashMap<>();
-            Map<String, Field> sourceFieldMap = BeanUtils.getFieldMap(source.getClass());
-            Set<String> fieldNames = sourceFieldMap.keySet();
-            for (String fieldName : fieldNames) {
-                Field sourceField = sourceFieldMap.get(fieldName);
+            ClassMetadata sourceMetadata = ClassMetadata.forClass(source.getClass());
+            for (PropertyMetadata sourceProperty : sourceMetadata.propertyArray()) {
+                Field sourceField = sourceProperty.getField();
                 Object sourceValue = ReflectionUtils.getFieldValue(source, sourceField, useGetter);
                 if (sourceValue != null) {
-                    result.put("fieldName", sourceValue);
+                    result.put(sourceProperty.getName(), sourceValue);
                 }
             }
             return result;
@@ -148,16 +491,72 @@ public class BeanUtils {
         return BeanUtils.beanToMap(source, true);
     }
 
-    private static Map<String, Field> getFieldMap(Class<?> clazz) {
-        List<Field> fields = ReflectionUtils.getAllFields(clazz);
-        Map<String, Field> fieldMap = new HashMap<>();
-        for (Field field : fields) {
-            int modifiers = field.getModifiers();
-            if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers)) {
-                continue;
-            }
-            fieldMap.put(field.getName(), field);
+    /**
+     * 获取bean的Map视图，不复制属性值，get时才读取属性，put时直接写入bean，
+     * 视图的key为bean的所有非static、非final属性名称，不支持新增或删除key
+     *
+     * @param source bean
+     */
+    public static Map<String, Object> asMap(Object source) {
+        if (source == null) {
+            throw new IllegalArgumentException("source can not be null");
+        }
+        return BeanMap.of(source);
+    }
+
+    /**
+     * 获取bean的Map视图，视图只包含指定的属性，get时才读取属性，put时直接写入bean
+     *
+     * @param source        bean
+     * @param propertyNames 视图包含的属性名称
+     */
+    public static Map<String, Object> asMap(Object source, String... propertyNames) {
+        if (source == null) {
+            throw new IllegalArgumentException("source can not be null");
+        }
+        if (propertyNames == null) {
+            return BeanMap.of(source);
         }
-        return fieldMap;
+        return BeanMap.of(source, propertyNames);
+    }
+
+    /**
+     * 把Map中的值绑定到新创建的bean，Map的key为属性名称
+     *
+     * @param source      源Map
+     * @param targetClass 目标类型，必须有无参构造方法
+     */
+    public static <T> T mapToBean(Map<String, ?> source, Class<T> targetClass) {
+        if (source == null) {
+            return null;
+        }
+        return MapBinder.forClass(targetClass).bind(source);
+    }
+
+    /**
+     * 把Map中的值绑定到新创建的bean，Map的key为属性名称
+     *
+     * @param source      源Map
+     * @param targetClass 目标类型，必须有无参构造方法
+     * @param copyOption  拷贝属性，忽略属性和属性映射均以Map的key为源属性名称，绑定器按拷贝选项的值缓存
+     */
+    public static <T> T mapToBean(Map<String, ?> source, Class<T> targetClass, CopyOption copyOption) {
+        if (source == null) {
+            return null;
+        }
+        CopyOption snapshot = CopyOption.snapshot(copyOption);
+        // 以Map.class为源类型缓存绑定器，键中加入MapBinder.class，与从Map拷贝属性的拷贝器区分
+        return ReflectionCache.<MapBinder<T>>getPlan(Map.class, targetClass, Arrays.asList(MapBinder.class, snapshot),
+                () -> BeanUtils.compileBinder(targetClass, snapshot)).bind(source);
+    }
+
+    /**
+     * 编译Map到bean的绑定器，属性名称到set方法的对应关系只计算一次，返回的绑定器不可变，可重复使用
+     *
+     * @param targetClass 目标类型
+     * @param copyOption  拷贝属性，忽略属性和属性映射均以Map的key为源属性名称
+     */
+    public static <T> MapBinder<T> compileBinder(Class<T> targetClass, CopyOption copyOption) {
+        return MapBinder.compile(targetClass, copyOption);
     }
 }
@@ -0,0 +1,80 @@
+package org.rdlinux.luava.reflection;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * 内置的代理类解析器
+ */
+enum BuiltinProxyResolver implements ProxyResolver {
+    /**
+     * CGLIB，包括spring内置的CGLIB
+     */
+    CGLIB {
+        @Override
+        public boolean isProxyClass(Class<?> type) {
+            String name = type.getName();
+            return name.contains("CGLIB$") || name.contains("$$EnhancerBy");
+        }
+    },
+    /**
+     * ByteBuddy
+     */
+    BYTE_BUDDY {
+        @Override
+        public boolean isProxyClass(Class<?> type) {
+            return type.getName().contains("$ByteBuddy$");
+        }
+    },
+    /**
+     * Javassist
+     */
+    JAVASSIST {
+        @Override
+        public boolean isProxyClass(Class<?> type) {
+            return type.getName().contains("_$$_jvst") || implementsInterface(type, "javassist.util.proxy.ProxyObject")
+                    || implementsInterface(type, "javassist.util.proxy.Proxy");
+        }
+    },
+    /**
+     * Hibernate懒加载代理
+     */
+    HIBERNATE {
+        @Override
+        public boolean isProxyClass(Class<?> type) {
+            return type.getName().contains("$HibernateProxy$")
+                    || implementsInterface(type, "org.hibernate.proxy.HibernateProxy");
+        }
+    },
+    /**
+     * jdk动态代理，没有真实类
+     */
+    JDK {
+        @Override
+        public boolean isProxyClass(Class<?> type) {
+            return Proxy.isProxyClass(type);
+        }
+
+        @Override
+        public Class<?> getUserClass(Class<?> proxyClass) {
+            return proxyClass;
+        }
+    };
+
+    private static boolean implementsInterface(Class<?> type, String interfaceName) {
+        for (Class<?> interfaceClass : type.getInterfaces()) {
+            if (interfaceClass.getName().equals(interfaceName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Class<?> getUserClass(Class<?> proxyClass) {
+        Class<?> superclass = proxyClass.getSuperclass();
+        if (superclass == null || superclass == Object.class) {
+            return proxyClass;
+        }
+        return superclass;
+    }
+}
@@ -0,0 +1,59 @@
+package org.rdlinux.luava.reflection;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * 按类缓存的值，基于{@link ClassValue}，缓存值随类一起回收，不阻止类加载器被回收。
+ * 所有实例都登记在册，由{@link ReflectionCache}统一按类失效和清空
+ *
+ * @param <V> 缓存值类型
+ */
+final class ClassCache<V> {
+    private static final List<ClassCache<?>> INSTANCES = new CopyOnWriteArrayList<>();
+    private final Function<Class<?>, ? extends V> loader;
+    private volatile ClassValue<V> values;
+
+    ClassCache(Function<Class<?>, ? extends V> loader) {
+        this.loader = loader;
+        this.values = this.newValues();
+        INSTANCES.add(this);
+    }
+
+    private ClassValue<V> newValues() {
+        return new ClassValue<V>() {
+            @Override
+            protected V computeValue(Class<?> type) {
+                return ClassCache.this.loader.apply(type);
+            }
+        };
+    }
+
+    V get(Class<?> type) {
+        return this.values.get(type);
+    }
+
+    void invalidate(Class<?> type) {
+        this.values.remove(type);
+    }
+
+    /**
+     * 清空缓存，替换为新的{@link ClassValue}，旧的缓存值随之不可达
+     */
+    void clear() {
+        this.values = this.newValues();
+    }
+
+    static void invalidateAll(Class<?> type) {
+        for (ClassCache<?> cache : INSTANCES) {
+            cache.invalidate(type);
+        }
+    }
+
+    static void clearAll() {
+        for (ClassCache<?> cache : INSTANCES) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package org.rdlinux.luava.reflection;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * 类元数据，每个类只构建一次，缓存属性列表、属性名称索引以及属性的get/set方法
+ */
+public final class ClassMetadata {
+    private static final ClassCache<ClassMetadata> CACHE = new ClassCache<>(type -> {
+        ClassMetadata metadata = new ClassMetadata(type);
+        ReflectionMetrics.recordMetadataCreated();
+        return metadata;
+    });
+    private final Class<?> type;
+    /**
+     * 所有属性，包括超类的属性，顺序与{@link ReflectionUtils#getAllFields(Class)}一致
+     */
+    private final Field[] fields;
+    /**
+     * 属性名称索引，同名属性以子类优先
+     */
+    private final Map<String, Field> fieldIndex;
+    /**
+     * 属性对应的get/set方法
+     */
+    private final Map<Field, PropertyMetadata> fieldProperties;
+    /**
+     * 可拷贝的属性，即非static、非final的属性
+     */
+    private final Map<String, PropertyMetadata> properties;
+    private final PropertyMetadata[] propertyArray;
+    /**
+     * public无参方法，按方法名称索引
+     */
+    private final Map<String, Method> noArgMethods;
+    /**
+     * public单参数方法，按方法名称索引
+     */
+    private final Map<String, List<Method>> oneArgMethods;
+
+    private ClassMetadata(Class<?> type) {
+        this.type = type;
+        List<Field> fieldList = new ArrayList<>();
+        Class<?> current = type;
+        while (current != null && current != Object.class) {
+            Collections.addAll(fieldList, current.getDeclaredFields());
+            current = current.getSuperclass();
+        }
+        this.fields = fieldList.toArray(new Field[0]);
+        this.noArgMethods = new HashMap<>();
+        this.oneArgMethods = new HashMap<>();
+        this.indexMethods(type);
+        Map<String, Field> fieldIndex = new HashMap<>();
+        Map<Field, PropertyMetadata> fieldProperties = new HashMap<>();
+        Map<String, PropertyMetadata> properties = new HashMap<>();
+        for (Field field : this.fields) {
+            trySetAccessible(field);
+            fieldIndex.putIfAbsent(field.getName(), field);
+            PropertyMetadata property = new PropertyMetadata(field, this.findGetter(field), this.findSetter(field));
+            fieldProperties.put(field, property);
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers)) {
+                continue;
+            }
+            properties.put(field.getName(), property);
+        }
+        this.fieldIndex = fieldIndex;
+        this.fieldProperties = fieldProperties;
+        this.properties = properties;
+        this.propertyArray = properties.values().toArray(new PropertyMetadata[0]);
+    }
+
+    /**
+     * 获取类的元数据，代理类会被解析为其真实类
+     *
+     * @param type 类类型
+     */
+    public static ClassMetadata forClass(Class<?> type) {
+        if (ReflectionMetrics.enabled) {
+            ReflectionMetrics.recordMetadataLookup();
+        }
+        return CACHE.get(ReflectionUtils.getRealCalssOfProxyClass(type));
+    }
+
+    static boolean trySetAccessible(AccessibleObject accessibleObject) {
+        if (accessibleObject == null) {
+            return false;
+        }
+        try {
+            accessibleObject.setAccessible(true);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 属性名称首字母大写
+     */
+    private static String capitalize(String fieldName) {
+        char first = fieldName.charAt(0);
+        if (Character.isUpperCase(first)) {
+            return fieldName;
+        }
+        return Character.toUpperCase(first) + fieldName.substring(1);
+    }
+
+    /**
+     * 判断boolean属性名称是否已以is开头，等价于正则^is[A-Z0-9_]+.*$
+     */
+    private static boolean isPrefixedWithIs(String fieldName) {
+        if (fieldName.length() < 3 || !fieldName.startsWith("is")) {
+            return false;
+        }
+        char c = fieldName.charAt(2);
+        return (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    /**
+     * 扫描一次getMethods()，按名称索引可能的get/set方法
+     */
+    private void indexMethods(Class<?> type) {
+        Method[] methods;
+        try {
+            methods = type.getMethods();
+        } catch (SecurityException | LinkageError e) {
+            return;
+        }
+        for (Method method : methods) {
+            int parameterCount = method.getParameterCount();
+            if (parameterCount == 0) {
+                Method existing = this.noArgMethods.get(method.getName());
+                // 协变返回类型时取返回类型最具体的方法，与Class.getMethod一致
+                if (existing == null || existing.isBridge() && !method.isBridge()
+                        || existing.getReturnType().isAssignableFrom(method.getReturnType())
+                        && existing.isBridge() == method.isBridge()) {
+                    this.noArgMethods.put(method.getName(), method);
+                }
+            } else if (parameterCount == 1) {
+                this.oneArgMethods.computeIfAbsent(method.getName(), k -> new ArrayList<>(1)).add(method);
+            }
+        }
+    }
+
+    /**
+     * 从方法索引中查找属性的get方法，不存在时返回null
+     *
+     * @param field 属性
+     */
+    Method findGetter(Field field) {
+        String fieldName = field.getName();
+        String methodName;
+        if (boolean.class == field.getType()) {
+            methodName = isPrefixedWithIs(fieldName) ? fieldName : "is" + capitalize(fieldName);
+        } else {
+            methodName = "get" + capitalize(fieldName);
+        }
+        Method method = this.noArgMethods.get(methodName);
+        trySetAccessible(method);
+        return method;
+    }
+
+    /**
+     * 从方法索引中查找属性的set方法，不存在时返回null
+     *
+     * @param field 属性
+     */
+    Method findSetter(Field field) {
+        List<Method> methods = this.oneArgMethods.get("set" + capitalize(field.getName()));
+        if (methods == null) {
+            return null;
+        }
+        Method found = null;
+        for (Method method : methods) {
+            if (method.getParameterTypes()[0] == field.getType()
+                    && (found == null || found.isBridge() && !method.isBridge())) {
+                found = method;
+            }
+        }
+        trySetAccessible(found);
+        return found;
+    }
+
+    public Class<?> getType() {
+        return this.type;
+    }
+
+    /**
+     * 获取所有属性，返回的数组为副本
+     */
+    public Field[] getFields() {
+        return this.fields.clone();
+    }
+
+    Field[] fieldArray() {
+        return this.fields;
+    }
+
+    /**
+     * 根据属性名称查找属性
+     *
+     * @param fieldName 属性名称
+     */
+    public Field getField(String fieldName) {
+        return this.fieldIndex.get(fieldName);
+    }
+
+    /**
+     * 获取属性的元数据，属性不属于该类时返回null
+     *
+     * @param field 属性
+     */
+    public PropertyMetadata getProperty(Field field) {
+        return this.fieldProperties.get(field);
+    }
+
+    /**
+     * 根据属性名称获取可拷贝属性的元数据
+     *
+     * @param fieldName 属性名称
+     */
+    public PropertyMetadata getProperty(String fieldName) {
+        return this.properties.get(fieldName);
+    }
+
+    /**
+     * 获取可拷贝属性，即非static、非final的属性
+     */
+    public Collection<PropertyMetadata> getProperties() {
+        return Collections.unmodifiableList(Arrays.asList(this.propertyArray));
+    }
+
+    Map<String, PropertyMetadata> propertyIndex() {
+        return this.properties;
+    }
+
+    PropertyMetadata[] propertyArray() {
+        return this.propertyArray;
+    }
+}
@@ -0,0 +1,91 @@
+package org.rdlinux.luava.reflection;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * 类路径扫描器，通过NIO {@link FileSystem}统一扫描目录和jar包中指定包下的类名称
+ */
+final class ClasspathScanner {
+    private static final String CLASS_SUFFIX = ".class";
+
+    private ClasspathScanner() {
+    }
+
+    /**
+     * 扫描包及其子包下的类名称，不包括匿名类、package-info和module-info
+     *
+     * @param packageName 包名称
+     * @param classLoader 类加载器
+     */
+    static Set<String> scan(String packageName, ClassLoader classLoader) throws IOException {
+        String packagePath = packageName.replace('.', '/');
+        Set<String> classNames = new TreeSet<>();
+        Enumeration<URL> resources = classLoader.getResources(packagePath);
+        while (resources.hasMoreElements()) {
+            URI uri;
+            try {
+                uri = resources.nextElement().toURI();
+            } catch (URISyntaxException e) {
+                continue;
+            }
+            if ("file".equals(uri.getScheme())) {
+                Path root = Paths.get(uri);
+                collect(root, packageName, classNames);
+            } else if ("jar".equals(uri.getScheme())) {
+                scanJar(uri, packagePath, packageName, classNames);
+            }
+        }
+        return classNames;
+    }
+
+    private static void scanJar(URI uri, String packagePath, String packageName, Set<String> classNames)
+            throws IOException {
+        FileSystem fileSystem;
+        boolean opened = false;
+        try {
+            fileSystem = FileSystems.newFileSystem(uri, Collections.<String, Object>emptyMap());
+            opened = true;
+        } catch (FileSystemAlreadyExistsException e) {
+            fileSystem = FileSystems.getFileSystem(uri);
+        }
+        try {
+            collect(fileSystem.getPath("/" + packagePath), packageName, classNames);
+        } finally {
+            if (opened) {
+                fileSystem.close();
+            }
+        }
+    }
+
+    private static void collect(Path root, String packageName, Set<String> classNames) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.filter(path -> path.getFileName() != null && path.getFileName().toString().endsWith(CLASS_SUFFIX))
+                    .forEach(path -> {
+                        String relative = root.relativize(path).toString().replace(path.getFileSystem()
+                                .getSeparator(), ".");
+                        String simpleName = relative.substring(0, relative.length() - CLASS_SUFFIX.length());
+                        if (isCandidate(simpleName)) {
+                            classNames.add(packageName.isEmpty() ? simpleName : packageName + "." + simpleName);
+                        }
+                    });
+        }
+    }
+
+    private static boolean isCandidate(String name) {
+        if (name.endsWith("package-info") || name.endsWith("module-info")) {
+            return false;
+        }
+        // 匿名类
+        int index = name.lastIndexOf('$');
+        return index < 0 || index == name.length() - 1 || !Character.isDigit(name.charAt(index + 1));
+    }
+}
@@ -0,0 +1,390 @@
+package org.rdlinux.luava.reflection;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * 通过构造方法创建目标对象的拷贝器，用于不可变的目标类型和record。
+ * <p>
+ * 构造方法按以下顺序选择：record的规范构造方法、标注了{@code @ConstructorProperties}的构造方法、
+ * 编译时保留了参数名称且参数名称都是属性名称的构造方法、参数类型依次与类中声明的属性类型一致的全参构造方法，
+ * 都没有时使用无参构造方法并通过set方法或属性拷贝。选中的构造方法没有覆盖所有可拷贝属性且有无参构造方法时，
+ * 同样使用无参构造方法；通过构造方法创建后，没有作为构造方法参数的可拷贝属性(包括继承的属性)继续拷贝。
+ * 构造方法参数与源属性的对应关系只计算一次，创建时通过缓存的{@link MethodHandle}调用构造方法。
+ */
+final class ConstructorCopier {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final Object DEFAULT_KEY = new Object();
+    private static final Class<? extends Annotation> CONSTRUCTOR_PROPERTIES = loadAnnotation(
+            "java.beans.ConstructorProperties");
+    private static final Method GET_RECORD_COMPONENTS = findMethod(Class.class, "getRecordComponents");
+    private final Class<?> targetClass;
+    /**
+     * (Object[])Object
+     */
+    private final MethodHandle constructor;
+    private final Argument[] arguments;
+    /**
+     * 拷贝构造方法参数以外的可拷贝属性的拷贝器
+     */
+    private final BeanCopier<Object, Object> propertyCopier;
+
+    @SuppressWarnings("unchecked")
+    private ConstructorCopier(Class<?> sourceClass, Class<?> targetClass, CopyOption copyOption) {
+        this.targetClass = targetClass;
+        Constructor<?> constructor;
+        String[] names = null;
+        if (isRecord(targetClass)) {
+            constructor = canonicalConstructor(targetClass);
+            names = recordComponentNames(targetClass);
+        } else {
+            constructor = annotatedConstructor(targetClass);
+            if (constructor != null) {
+                names = constructorProperties(constructor);
+            } else {
+                constructor = namedConstructor(targetClass);
+                if (constructor != null) {
+                    names = parameterNames(constructor);
+                } else {
+                    constructor = allArgsConstructor(targetClass);
+                    if (constructor != null) {
+                        names = declaredFieldNames(targetClass);
+                    }
+                }
+            }
+        }
+        if (constructor != null && !isRecord(targetClass) && !coversProperties(targetClass, names)
+                && hasNoArgsConstructor(targetClass)) {
+            constructor = null;
+        }
+        if (constructor == null) {
+            try {
+                constructor = targetClass.getDeclaredConstructor();
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException(String.format("Can not find a constructor to create %s.",
+                        targetClass.getName()), e);
+            }
+            names = new String[0];
+        }
+        ClassMetadata.trySetAccessible(constructor);
+        try {
+            this.constructor = LOOKUP.unreflectConstructor(constructor).asFixedArity()
+                    .asSpreader(Object[].class, names.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        this.arguments = new Argument[names.length];
+        for (int i = 0; i < names.length; i++) {
+            this.arguments[i] = new Argument(sourceClass, names[i], parameterTypes[i], copyOption);
+        }
+        this.propertyCopier = (BeanCopier<Object, Object>) BeanCopier.compile(sourceClass, targetClass, copyOption,
+                new HashSet<>(Arrays.asList(names)));
+    }
+
+    /**
+     * 获取拷贝器，按(源类型, 目标类型, 拷贝选项的快照)缓存
+     *
+     * @param sourceClass 源类型
+     * @param targetClass 目标类型
+     * @param copyOption  拷贝选项
+     */
+    static ConstructorCopier forClasses(Class<?> sourceClass, Class<?> targetClass, CopyOption copyOption) {
+        CopyOption snapshot = CopyOption.snapshot(copyOption);
+        return ReflectionCache.getPlan(sourceClass, targetClass, Arrays.asList(DEFAULT_KEY, snapshot),
+                () -> new ConstructorCopier(sourceClass, targetClass, snapshot));
+    }
+
+    private static Class<? extends Annotation> loadAnnotation(String name) {
+        try {
+            return Class.forName(name).asSubclass(Annotation.class);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static Method findMethod(Class<?> type, String name) {
+        try {
+            return type.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static boolean isRecord(Class<?> type) {
+        return type.getSuperclass() != null && "java.lang.Record".equals(type.getSuperclass().getName())
+                && GET_RECORD_COMPONENTS != null;
+    }
+
+    private static Object[] recordComponents(Class<?> type) {
+        try {
+            return (Object[]) GET_RECORD_COMPONENTS.invoke(type);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static Object componentProperty(Object component, String name) {
+        try {
+            return component.getClass().getMethod(name).invoke(component);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static String[] recordComponentNames(Class<?> type) {
+        Object[] components = recordComponents(type);
+        String[] names = new String[components.length];
+        for (int i = 0; i < components.length; i++) {
+            names[i] = (String) componentProperty(components[i], "getName");
+        }
+        return names;
+    }
+
+    private static Constructor<?> canonicalConstructor(Class<?> type) {
+        Object[] components = recordComponents(type);
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            parameterTypes[i] = (Class<?>) componentProperty(components[i], "getType");
+        }
+        try {
+            return type.getDeclaredConstructor(parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * 标注了{@code @ConstructorProperties}的构造方法，有多个时取参数最多的
+     */
+    private static Constructor<?> annotatedConstructor(Class<?> type) {
+        if (CONSTRUCTOR_PROPERTIES == null) {
+            return null;
+        }
+        Constructor<?> found = null;
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (constructor.isAnnotationPresent(CONSTRUCTOR_PROPERTIES)
+                    && (found == null || constructor.getParameterCount() > found.getParameterCount())) {
+                found = constructor;
+            }
+        }
+        return found;
+    }
+
+    private static String[] constructorProperties(Constructor<?> constructor) {
+        Annotation annotation = constructor.getAnnotation(CONSTRUCTOR_PROPERTIES);
+        try {
+            String[] names = (String[]) CONSTRUCTOR_PROPERTIES.getMethod("value").invoke(annotation);
+            if (names.length != constructor.getParameterCount()) {
+                throw new IllegalArgumentException(String.format(
+                        "The @ConstructorProperties of %s does not match its parameters.", constructor));
+            }
+            return names;
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * 编译时保留了参数名称且参数名称都是属性名称的构造方法，有多个时取参数最多的
+     */
+    private static Constructor<?> namedConstructor(Class<?> type) {
+        ClassMetadata metadata = ClassMetadata.forClass(type);
+        Constructor<?> found = null;
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (constructor.getParameterCount() == 0 || constructor.isSynthetic()
+                    || found != null && constructor.getParameterCount() <= found.getParameterCount()) {
+                continue;
+            }
+            boolean matched = true;
+            for (Parameter parameter : constructor.getParameters()) {
+                if (!parameter.isNamePresent() || metadata.getField(parameter.getName()) == null) {
+                    matched = false;
+                    break;
+                }
+            }
+            if (matched) {
+                found = constructor;
+            }
+        }
+        return found;
+    }
+
+    private static String[] parameterNames(Constructor<?> constructor) {
+        Parameter[] parameters = constructor.getParameters();
+        String[] names = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            names[i] = parameters[i].getName();
+        }
+        return names;
+    }
+
+    /**
+     * 构造方法参数是否覆盖了所有可拷贝属性
+     */
+    private static boolean coversProperties(Class<?> type, String[] names) {
+        Set<String> parameterNames = new HashSet<>(Arrays.asList(names));
+        for (PropertyMetadata property : ClassMetadata.forClass(type).propertyArray()) {
+            if (!parameterNames.contains(property.getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasNoArgsConstructor(Class<?> type) {
+        try {
+            type.getDeclaredConstructor();
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 参数类型依次与类中声明的非static属性类型一致的构造方法
+     */
+    private static Constructor<?> allArgsConstructor(Class<?> type) {
+        List<Class<?>> fieldTypes = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                fieldTypes.add(field.getType());
+            }
+        }
+        if (fieldTypes.isEmpty()) {
+            return null;
+        }
+        try {
+            return type.getDeclaredConstructor(fieldTypes.toArray(new Class<?>[0]));
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static String[] declaredFieldNames(Class<?> type) {
+        List<String> names = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                names.add(field.getName());
+            }
+        }
+        return names.toArray(new String[0]);
+    }
+
+    /**
+     * 创建目标对象
+     *
+     * @param source 源对象
+     */
+    Object copy(Object source) {
+        Object[] values = new Object[this.arguments.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = this.arguments[i].value(source);
+        }
+        Object target;
+        try {
+            target = (Object) this.constructor.invokeExact(values);
+        } catch (Throwable e) {
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            throw new IllegalArgumentException(String.format("Can not create %s.", this.targetClass.getName()), e);
+        }
+        this.propertyCopier.copy(source, target);
+        return target;
+    }
+
+    /**
+     * 构造方法参数，对应源对象的一个属性，源对象没有对应属性时取参数类型的默认值
+     */
+    private static final class Argument {
+        private final String name;
+        private final Class<?> type;
+        private final String sourceName;
+        /**
+         * (Object)Object，源对象没有对应属性时为null
+         */
+        private final MethodHandle reader;
+        private final Converter<Object, Object> converter;
+        private final Object defaultValue;
+        private final boolean ignoreError;
+
+        Argument(Class<?> sourceClass, String name, Class<?> type, CopyOption copyOption) {
+            this.name = name;
+            this.type = AccessorGenerator.wrap(type);
+            this.defaultValue = type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+            this.ignoreError = copyOption.isIgnoreError();
+            String sourceName = name;
+            for (Map.Entry<String, String> mapping : copyOption.getFieldMapping().entrySet()) {
+                if (mapping.getValue().equals(name)) {
+                    sourceName = mapping.getKey();
+                    break;
+                }
+                if (mapping.getKey().equals(name)) {
+                    sourceName = null;
+                }
+            }
+            PropertyMetadata property = null;
+            if (sourceName != null && !copyOption.ignoreFieldSet().contains(sourceName)) {
+                ClassMetadata metadata = ClassMetadata.forClass(sourceClass);
+                Field field = metadata.getField(sourceName);
+                if (field != null && !Modifier.isStatic(field.getModifiers())) {
+                    property = metadata.getProperty(field);
+                }
+            }
+            this.sourceName = sourceName;
+            MethodHandle reader = null;
+            Converter<Object, Object> converter = null;
+            if (property != null) {
+                reader = property.readHandle(copyOption.isUseGetter());
+                if (reader == null && copyOption.isUseGetter()) {
+                    reader = property.readHandle(false);
+                }
+                if (reader != null) {
+                    reader = reader.asType(MethodType.methodType(Object.class, Object.class));
+                    converter = Converters.find(property.getType(), type, copyOption);
+                }
+            }
+            this.reader = reader;
+            this.converter = converter;
+        }
+
+        Object value(Object source) {
+            if (this.reader == null) {
+                return this.defaultValue;
+            }
+            try {
+                Object value = (Object) this.reader.invokeExact(source);
+                if (value != null && this.converter != null) {
+                    value = this.converter.convert(value);
+                }
+                if (value == null) {
+                    return this.defaultValue;
+                }
+                if (!this.type.isInstance(value)) {
+                    throw new ClassCastException(value.getClass().getName() + " can not be cast to "
+                            + this.type.getName());
+                }
+                return value;
+            } catch (Throwable e) {
+                if (e instanceof Error) {
+                    throw (Error) e;
+                }
+                if (this.ignoreError) {
+                    return this.defaultValue;
+                }
+                throw new IllegalArgumentException(String.format(
+                        "Can not copy the value of the field named '%s' to the constructor parameter '%s'.",
+                        this.sourceName, this.name), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.rdlinux.luava.reflection;
+
+/**
+ * 属性值类型转换器，源属性类型与目标属性类型不兼容时使用。
+ * <p>
+ * 自定义转换器通过{@link CopyOption#addConverter(Class, Class, Converter)}注册，
+ * 编译拷贝器时为每对属性选定一次转换器，拷贝时不再查找。源属性值为null时不调用转换器。
+ *
+ * @param <S> 源类型
+ * @param <T> 目标类型
+ */
+@FunctionalInterface
+public interface Converter<S, T> {
+    /**
+     * 转换属性值
+     *
+     * @param source 源属性值，不为null
+     */
+    T convert(S source);
+}
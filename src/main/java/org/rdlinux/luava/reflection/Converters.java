@@ -0,0 +1,250 @@
+package org.rdlinux.luava.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 内置类型转换器：数值类型之间的转换，String与数值、boolean、char、枚举、java.time类型之间的转换。
+ * 内置转换器只在{@link CopyOption#setUseBuiltinConverters(boolean)}开启时使用，注册的转换器总是使用。
+ * 数值收窄时值必须能用目标类型表示，整数类型不接受小数部分和溢出，float和double不接受超出范围的值，
+ * 否则转换失败，按拷贝选项的ignoreError处理。
+ * 空白字符串转换为null。
+ */
+final class Converters {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private Converters() {
+    }
+
+    /**
+     * 查找转换器，先查找拷贝选项中注册的转换器，开启内置转换器时再查找内置转换器，都没有时返回null。
+     * 类型兼容且没有注册转换器时同样返回null。
+     *
+     * @param sourceType 源属性类型
+     * @param targetType 目标属性类型
+     * @param copyOption 拷贝选项
+     */
+    @SuppressWarnings("unchecked")
+    static Converter<Object, Object> find(Class<?> sourceType, Class<?> targetType, CopyOption copyOption) {
+        Class<?> source = AccessorGenerator.wrap(sourceType);
+        Class<?> target = AccessorGenerator.wrap(targetType);
+        Converter<?, ?> registered = findRegistered(source, target, copyOption.getConverters());
+        if (registered != null) {
+            return (Converter<Object, Object>) registered;
+        }
+        if (target.isAssignableFrom(source) || !copyOption.isUseBuiltinConverters()) {
+            return null;
+        }
+        return builtin(source, target);
+    }
+
+    /**
+     * 查找注册的转换器，先按类型精确匹配，再匹配源类型为注册类型子类的转换器。
+     * 匹配多个注册类型时取最具体的类型，互不相关的类型按类名取最小者，结果与注册顺序无关
+     */
+    private static Converter<?, ?> findRegistered(Class<?> source, Class<?> target,
+                                                  Map<Class<?>, Map<Class<?>, Converter<?, ?>>> converters) {
+        if (converters.isEmpty()) {
+            return null;
+        }
+        Map<Class<?>, Converter<?, ?>> exact = converters.get(source);
+        if (exact != null && exact.containsKey(target)) {
+            return exact.get(target);
+        }
+        List<Class<?>> candidates = new ArrayList<>();
+        for (Map.Entry<Class<?>, Map<Class<?>, Converter<?, ?>>> entry : converters.entrySet()) {
+            if (entry.getKey().isAssignableFrom(source) && entry.getValue().containsKey(target)) {
+                candidates.add(entry.getKey());
+            }
+        }
+        Class<?> found = null;
+        for (Class<?> candidate : candidates) {
+            if (isMostSpecific(candidate, candidates)
+                    && (found == null || candidate.getName().compareTo(found.getName()) < 0)) {
+                found = candidate;
+            }
+        }
+        return found == null ? null : converters.get(found).get(target);
+    }
+
+    /**
+     * 候选类型中没有比该类型更具体的类型
+     */
+    private static boolean isMostSpecific(Class<?> type, List<Class<?>> candidates) {
+        for (Class<?> candidate : candidates) {
+            if (candidate != type && type.isAssignableFrom(candidate)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isNumber(Class<?> type) {
+        return Number.class.isAssignableFrom(type) && (type.getName().startsWith("java.lang.")
+                || type == BigInteger.class || type == BigDecimal.class);
+    }
+
+    private static boolean isTimeType(Class<?> type) {
+        return type.getName().startsWith("java.time.");
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Converter<Object, Object> builtin(Class<?> source, Class<?> target) {
+        if (isNumber(source) && isNumber(target)) {
+            return numberConverter(target);
+        }
+        if (target == String.class) {
+            if (isNumber(source) || source == Boolean.class || source == Character.class || isTimeType(source)) {
+                return String::valueOf;
+            }
+            if (source.isEnum()) {
+                return value -> ((Enum<?>) value).name();
+            }
+            return null;
+        }
+        if (source != String.class) {
+            return null;
+        }
+        Converter<Object, Object> parser;
+        if (isNumber(target)) {
+            Converter<Object, Object> toNumber = numberConverter(target);
+            parser = value -> toNumber.convert(new BigDecimal(value.toString()));
+        } else if (target == Boolean.class) {
+            parser = value -> Boolean.valueOf(value.toString());
+        } else if (target == Character.class) {
+            parser = value -> {
+                String text = value.toString();
+                if (text.length() != 1) {
+                    throw new IllegalArgumentException(String.format("Can not convert '%s' to char.", text));
+                }
+                return text.charAt(0);
+            };
+        } else if (target.isEnum()) {
+            Class<? extends Enum> enumType = (Class<? extends Enum>) target;
+            parser = value -> Enum.valueOf(enumType, value.toString());
+        } else if (isTimeType(target)) {
+            parser = timeParser(target);
+        } else {
+            parser = null;
+        }
+        if (parser == null) {
+            return null;
+        }
+        return value -> {
+            String text = value.toString().trim();
+            return text.isEmpty() ? null : parser.convert(text);
+        };
+    }
+
+    /**
+     * 数值转换器，收窄时值必须能用目标类型精确表示，浮点数转换为float时只检查范围
+     */
+    private static Converter<Object, Object> numberConverter(Class<?> target) {
+        if (target == Integer.class) {
+            return value -> (int) exactLong(value, Integer.MIN_VALUE, Integer.MAX_VALUE, "int");
+        } else if (target == Long.class) {
+            return value -> exactLong(value, Long.MIN_VALUE, Long.MAX_VALUE, "long");
+        } else if (target == Double.class) {
+            return value -> {
+                double result = ((Number) value).doubleValue();
+                if (Double.isInfinite(result) && !isFloatingPoint(value)) {
+                    throw cannotConvert(value, "double", null);
+                }
+                return result;
+            };
+        } else if (target == Float.class) {
+            return value -> {
+                double result = ((Number) value).doubleValue();
+                if (Double.isInfinite(result) ? !isFloatingPoint(value) : Math.abs(result) > Float.MAX_VALUE) {
+                    throw cannotConvert(value, "float", null);
+                }
+                return (float) result;
+            };
+        } else if (target == Short.class) {
+            return value -> (short) exactLong(value, Short.MIN_VALUE, Short.MAX_VALUE, "short");
+        } else if (target == Byte.class) {
+            return value -> (byte) exactLong(value, Byte.MIN_VALUE, Byte.MAX_VALUE, "byte");
+        } else if (target == BigDecimal.class) {
+            return Converters::toBigDecimal;
+        } else {
+            return value -> {
+                if (value instanceof BigInteger) {
+                    return value;
+                }
+                try {
+                    return toBigDecimal(value).toBigIntegerExact();
+                } catch (ArithmeticException e) {
+                    throw cannotConvert(value, "BigInteger", e);
+                }
+            };
+        }
+    }
+
+    private static boolean isFloatingPoint(Object value) {
+        return value instanceof Double || value instanceof Float;
+    }
+
+    /**
+     * 转换为整数，值有小数部分或超出[min, max]时转换失败
+     */
+    private static long exactLong(Object value, long min, long max, String type) {
+        long result;
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            result = ((Number) value).longValue();
+        } else {
+            try {
+                result = toBigDecimal(value).longValueExact();
+            } catch (ArithmeticException e) {
+                throw cannotConvert(value, type, e);
+            }
+        }
+        if (result < min || result > max) {
+            throw cannotConvert(value, type, null);
+        }
+        return result;
+    }
+
+    private static IllegalArgumentException cannotConvert(Object value, String type, Throwable cause) {
+        return new IllegalArgumentException(String.format("Can not convert %s to %s exactly.", value, type), cause);
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            return new BigDecimal(value.toString());
+        } else {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+    }
+
+    /**
+     * java.time类型的解析器，使用类型的静态parse(CharSequence)方法
+     */
+    private static Converter<Object, Object> timeParser(Class<?> target) {
+        MethodHandle parse;
+        try {
+            parse = LOOKUP.findStatic(target, "parse", MethodType.methodType(target, CharSequence.class))
+                    .asType(MethodType.methodType(Object.class, CharSequence.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+        return value -> {
+            try {
+                return parse.invokeExact((CharSequence) value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalArgumentException(e);
+            }
+        };
+    }
+}
@@ -2,15 +2,19 @@ package org.rdlinux.luava.reflection;
 
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 /**
- * 拷贝选项
+ * 拷贝选项。
+ * <p>
+ * 通过{@link #freeze()}生成不可变的快照，快照可作为常量共享。{@link BeanUtils}以快照为键缓存编译好的拷贝器，
+ * 设置相同的拷贝选项复用同一个拷贝器，未冻结的拷贝选项每次调用都要生成一次快照，作为常量的快照可省去这一步
  */
 public class CopyOption {
+    /**
+     * 默认拷贝选项的快照
+     */
+    static final CopyOption DEFAULT = new CopyOption().freeze();
     /**
      * 拷贝属性的字段映射，用于不同的属性之前拷贝做对应表用
      */
@@ -35,6 +39,31 @@ public class CopyOption {
      * 使用set方法
      */
     private boolean useSetter;
+    /**
+     * 是否深拷贝，true: 属性值为可变对象时拷贝其副本，false: 直接引用源对象的属性值
+     */
+    private boolean deepCopy;
+    /**
+     * 是否使用内置类型转换器，true: 属性类型不兼容时使用内置的数值、字符串、枚举、java.time类型转换，
+     * false: 只使用注册的转换器，类型不兼容时拷贝失败
+     */
+    private boolean useBuiltinConverters;
+    /**
+     * 注册的类型转换器，源类型 -> 目标类型 -> 转换器
+     */
+    private Map<Class<?>, Map<Class<?>, Converter<?, ?>>> converters;
+    /**
+     * 是否为不可变的快照
+     */
+    private boolean frozen;
+    /**
+     * 快照的忽略属性集合
+     */
+    private Set<String> ignoreFieldSet;
+    /**
+     * 快照的hashCode
+     */
+    private int hash;
 
     /**
      * 默认构造方法
@@ -46,6 +75,9 @@ public class CopyOption {
         this.ignoreNullValue = false;
         this.useGetter = true;
         this.useSetter = true;
+        this.deepCopy = false;
+        this.useBuiltinConverters = false;
+        this.converters = new LinkedHashMap<>();
     }
 
     public Map<String, String> getFieldMapping() {
@@ -57,6 +89,7 @@ public class CopyOption {
     }
 
     public CopyOption setIgnoreError(boolean ignoreError) {
+        this.checkMutable();
         this.ignoreError = ignoreError;
         return this;
     }
@@ -70,6 +103,7 @@ public class CopyOption {
     }
 
     public CopyOption setIgnoreNullValue(boolean ignoreNullValue) {
+        this.checkMutable();
         this.ignoreNullValue = ignoreNullValue;
         return this;
     }
@@ -79,6 +113,7 @@ public class CopyOption {
     }
 
     public CopyOption setUseGetter(boolean useGetter) {
+        this.checkMutable();
         this.useGetter = useGetter;
         return this;
     }
@@ -88,10 +123,63 @@ public class CopyOption {
     }
 
     public CopyOption setUseSetter(boolean useSetter) {
+        this.checkMutable();
         this.useSetter = useSetter;
         return this;
     }
 
+    public boolean isDeepCopy() {
+        return this.deepCopy;
+    }
+
+    public CopyOption setDeepCopy(boolean deepCopy) {
+        this.checkMutable();
+        this.deepCopy = deepCopy;
+        return this;
+    }
+
+    public boolean isUseBuiltinConverters() {
+        return this.useBuiltinConverters;
+    }
+
+    public CopyOption setUseBuiltinConverters(boolean useBuiltinConverters) {
+        this.checkMutable();
+        this.useBuiltinConverters = useBuiltinConverters;
+        return this;
+    }
+
+    public Map<Class<?>, Map<Class<?>, Converter<?, ?>>> getConverters() {
+        return this.converters;
+    }
+
+    /**
+     * 添加 类型转换器。
+     * 源属性类型为sourceType或其子类且目标属性类型为targetType时使用该转换器，优先于内置转换器，
+     * 不需要开启{@link #setUseBuiltinConverters(boolean)}。
+     * 源属性类型匹配多个转换器时使用源类型最具体的转换器，与注册顺序无关。
+     * 基本类型按其包装类型匹配。如果转换器已存在，则替换。
+     *
+     * @param sourceType 源属性类型
+     * @param targetType 目标属性类型
+     * @param converter  转换器
+     * @return the instance  of <tt>CopyOption</tt>
+     * @throws UnsupportedOperationException If the instance is frozen.
+     * @throws IllegalArgumentException If the <tt>sourceType</tt>, <tt>targetType</tt> or <tt>converter</tt> is null.
+     */
+    public <S, T> CopyOption addConverter(Class<S> sourceType, Class<T> targetType,
+                                          Converter<? super S, ? extends T> converter) {
+        this.checkMutable();
+        if (sourceType == null || targetType == null) {
+            throw new IllegalArgumentException("The sourceType and targetType can not be null.");
+        }
+        if (converter == null) {
+            throw new IllegalArgumentException("The converter can not be null.");
+        }
+        this.converters.computeIfAbsent(AccessorGenerator.wrap(sourceType), k -> new LinkedHashMap<>())
+                .put(AccessorGenerator.wrap(targetType), converter);
+        return this;
+    }
+
     /**
      * 添加 源属性与目标属性的对应关系。
      * 如果源属性名已存在，则不变化。
@@ -99,9 +187,11 @@ public class CopyOption {
      * @param sourceFieldName 源属性名称
      * @param targetFieldName 目标属性名称
      * @return the instance  of <tt>CopyOption</tt>
+     * @throws UnsupportedOperationException If the instance is frozen.
      * @throws IllegalArgumentException If the <tt>sourceFieldName</tt> or <tt>targetFieldName</tt> is whitespace, empty ("") or null.
      */
     public CopyOption addFieldMapping(String sourceFieldName, String targetFieldName) {
+        this.checkMutable();
         if (StringUtils.isBlank(sourceFieldName)) {
             throw new IllegalArgumentException("The sourceFieldName can not be whitespace, empty (\"\") or null.");
         }
@@ -122,9 +212,11 @@ public class CopyOption {
      *
      * @param sourceFieldName 源属性名称
      * @return the instance  of <tt>CopyOption</tt>
+     * @throws UnsupportedOperationException If the instance is frozen.
      * @throws IllegalArgumentException If the <tt>sourceFieldName</tt> is whitespace, empty ("") or null.
      */
     public CopyOption removeFieldMapping(String sourceFieldName) {
+        this.checkMutable();
         if (StringUtils.isBlank(sourceFieldName)) {
             throw new IllegalArgumentException("The sourceFieldName can not be whitespace, empty (\"\") or null.");
         }
@@ -141,6 +233,7 @@ public class CopyOption {
      * @return the instance  of <tt>CopyOption</tt>
      */
     public CopyOption addIgnoreFields(String... sourceFieldNames) {
+        this.checkMutable();
         if (sourceFieldNames == null || sourceFieldNames.length == 0) {
             return this;
         }
@@ -166,6 +259,7 @@ public class CopyOption {
      * @return the instance  of <tt>CopyOption</tt>
      */
     public CopyOption removeIgnoreFields(String... sourceFieldNames) {
+        this.checkMutable();
         if (sourceFieldNames == null || sourceFieldNames.length == 0) {
             return this;
         }
@@ -178,4 +272,92 @@ public class CopyOption {
         }
         return this;
     }
+
+    /**
+     * 是否为{@link #freeze()}生成的不可变快照
+     */
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
+    /**
+     * 生成不可变的快照。快照的属性映射、忽略属性和类型转换器不可修改，调用修改方法抛出UnsupportedOperationException。
+     * 快照按值比较，equals和hashCode预先计算，可在多线程之间共享。已经是快照时返回自身
+     *
+     * @return the frozen instance of <tt>CopyOption</tt>
+     */
+    public CopyOption freeze() {
+        if (this.frozen) {
+            return this;
+        }
+        CopyOption snapshot = new CopyOption();
+        snapshot.fieldMapping = Collections.unmodifiableMap(new HashMap<>(this.fieldMapping));
+        snapshot.ignoreError = this.ignoreError;
+        snapshot.ignoreFields = Collections.unmodifiableList(new ArrayList<>(this.ignoreFields));
+        snapshot.ignoreFieldSet = Collections.unmodifiableSet(new HashSet<>(this.ignoreFields));
+        snapshot.ignoreNullValue = this.ignoreNullValue;
+        snapshot.useGetter = this.useGetter;
+        snapshot.useSetter = this.useSetter;
+        snapshot.deepCopy = this.deepCopy;
+        snapshot.useBuiltinConverters = this.useBuiltinConverters;
+        Map<Class<?>, Map<Class<?>, Converter<?, ?>>> converters = new LinkedHashMap<>();
+        for (Map.Entry<Class<?>, Map<Class<?>, Converter<?, ?>>> entry : this.converters.entrySet()) {
+            converters.put(entry.getKey(), Collections.unmodifiableMap(new LinkedHashMap<>(entry.getValue())));
+        }
+        snapshot.converters = Collections.unmodifiableMap(converters);
+        snapshot.frozen = true;
+        snapshot.hash = Objects.hash(snapshot.fieldMapping, snapshot.ignoreError, snapshot.ignoreFieldSet,
+                snapshot.ignoreNullValue, snapshot.useGetter, snapshot.useSetter, snapshot.deepCopy,
+                snapshot.useBuiltinConverters, snapshot.converters);
+        return snapshot;
+    }
+
+    /**
+     * 拷贝选项的快照，用作编译结果的缓存键，为null时返回默认拷贝选项的快照
+     */
+    static CopyOption snapshot(CopyOption copyOption) {
+        return copyOption == null ? DEFAULT : copyOption.freeze();
+    }
+
+    /**
+     * 忽略属性集合，快照直接返回预先计算的集合
+     */
+    Set<String> ignoreFieldSet() {
+        return this.frozen ? this.ignoreFieldSet : new HashSet<>(this.ignoreFields);
+    }
+
+    private void checkMutable() {
+        if (this.frozen) {
+            throw new UnsupportedOperationException("The CopyOption is frozen.");
+        }
+    }
+
+    /**
+     * 快照按值比较，非快照按引用比较
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!this.frozen || !(o instanceof CopyOption)) {
+            return false;
+        }
+        CopyOption that = (CopyOption) o;
+        return that.frozen && this.hash == that.hash
+                && this.ignoreError == that.ignoreError
+                && this.ignoreNullValue == that.ignoreNullValue
+                && this.useGetter == that.useGetter
+                && this.useSetter == that.useSetter
+                && this.deepCopy == that.deepCopy
+                && this.useBuiltinConverters == that.useBuiltinConverters
+                && this.ignoreFieldSet.equals(that.ignoreFieldSet)
+                && this.fieldMapping.equals(that.fieldMapping)
+                && this.converters.equals(that.converters);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.frozen ? this.hash : System.identityHashCode(this);
+    }
 }
@@ -0,0 +1,607 @@
+package org.rdlinux.luava.reflection;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 深拷贝引擎，按运行时类型只计算一次拷贝方式：不可变类型直接引用，数组、集合、Map复制容器后逐个拷贝元素，
+ * bean创建新实例后逐个拷贝属性。同一次拷贝中共享的引用和循环引用通过{@link Context}保持。
+ * <p>
+ * JDK类型中，原子类、StringBuilder、StringBuffer、Optional复制其内容，其他实现了Cloneable且有public clone方法的
+ * 类型(如BitSet)调用clone，其余类型(如流、线程、函数对象)无法可靠复制，直接引用。
+ */
+final class DeepCopier {
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+            Boolean.class, Byte.class, Character.class, Short.class, Integer.class, Long.class, Float.class,
+            Double.class, Void.class, String.class, BigInteger.class, BigDecimal.class, UUID.class, Class.class,
+            Locale.class, Currency.class, Pattern.class, URI.class, URL.class, File.class, Charset.class,
+            Object.class));
+    /**
+     * 不复制的类型，与原isNeedRecursion的判断一致
+     */
+    private static final Class<?>[] REFERENCE_TYPES = {InputStream.class, OutputStream.class, Readable.class,
+            Writer.class, Runnable.class, Callable.class, Thread.class, ClassLoader.class};
+    private static final ClassCache<Plan> PLANS = new ClassCache<>(DeepCopier::createPlan);
+
+    private DeepCopier() {
+    }
+
+    /**
+     * 深拷贝对象
+     *
+     * @param source 源对象
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T copy(T source) {
+        if (source == null) {
+            return null;
+        }
+        return (T) new Context().copy(source);
+    }
+
+    /**
+     * 类型是否不可变，不可变类型的值直接引用，不需要复制
+     *
+     * @param type 类型
+     */
+    static boolean isImmutable(Class<?> type) {
+        if (type.isPrimitive() || type.isEnum() || IMMUTABLE_TYPES.contains(type)) {
+            return true;
+        }
+        if (Enum.class.isAssignableFrom(type)) {
+            return true;
+        }
+        // java.time包下的类均为不可变类型
+        return type.getName().startsWith("java.time.") && !type.isInterface();
+    }
+
+    /**
+     * 声明类型的值是否总是直接引用，编译属性拷贝步骤时据此跳过运行时类型判断
+     *
+     * @param type 属性声明类型
+     */
+    static boolean isReference(Class<?> type) {
+        return isImmutable(type) && (type.isPrimitive() || Modifier.isFinal(type.getModifiers()) || type.isEnum());
+    }
+
+    private static boolean isJdkType(Class<?> type) {
+        String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.")
+                || name.startsWith("sun.") || name.startsWith("com.sun.");
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Plan createPlan(Class<?> type) {
+        if (isImmutable(type) || type.isSynthetic()) {
+            return ReferencePlan.INSTANCE;
+        }
+        if (type.isArray()) {
+            if (type.getComponentType().isPrimitive()) {
+                return new PrimitiveArrayPlan(type.getComponentType());
+            }
+            return new ObjectArrayPlan(type.getComponentType());
+        }
+        for (Class<?> referenceType : REFERENCE_TYPES) {
+            if (referenceType.isAssignableFrom(type)) {
+                return ReferencePlan.INSTANCE;
+            }
+        }
+        if (EnumSet.class.isAssignableFrom(type)) {
+            // 元素为枚举，复制集合即可
+            return new SimplePlan(source -> ((EnumSet<?>) source).clone());
+        }
+        if (Date.class.isAssignableFrom(type)) {
+            return new SimplePlan(source -> ((Date) source).clone());
+        }
+        if (Calendar.class.isAssignableFrom(type)) {
+            return new SimplePlan(source -> ((Calendar) source).clone());
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return new CollectionPlan(collectionFactory(type));
+        }
+        if (EnumMap.class.isAssignableFrom(type)) {
+            return new MapPlan(source -> new EnumMap<>((EnumMap) source));
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return new MapPlan(mapFactory(type));
+        }
+        if (isJdkType(type)) {
+            return jdkPlan(type);
+        }
+        return BeanPlan.create(type);
+    }
+
+    /**
+     * 未按容器处理的JDK类型的拷贝方式
+     */
+    private static Plan jdkPlan(Class<?> type) {
+        if (type == AtomicBoolean.class) {
+            return new SimplePlan(source -> new AtomicBoolean(((AtomicBoolean) source).get()));
+        }
+        if (type == AtomicInteger.class) {
+            return new SimplePlan(source -> new AtomicInteger(((AtomicInteger) source).get()));
+        }
+        if (type == AtomicLong.class) {
+            return new SimplePlan(source -> new AtomicLong(((AtomicLong) source).get()));
+        }
+        if (type == AtomicIntegerArray.class) {
+            return new SimplePlan(source -> {
+                AtomicIntegerArray array = (AtomicIntegerArray) source;
+                AtomicIntegerArray copy = new AtomicIntegerArray(array.length());
+                for (int i = 0; i < array.length(); i++) {
+                    copy.set(i, array.get(i));
+                }
+                return copy;
+            });
+        }
+        if (type == AtomicLongArray.class) {
+            return new SimplePlan(source -> {
+                AtomicLongArray array = (AtomicLongArray) source;
+                AtomicLongArray copy = new AtomicLongArray(array.length());
+                for (int i = 0; i < array.length(); i++) {
+                    copy.set(i, array.get(i));
+                }
+                return copy;
+            });
+        }
+        if (type == AtomicReference.class) {
+            return AtomicReferencePlan.INSTANCE;
+        }
+        if (type == StringBuilder.class) {
+            return new SimplePlan(source -> new StringBuilder((StringBuilder) source));
+        }
+        if (type == StringBuffer.class) {
+            return new SimplePlan(source -> new StringBuffer((StringBuffer) source));
+        }
+        if (type == Optional.class) {
+            return OptionalPlan.INSTANCE;
+        }
+        if (Cloneable.class.isAssignableFrom(type)) {
+            MethodHandle clone = publicClone(type);
+            if (clone != null) {
+                return new SimplePlan(source -> {
+                    try {
+                        return (Object) clone.invokeExact(source);
+                    } catch (Throwable e) {
+                        if (e instanceof Error) {
+                            throw (Error) e;
+                        }
+                        throw new IllegalArgumentException(String.format("Can not clone %s.",
+                                source.getClass().getName()), e);
+                    }
+                });
+            }
+        }
+        return ReferencePlan.INSTANCE;
+    }
+
+    /**
+     * 类型的public clone方法，(Object)Object，类型不可访问或没有public clone方法时返回null
+     */
+    private static MethodHandle publicClone(Class<?> type) {
+        try {
+            return MethodHandles.publicLookup().findVirtual(type, "clone", MethodType.methodType(Object.class))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 获取类型的public无参构造方法，不存在时返回null
+     */
+    private static <T> Supplier<T> publicConstructor(Class<T> type) {
+        if (!Modifier.isPublic(type.getModifiers()) || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        try {
+            type.getConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        return Instantiators.forClass(type);
+    }
+
+    /**
+     * 获取类型的public比较器构造方法，不存在时返回null
+     */
+    private static Constructor<?> comparatorConstructor(Class<?> type) {
+        if (!Modifier.isPublic(type.getModifiers()) || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        try {
+            return type.getConstructor(Comparator.class);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Object newInstance(Constructor<?> constructor, Object... args) {
+        try {
+            return constructor.newInstance(args);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * 集合容器的创建方式，有序集合保留比较器，没有public构造方法的集合(如不可变集合)复制为对应的常用实现
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Collection<Object>> collectionFactory(Class<?> type) {
+        if (SortedSet.class.isAssignableFrom(type)) {
+            Constructor<?> constructor = comparatorConstructor(type);
+            if (constructor != null) {
+                return source -> (Collection<Object>) newInstance(constructor, ((SortedSet<?>) source).comparator());
+            }
+            return source -> new TreeSet<>((Comparator<Object>) ((SortedSet<?>) source).comparator());
+        }
+        if (PriorityQueue.class.isAssignableFrom(type)) {
+            return source -> new PriorityQueue<>(Math.max(1, ((Collection<?>) source).size()),
+                    (Comparator<Object>) ((PriorityQueue<?>) source).comparator());
+        }
+        Supplier<?> constructor = publicConstructor(type);
+        if (constructor != null) {
+            return source -> (Collection<Object>) constructor.get();
+        }
+        if (Set.class.isAssignableFrom(type)) {
+            return source -> new LinkedHashSet<>(Math.max(16, (int) (((Collection<?>) source).size() / .75f) + 1));
+        }
+        if (Deque.class.isAssignableFrom(type)) {
+            return source -> new LinkedList<>();
+        }
+        return source -> new ArrayList<>(((Collection<?>) source).size());
+    }
+
+    /**
+     * Map容器的创建方式，有序Map保留比较器，没有public构造方法的Map复制为LinkedHashMap
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Map<Object, Object>> mapFactory(Class<?> type) {
+        if (SortedMap.class.isAssignableFrom(type)) {
+            Constructor<?> constructor = comparatorConstructor(type);
+            if (constructor != null) {
+                return source -> (Map<Object, Object>) newInstance(constructor, ((SortedMap<?, ?>) source).comparator());
+            }
+            return source -> new TreeMap<>((Comparator<Object>) ((SortedMap<?, ?>) source).comparator());
+        }
+        Supplier<?> constructor = publicConstructor(type);
+        if (constructor != null) {
+            return source -> (Map<Object, Object>) constructor.get();
+        }
+        return source -> new LinkedHashMap<>(Math.max(16, (int) (((Map<?, ?>) source).size() / .75f) + 1));
+    }
+
+    /**
+     * 一次深拷贝的上下文，记录已拷贝对象，保持共享引用和循环引用，非线程安全
+     */
+    static final class Context {
+        private final IdentityHashMap<Object, Object> copies = new IdentityHashMap<>();
+
+        /**
+         * 深拷贝值，同一个对象在同一上下文中只拷贝一次
+         *
+         * @param value 值
+         */
+        Object copy(Object value) {
+            if (value == null) {
+                return null;
+            }
+            Plan plan = PLANS.get(value.getClass());
+            if (plan == ReferencePlan.INSTANCE) {
+                return value;
+            }
+            Object copied = this.copies.get(value);
+            if (copied != null) {
+                return copied;
+            }
+            return plan.copy(value, this);
+        }
+
+        /**
+         * 登记拷贝结果，必须在拷贝对象内容之前调用，以便循环引用指向同一个拷贝
+         *
+         * @param source 源对象
+         * @param copy   拷贝结果
+         */
+        void register(Object source, Object copy) {
+            this.copies.put(source, copy);
+        }
+    }
+
+    /**
+     * 单个类型的拷贝方式
+     */
+    private abstract static class Plan {
+        abstract Object copy(Object source, Context context);
+    }
+
+    /**
+     * 直接引用
+     */
+    private static final class ReferencePlan extends Plan {
+        static final ReferencePlan INSTANCE = new ReferencePlan();
+
+        @Override
+        Object copy(Object source, Context context) {
+            return source;
+        }
+    }
+
+    /**
+     * 复制后不需要再拷贝内容的类型
+     */
+    private static final class SimplePlan extends Plan {
+        private final Function<Object, Object> function;
+
+        SimplePlan(Function<Object, Object> function) {
+            this.function = function;
+        }
+
+        @Override
+        Object copy(Object source, Context context) {
+            Object copy = this.function.apply(source);
+            context.register(source, copy);
+            return copy;
+        }
+    }
+
+    /**
+     * AtomicReference复制后深拷贝其值
+     */
+    private static final class AtomicReferencePlan extends Plan {
+        static final AtomicReferencePlan INSTANCE = new AtomicReferencePlan();
+
+        @Override
+        Object copy(Object source, Context context) {
+            AtomicReference<Object> copy = new AtomicReference<>();
+            context.register(source, copy);
+            copy.set(context.copy(((AtomicReference<?>) source).get()));
+            return copy;
+        }
+    }
+
+    /**
+     * Optional深拷贝其值，值为空时直接引用
+     */
+    private static final class OptionalPlan extends Plan {
+        static final OptionalPlan INSTANCE = new OptionalPlan();
+
+        @Override
+        Object copy(Object source, Context context) {
+            Optional<?> optional = (Optional<?>) source;
+            if (!optional.isPresent()) {
+                return source;
+            }
+            Optional<Object> copy = Optional.of(context.copy(optional.get()));
+            context.register(source, copy);
+            return copy;
+        }
+    }
+
+    private static final class PrimitiveArrayPlan extends Plan {
+        private final Class<?> componentType;
+
+        PrimitiveArrayPlan(Class<?> componentType) {
+            this.componentType = componentType;
+        }
+
+        @Override
+        Object copy(Object source, Context context) {
+            int length = Array.getLength(source);
+            Object copy = Array.newInstance(this.componentType, length);
+            System.arraycopy(source, 0, copy, 0, length);
+            context.register(source, copy);
+            return copy;
+        }
+    }
+
+    private static final class ObjectArrayPlan extends Plan {
+        private final Class<?> componentType;
+        /**
+         * 元素类型总是直接引用时只复制数组
+         */
+        private final boolean reference;
+
+        ObjectArrayPlan(Class<?> componentType) {
+            this.componentType = componentType;
+            this.reference = isReference(componentType);
+        }
+
+        @Override
+        Object copy(Object source, Context context) {
+            Object[] array = (Object[]) source;
+            Object[] copy = (Object[]) Array.newInstance(this.componentType, array.length);
+            context.register(source, copy);
+            if (this.reference) {
+                System.arraycopy(array, 0, copy, 0, array.length);
+            } else {
+                for (int i = 0; i < array.length; i++) {
+                    copy[i] = context.copy(array[i]);
+                }
+            }
+            return copy;
+        }
+    }
+
+    private static final class CollectionPlan extends Plan {
+        private final Function<Object, Collection<Object>> factory;
+
+        CollectionPlan(Function<Object, Collection<Object>> factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        Object copy(Object source, Context context) {
+            Collection<Object> copy = this.factory.apply(source);
+            context.register(source, copy);
+            for (Object element : (Collection<?>) source) {
+                copy.add(context.copy(element));
+            }
+            return copy;
+        }
+    }
+
+    private static final class MapPlan extends Plan {
+        private final Function<Object, Map<Object, Object>> factory;
+
+        MapPlan(Function<Object, Map<Object, Object>> factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        Object copy(Object source, Context context) {
+            Map<Object, Object> copy = this.factory.apply(source);
+            context.register(source, copy);
+            if (copy instanceof EnumMap) {
+                // EnumMap由复制构造方法创建，key为枚举，只需替换值
+                for (Map.Entry<Object, Object> entry : copy.entrySet()) {
+                    entry.setValue(context.copy(entry.getValue()));
+                }
+                return copy;
+            }
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) source).entrySet()) {
+                copy.put(context.copy(entry.getKey()), context.copy(entry.getValue()));
+            }
+            return copy;
+        }
+    }
+
+    /**
+     * bean拷贝方式，拷贝所有非static属性，包括超类的属性
+     */
+    private static final class BeanPlan extends Plan {
+        private final Class<?> type;
+        private final Supplier<?> instantiator;
+        private final FieldStep[] steps;
+
+        private BeanPlan(Class<?> type, Supplier<?> instantiator, FieldStep[] steps) {
+            this.type = type;
+            this.instantiator = instantiator;
+            this.steps = steps;
+        }
+
+        static BeanPlan create(Class<?> type) {
+            ClassMetadata metadata = ClassMetadata.forClass(type);
+            Supplier<?> instantiator;
+            try {
+                instantiator = Instantiators.forClass(metadata.getType());
+            } catch (IllegalArgumentException e) {
+                instantiator = null;
+            }
+            List<FieldStep> steps = new ArrayList<>();
+            for (Field field : metadata.fieldArray()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                FieldAccessor accessor = metadata.getProperty(field).getFieldAccessor();
+                if (!accessor.isWritable()) {
+                    continue;
+                }
+                Class<?> fieldType = field.getType();
+                if (fieldType.isPrimitive()) {
+                    // (Object target, Object source)void，基本类型值不装箱
+                    MethodHandle handle = MethodHandles.collectArguments(accessor.typedSetterOrNull(), 1,
+                            accessor.typedGetter());
+                    steps.add(new PrimitiveFieldStep(field, handle));
+                } else {
+                    steps.add(new ObjectFieldStep(field, accessor, isReference(fieldType)));
+                }
+            }
+            return new BeanPlan(type, instantiator, steps.toArray(new FieldStep[0]));
+        }
+
+        @Override
+        Object copy(Object source, Context context) {
+            if (this.instantiator == null) {
+                throw new IllegalArgumentException(String.format("Can not deep copy %s, no default constructor.",
+                        this.type.getName()));
+            }
+            Object copy = this.instantiator.get();
+            context.register(source, copy);
+            for (FieldStep step : this.steps) {
+                step.copy(source, copy, context);
+            }
+            return copy;
+        }
+    }
+
+    private abstract static class FieldStep {
+        final Field field;
+
+        FieldStep(Field field) {
+            this.field = field;
+        }
+
+        abstract void copy(Object source, Object target, Context context);
+
+        IllegalArgumentException fail(Throwable e) {
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+            return new IllegalArgumentException(String.format("Can not deep copy the field named '%s' of %s.",
+                    this.field.getName(), this.field.getDeclaringClass().getName()), e);
+        }
+    }
+
+    private static final class PrimitiveFieldStep extends FieldStep {
+        /**
+         * (Object target, Object source)void
+         */
+        private final MethodHandle handle;
+
+        PrimitiveFieldStep(Field field, MethodHandle handle) {
+            super(field);
+            this.handle = handle;
+        }
+
+        @Override
+        void copy(Object source, Object target, Context context) {
+            try {
+                this.handle.invokeExact(target, source);
+            } catch (Throwable e) {
+                throw this.fail(e);
+            }
+        }
+    }
+
+    private static final class ObjectFieldStep extends FieldStep {
+        private final FieldAccessor accessor;
+        /**
+         * 声明类型总是直接引用时不查找运行时类型的拷贝方式
+         */
+        private final boolean reference;
+
+        ObjectFieldStep(Field field, FieldAccessor accessor, boolean reference) {
+            super(field);
+            this.accessor = accessor;
+            this.reference = reference;
+        }
+
+        @Override
+        void copy(Object source, Object target, Context context) {
+            Object value = this.accessor.get(source);
+            this.accessor.set(target, this.reference ? value : context.copy(value));
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package org.rdlinux.luava.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.*;
+
+/**
+ * 预编译的属性比较计划，每个类只计算一次要比较的属性和比较句柄。
+ * 基本类型属性直接按基本类型比较，不装箱；数组按内容比较；其他类型按equals比较。
+ */
+final class DiffPlan {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    /**
+     * 计划缓存的区分条件，使用get方法读取或直接读取属性
+     */
+    private static final Object GETTER_KEY = new Object();
+    private static final Object FIELD_KEY = new Object();
+    private final Class<?> type;
+    private final String[] names;
+    private final Map<String, Integer> index;
+    /**
+     * (Object a, Object b)boolean
+     */
+    private final MethodHandle[] comparators;
+    /**
+     * (Object)Object
+     */
+    private final MethodHandle[] readers;
+
+    private DiffPlan(Class<?> type, boolean useGetter) {
+        this.type = type;
+        ClassMetadata metadata = ClassMetadata.forClass(type);
+        Map<String, PropertyMetadata> properties = metadata.propertyIndex();
+        List<String> names = new ArrayList<>();
+        List<MethodHandle> comparators = new ArrayList<>();
+        List<MethodHandle> readers = new ArrayList<>();
+        // 按属性声明顺序
+        for (Field field : metadata.fieldArray()) {
+            PropertyMetadata property = properties.get(field.getName());
+            if (property == null || property.getField() != field) {
+                continue;
+            }
+            MethodHandle reader = property.readHandle(useGetter);
+            if (reader == null && useGetter) {
+                reader = property.readHandle(false);
+            }
+            if (reader == null) {
+                // 无法读取的属性不参与比较
+                continue;
+            }
+            names.add(property.getName());
+            comparators.add(MethodHandles.filterArguments(equalsHandle(property.getType()), 0, reader, reader));
+            readers.add(reader.asType(MethodType.methodType(Object.class, Object.class)));
+        }
+        this.names = names.toArray(new String[0]);
+        this.comparators = comparators.toArray(new MethodHandle[0]);
+        this.readers = readers.toArray(new MethodHandle[0]);
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < this.names.length; i++) {
+            index.put(this.names[i], i);
+        }
+        this.index = index;
+    }
+
+    /**
+     * 获取类的比较计划
+     *
+     * @param type      类类型
+     * @param useGetter 是否使用get方法读取属性，属性没有get方法时直接读取
+     */
+    static DiffPlan forClass(Class<?> type, boolean useGetter) {
+        return ReflectionCache.getPlan(type, type, useGetter ? GETTER_KEY : FIELD_KEY,
+                () -> new DiffPlan(type, useGetter));
+    }
+
+    /**
+     * 属性类型对应的比较句柄，类型为(属性类型, 属性类型)boolean
+     */
+    private static MethodHandle equalsHandle(Class<?> type) {
+        String name;
+        Class<?> parameterType = type;
+        if (type.isPrimitive()) {
+            name = "primitiveEquals";
+        } else if (type.isArray()) {
+            name = "deepEquals";
+            parameterType = Object.class;
+        } else {
+            name = "objectEquals";
+            parameterType = Object.class;
+        }
+        try {
+            return LOOKUP.findStatic(DiffPlan.class, name,
+                    MethodType.methodType(boolean.class, parameterType, parameterType))
+                    .asType(MethodType.methodType(boolean.class, type, type));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean primitiveEquals(int a, int b) {
+        return a == b;
+    }
+
+    private static boolean primitiveEquals(long a, long b) {
+        return a == b;
+    }
+
+    private static boolean primitiveEquals(short a, short b) {
+        return a == b;
+    }
+
+    private static boolean primitiveEquals(byte a, byte b) {
+        return a == b;
+    }
+
+    private static boolean primitiveEquals(char a, char b) {
+        return a == b;
+    }
+
+    private static boolean primitiveEquals(boolean a, boolean b) {
+        return a == b;
+    }
+
+    /**
+     * 与{@link Float#equals(Object)}一致，NaN等于NaN，0.0不等于-0.0
+     */
+    private static boolean primitiveEquals(float a, float b) {
+        return Float.floatToIntBits(a) == Float.floatToIntBits(b);
+    }
+
+    /**
+     * 与{@link Double#equals(Object)}一致，NaN等于NaN，0.0不等于-0.0
+     */
+    private static boolean primitiveEquals(double a, double b) {
+        return Double.doubleToLongBits(a) == Double.doubleToLongBits(b);
+    }
+
+    private static boolean deepEquals(Object a, Object b) {
+        return Objects.deepEquals(a, b);
+    }
+
+    private static boolean objectEquals(Object a, Object b) {
+        return Objects.equals(a, b);
+    }
+
+    Class<?> getType() {
+        return this.type;
+    }
+
+    int size() {
+        return this.names.length;
+    }
+
+    String name(int index) {
+        return this.names[index];
+    }
+
+    /**
+     * 属性在计划中的位置，属性不参与比较时返回-1
+     *
+     * @param name 属性名称
+     */
+    int indexOf(String name) {
+        Integer position = this.index.get(name);
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * 比较两个对象，返回值不同的属性位置
+     *
+     * @param a            原对象
+     * @param b            修改后的对象
+     * @param ignoreFields 忽略的属性名称
+     * @param ignoreError  是否忽略读取错误，忽略时读取失败的属性视为未变化
+     */
+    BitSet compare(Object a, Object b, Collection<String> ignoreFields, boolean ignoreError) {
+        BitSet changed = new BitSet(this.comparators.length);
+        BitSet ignored = null;
+        if (ignoreFields != null && !ignoreFields.isEmpty()) {
+            ignored = new BitSet(this.comparators.length);
+            for (String ignoreField : ignoreFields) {
+                int position = this.indexOf(ignoreField);
+                if (position >= 0) {
+                    ignored.set(position);
+                }
+            }
+        }
+        for (int i = 0; i < this.comparators.length; i++) {
+            if (ignored != null && ignored.get(i)) {
+                continue;
+            }
+            boolean equal;
+            try {
+                equal = (boolean) this.comparators[i].invokeExact(a, b);
+            } catch (Throwable e) {
+                if (e instanceof Error) {
+                    throw (Error) e;
+                }
+                if (ignoreError) {
+                    continue;
+                }
+                throw new IllegalArgumentException(
+                        String.format("Can not compare the field named '%s'.", this.names[i]), e);
+            }
+            if (!equal) {
+                changed.set(i);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 读取属性值
+     *
+     * @param bean  bean
+     * @param index 属性位置
+     */
+    Object read(Object bean, int index) {
+        try {
+            return (Object) this.readers[index].invokeExact(bean);
+        } catch (Throwable e) {
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+            throw new IllegalArgumentException(
+                    String.format("Can not read the value of the field named '%s'.", this.names[index]), e);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package org.rdlinux.luava.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * 基于{@link MethodHandle}的属性直接访问器，不经过get/set方法。
+ * 提供getInt/setLong等基本类型的读写方法，读写基本类型属性时不会装箱。
+ */
+public final class FieldAccessor {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private final Field field;
+    /**
+     * (Object)Object
+     */
+    private final MethodHandle getter;
+    /**
+     * (Object,Object)void，属性不可写时为null
+     */
+    private final MethodHandle setter;
+    /**
+     * (Object)属性类型
+     */
+    private final MethodHandle typedGetter;
+    /**
+     * (Object,属性类型)void，属性不可写时为null
+     */
+    private final MethodHandle typedSetter;
+
+    private FieldAccessor(Field field) {
+        this.field = field;
+        ClassMetadata.trySetAccessible(field);
+        Class<?> type = field.getType();
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+        MethodHandle typedGetter;
+        try {
+            typedGetter = LOOKUP.unreflectGetter(field);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+        if (isStatic) {
+            typedGetter = MethodHandles.dropArguments(typedGetter, 0, Object.class);
+        }
+        this.typedGetter = typedGetter.asType(MethodType.methodType(type, Object.class));
+        this.getter = this.typedGetter.asType(MethodType.methodType(Object.class, Object.class));
+        MethodHandle typedSetter;
+        try {
+            typedSetter = LOOKUP.unreflectSetter(field);
+            if (isStatic) {
+                typedSetter = MethodHandles.dropArguments(typedSetter, 0, Object.class);
+            }
+            typedSetter = typedSetter.asType(MethodType.methodType(void.class, Object.class, type));
+        } catch (IllegalAccessException e) {
+            typedSetter = null;
+        }
+        this.typedSetter = typedSetter;
+        this.setter = typedSetter == null ? null
+                : typedSetter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+    }
+
+    /**
+     * 创建属性访问器
+     *
+     * @param field 属性
+     */
+    static FieldAccessor create(Field field) {
+        return new FieldAccessor(field);
+    }
+
+    private static IllegalArgumentException wrap(Throwable e) {
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        if (e instanceof IllegalArgumentException) {
+            return (IllegalArgumentException) e;
+        }
+        return new IllegalArgumentException(e);
+    }
+
+    MethodHandle typedGetter() {
+        return this.typedGetter;
+    }
+
+    MethodHandle typedSetterOrNull() {
+        return this.typedSetter;
+    }
+
+    public Field getField() {
+        return this.field;
+    }
+
+    /**
+     * 属性是否可写
+     */
+    public boolean isWritable() {
+        return this.setter != null;
+    }
+
+    private MethodHandle typedSetter() {
+        if (this.typedSetter == null) {
+            throw new IllegalArgumentException(String.format("The field named '%s' is not writable.",
+                    this.field.getName()));
+        }
+        return this.typedSetter;
+    }
+
+    /**
+     * 获取属性值
+     *
+     * @param bean 要获取的对象
+     */
+    public Object get(Object bean) {
+        try {
+            return this.getter.invokeExact(bean);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    /**
+     * 设置属性值
+     *
+     * @param bean  要设置的对象
+     * @param value 要设置的值
+     */
+    public void set(Object bean, Object value) {
+        if (this.setter == null) {
+            throw new IllegalArgumentException(String.format("The field named '%s' is not writable.",
+                    this.field.getName()));
+        }
+        try {
+            this.setter.invokeExact(bean, value);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    public int getInt(Object bean) {
+        try {
+            return (int) this.typedGetter.invokeExact(bean);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    public void setInt(Object bean, int value) {
+        try {
+            this.typedSetter().invokeExact(bean, value);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    public long getLong(Object bean) {
+        try {
+            return (long) this.typedGetter.invokeExact(bean);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    public void setLong(Object bean, long value) {
+        try {
+            this.typedSetter().invokeExact(bean, value);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    public double getDouble(Object bean) {
+        try {
+            return (double) this.typedGetter.invokeExact(bean);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    public void setDouble(Object bean, double value) {
+        try {
+            this.typedSetter().invokeExact(bean, value);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    public float getFloat(Object bean) {
+        try {
+            return (float) this.typedGetter.invokeExact(bean);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    public void setFloat(Object bean, float value) {
+        try {
+            this.typedSetter().invokeExact(bean, value);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    public boolean getBoolean(Object bean) {
+        try {
+            return (boolean) this.typedGetter.invokeExact(bean);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    public void setBoolean(Object bean, boolean value) {
+        try {
+            this.typedSetter().invokeExact(bean, value);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    public short getShort(Object bean) {
+        try {
+            return (short) this.typedGetter.invokeExact(bean);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    public void setShort(Object bean, short value) {
+        try {
+            this.typedSetter().invokeExact(bean, value);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    public byte getByte(Object bean) {
+        try {
+            return (byte) this.typedGetter.invokeExact(bean);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    public void setByte(Object bean, byte value) {
+        try {
+            this.typedSetter().invokeExact(bean, value);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    public char getChar(Object bean) {
+        try {
+            return (char) this.typedGetter.invokeExact(bean);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    public void setChar(Object bean, char value) {
+        try {
+            this.typedSetter().invokeExact(bean, value);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.rdlinux.luava.reflection;
+
+import java.lang.annotation.*;
+
+/**
+ * 声明编译期生成的bean拷贝器。标注在接口上，luava-reflection-processor在编译期生成该接口的实现类，
+ * 类名为接口名称加Impl，同时实现{@link GeneratedCopier}。
+ * <p>
+ * 生成的拷贝器通过public的get/set方法读写属性，属性规则与{@link CopyOption}的默认设置一致。
+ * 接口中只能声明copy(S source, T target)方法。
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateCopier {
+    /**
+     * 源类型
+     */
+    Class<?> source();
+
+    /**
+     * 目标类型
+     */
+    Class<?> target();
+
+    /**
+     * 忽略的源属性名称
+     */
+    String[] ignoreFields() default {};
+
+    /**
+     * 源属性与目标属性的对应关系
+     */
+    Mapping[] fieldMappings() default {};
+
+    /**
+     * 是否忽略空值，当源对象的值为null时，true: 忽略而不注入此值，false: 注入null
+     */
+    boolean ignoreNullValue() default false;
+
+    /**
+     * 是否忽略无法拷贝的属性，true: 跳过类型不兼容或没有get/set方法的属性，false: 编译报错
+     */
+    boolean ignoreError() default false;
+
+    /**
+     * 源属性与目标属性的对应关系
+     */
+    @Documented
+    @Retention(RetentionPolicy.CLASS)
+    @Target({})
+    @interface Mapping {
+        /**
+         * 源属性名称
+         */
+        String source();
+
+        /**
+         * 目标属性名称
+         */
+        String target();
+    }
+}
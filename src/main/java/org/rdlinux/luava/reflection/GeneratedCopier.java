@@ -0,0 +1,34 @@
+package org.rdlinux.luava.reflection;
+
+/**
+ * 编译期生成的bean拷贝器，由luava-reflection-processor根据{@link GenerateCopier}生成，不使用反射。
+ * <p>
+ * 生成的拷贝器在META-INF/services/org.rdlinux.luava.reflection.GeneratedCopier中声明，
+ * 由{@link java.util.ServiceLoader}从源类型的类加载器或线程上下文类加载器加载。
+ * {@link BeanUtils#copyProperties(Object, Object, String...)}不指定忽略属性时，
+ * 优先使用源类型和目标类型对应且{@link #isDefaultOption()}为true的生成拷贝器。
+ *
+ * @param <S> 源类型
+ * @param <T> 目标类型
+ */
+public interface GeneratedCopier<S, T> {
+    Class<S> getSourceClass();
+
+    Class<T> getTargetClass();
+
+    /**
+     * 把source bean的属性拷贝到target bean
+     *
+     * @param source the source bean
+     * @param target the target bean
+     */
+    void copy(S source, T target);
+
+    /**
+     * 拷贝规则是否与默认的{@link CopyOption}一致，即没有忽略属性和属性映射，不忽略空值和错误。
+     * 只有一致时才替代运行时编译的拷贝器
+     */
+    default boolean isDefaultOption() {
+        return false;
+    }
+}
@@ -0,0 +1,68 @@
+package org.rdlinux.luava.reflection;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * 编译期生成的拷贝器注册表，按源类型缓存在类上，不阻止类加载器被回收。
+ * 首次查找某个源类型时通过{@link ServiceLoader}从源类型的类加载器和当前线程的上下文类加载器加载，
+ * 只保留源类型匹配且拷贝器类对源类型可见的拷贝器，按目标类型索引
+ */
+final class GeneratedCopierRegistry {
+    private static final ClassCache<Map<Class<?>, GeneratedCopier<?, ?>>> COPIERS =
+            new ClassCache<>(GeneratedCopierRegistry::load);
+
+    private GeneratedCopierRegistry() {
+    }
+
+    /**
+     * 查找生成的拷贝器，不存在时返回null
+     *
+     * @param sourceClass 源类型
+     * @param targetClass 目标类型
+     */
+    @SuppressWarnings("unchecked")
+    static GeneratedCopier<Object, Object> find(Class<?> sourceClass, Class<?> targetClass) {
+        Map<Class<?>, GeneratedCopier<?, ?>> byTarget = COPIERS.get(sourceClass);
+        return byTarget.isEmpty() ? null : (GeneratedCopier<Object, Object>) byTarget.get(targetClass);
+    }
+
+    private static Map<Class<?>, GeneratedCopier<?, ?>> load(Class<?> sourceClass) {
+        ClassLoader sourceLoader = sourceClass.getClassLoader();
+        if (sourceLoader == null) {
+            return Collections.emptyMap();
+        }
+        Map<Class<?>, GeneratedCopier<?, ?>> copiers = new HashMap<>();
+        load(sourceClass, sourceLoader, copiers);
+        ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
+        if (contextLoader != null && contextLoader != sourceLoader) {
+            load(sourceClass, contextLoader, copiers);
+        }
+        return copiers.isEmpty() ? Collections.emptyMap() : copiers;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static void load(Class<?> sourceClass, ClassLoader loader,
+                             Map<Class<?>, GeneratedCopier<?, ?>> copiers) {
+        Iterator<GeneratedCopier> iterator = ServiceLoader.load(GeneratedCopier.class, loader).iterator();
+        while (true) {
+            try {
+                if (!iterator.hasNext()) {
+                    break;
+                }
+                GeneratedCopier<?, ?> copier = iterator.next();
+                // 拷贝器类在源类型的类加载器之下时不缓存，避免源类型持有子类加载器
+                if (copier.getSourceClass() == sourceClass && ReflectionCache.isVisible(
+                        sourceClass.getClassLoader(), copier.getClass().getClassLoader())) {
+                    copiers.putIfAbsent(copier.getTargetClass(), copier);
+                }
+            } catch (ServiceConfigurationError e) {
+                // 单个生成的拷贝器加载失败时，对应的类型对使用运行时编译的拷贝器
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package org.rdlinux.luava.reflection;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 实例创建器，按类缓存。
+ * 无参构造方法为public且类对本类的类加载器可见时通过{@link LambdaMetafactory}生成直接调用构造方法的{@link Supplier}，
+ * 否则通过{@link MethodHandle}调用，都不可用时回退为反射调用。
+ */
+final class Instantiators {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType SUPPLIER_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType FUNCTION_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private static final ClassCache<Holder> HOLDERS = new ClassCache<>(type -> new Holder());
+
+    private Instantiators() {
+    }
+
+    /**
+     * 获取无参构造方法的实例创建器
+     *
+     * @param type 类类型
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Supplier<T> forClass(Class<T> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("type can not be null");
+        }
+        Holder holder = HOLDERS.get(type);
+        Supplier<?> supplier = holder.supplier;
+        if (supplier == null) {
+            supplier = createSupplier(noArgConstructor(type));
+            holder.supplier = supplier;
+        }
+        return (Supplier<T>) supplier;
+    }
+
+    /**
+     * 获取构造方法的实例创建器，参数数组的长度必须与构造方法的参数个数一致
+     *
+     * @param constructor 构造方法
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Function<Object[], T> forConstructor(Constructor<T> constructor) {
+        if (constructor == null) {
+            throw new IllegalArgumentException("constructor can not be null");
+        }
+        checkInstantiable(constructor.getDeclaringClass());
+        return (Function<Object[], T>) HOLDERS.get(constructor.getDeclaringClass()).functions
+                .computeIfAbsent(constructor, Instantiators::createFunction);
+    }
+
+    private static void checkInstantiable(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            throw new IllegalArgumentException(String.format("Can not instantiate the abstract type %s.",
+                    type.getName()));
+        }
+    }
+
+    private static Constructor<?> noArgConstructor(Class<?> type) {
+        checkInstantiable(type);
+        try {
+            return type.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(String.format("Can not find the no-arg constructor of %s.",
+                    type.getName()), e);
+        }
+    }
+
+    private static Supplier<Object> createSupplier(Constructor<?> constructor) {
+        Supplier<Object> generated = generateSupplier(constructor);
+        if (generated != null) {
+            return generated;
+        }
+        ClassMetadata.trySetAccessible(constructor);
+        MethodHandle handle;
+        try {
+            handle = LOOKUP.unreflectConstructor(constructor).asType(SUPPLIER_TYPE);
+        } catch (IllegalAccessException e) {
+            return () -> newInstance(constructor);
+        }
+        return () -> {
+            try {
+                return (Object) handle.invokeExact();
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<Object> generateSupplier(Constructor<?> constructor) {
+        Class<?> type = constructor.getDeclaringClass();
+        if (!Modifier.isPublic(constructor.getModifiers()) || !Modifier.isPublic(type.getModifiers())
+                || type.getEnclosingClass() != null && !Modifier.isStatic(type.getModifiers())
+                || !AccessorGenerator.isVisible(type)) {
+            return null;
+        }
+        try {
+            MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+            CallSite site = LambdaMetafactory.metafactory(LOOKUP, "get", MethodType.methodType(Supplier.class),
+                    SUPPLIER_TYPE, handle, MethodType.methodType(type));
+            return (Supplier<Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    private static Function<Object[], Object> createFunction(Constructor<?> constructor) {
+        ClassMetadata.trySetAccessible(constructor);
+        int parameterCount = constructor.getParameterCount();
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        MethodHandle handle;
+        try {
+            handle = LOOKUP.unreflectConstructor(constructor).asFixedArity()
+                    .asSpreader(Object[].class, parameterCount).asType(FUNCTION_TYPE);
+        } catch (IllegalAccessException e) {
+            return args -> newInstance(constructor, args);
+        }
+        return args -> {
+            checkArguments(constructor, parameterTypes, args);
+            try {
+                return (Object) handle.invokeExact(args);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    private static void checkArguments(Constructor<?> constructor, Class<?>[] parameterTypes, Object[] args) {
+        if ((args == null ? 0 : args.length) != parameterTypes.length) {
+            throw new IllegalArgumentException(String.format("The constructor %s requires %d arguments.",
+                    constructor, parameterTypes.length));
+        }
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Class<?> parameterType = parameterTypes[i];
+            boolean matched = args[i] == null ? !parameterType.isPrimitive()
+                    : AccessorGenerator.wrap(parameterType).isInstance(args[i]);
+            if (!matched) {
+                throw new IllegalArgumentException(String.format(
+                        "The argument %d does not match the parameter type %s of the constructor %s.", i,
+                        parameterType.getName(), constructor));
+            }
+        }
+    }
+
+    private static Object newInstance(Constructor<?> constructor, Object... args) {
+        try {
+            return constructor.newInstance(args);
+        } catch (InvocationTargetException e) {
+            throw rethrow(e.getCause());
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * 构造方法抛出的非受检异常原样抛出，受检异常包装为IllegalArgumentException
+     */
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        return new IllegalArgumentException(e);
+    }
+
+    private static final class Holder {
+        private final Map<Constructor<?>, Function<Object[], ?>> functions = new ConcurrentHashMap<>();
+        private volatile Supplier<?> supplier;
+    }
+}
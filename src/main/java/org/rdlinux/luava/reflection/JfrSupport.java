@@ -0,0 +1,73 @@
+package org.rdlinux.luava.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * JFR事件入口。事件类{@code ReflectionEvents}单独编译，此处通过反射加载，主代码不链接jdk.jfr；
+ * 运行环境没有jdk.jfr或事件类时所有方法均为空操作
+ */
+final class JfrSupport {
+    private static final String EVENTS_CLASS = "org.rdlinux.luava.reflection.ReflectionEvents";
+    /**
+     * (Class, Class, int, long)void，不可用时为null
+     */
+    private static final MethodHandle PLAN_COMPILED;
+    /**
+     * (Class, Class, long)void，不可用时为null
+     */
+    private static final MethodHandle SLOW_COPY;
+
+    static {
+        MethodHandle planCompiled = null;
+        MethodHandle slowCopy = null;
+        try {
+            ClassLoader loader = JfrSupport.class.getClassLoader();
+            Class.forName("jdk.jfr.Event", false, loader);
+            Class<?> events = Class.forName(EVENTS_CLASS, true, loader);
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            planCompiled = lookup.findStatic(events, "planCompiled",
+                    MethodType.methodType(void.class, Class.class, Class.class, int.class, long.class));
+            slowCopy = lookup.findStatic(events, "slowCopy",
+                    MethodType.methodType(void.class, Class.class, Class.class, long.class));
+        } catch (ReflectiveOperationException | LinkageError e) {
+            planCompiled = null;
+            slowCopy = null;
+        }
+        PLAN_COMPILED = planCompiled;
+        SLOW_COPY = slowCopy;
+    }
+
+    private JfrSupport() {
+    }
+
+    static void planCompiled(Class<?> sourceClass, Class<?> targetClass, int steps, long nanos) {
+        if (PLAN_COMPILED != null) {
+            try {
+                PLAN_COMPILED.invokeExact(sourceClass, targetClass, steps, nanos);
+            } catch (Throwable e) {
+                rethrowError(e);
+            }
+        }
+    }
+
+    static void slowCopy(Class<?> sourceClass, Class<?> targetClass, long nanos) {
+        if (SLOW_COPY != null) {
+            try {
+                SLOW_COPY.invokeExact(sourceClass, targetClass, nanos);
+            } catch (Throwable e) {
+                rethrowError(e);
+            }
+        }
+    }
+
+    /**
+     * 事件提交失败不影响拷贝，只抛出Error
+     */
+    private static void rethrowError(Throwable e) {
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+    }
+}
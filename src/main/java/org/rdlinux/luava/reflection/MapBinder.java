@@ -0,0 +1,125 @@
+package org.rdlinux.luava.reflection;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 预编译的Map到bean绑定器，属性名称到set方法的对应关系只计算一次，
+ * 绑定时只遍历一次Map的entry。实例不可变，可在多线程之间共享。
+ * 拷贝选项中的忽略属性和属性映射均以Map的key为源属性名称。
+ *
+ * @param <T> 目标类型
+ */
+public final class MapBinder<T> {
+    private static final ClassCache<MapBinder<?>> DEFAULT_BINDERS = new ClassCache<>(type -> compile(type, null));
+    private final Class<T> targetClass;
+    private final Map<String, PropertyMetadata> index;
+    private final boolean useSetter;
+    private final boolean ignoreNullValue;
+    private final boolean ignoreError;
+    private volatile Supplier<T> instantiator;
+
+    private MapBinder(Class<T> targetClass, Map<String, PropertyMetadata> index, CopyOption copyOption) {
+        this.targetClass = targetClass;
+        this.index = index;
+        this.useSetter = copyOption.isUseSetter();
+        this.ignoreNullValue = copyOption.isIgnoreNullValue();
+        this.ignoreError = copyOption.isIgnoreError();
+    }
+
+    /**
+     * 编译绑定器
+     *
+     * @param targetClass 目标类型
+     * @param copyOption  拷贝选项
+     */
+    static <T> MapBinder<T> compile(Class<T> targetClass, CopyOption copyOption) {
+        if (targetClass == null) {
+            throw new IllegalArgumentException("targetClass can not be null");
+        }
+        if (copyOption == null) {
+            copyOption = new CopyOption();
+        }
+        ClassMetadata metadata = ClassMetadata.forClass(targetClass);
+        Map<String, PropertyMetadata> index = new HashMap<>(metadata.propertyIndex());
+        for (Map.Entry<String, String> mapping : copyOption.getFieldMapping().entrySet()) {
+            PropertyMetadata property = metadata.getProperty(mapping.getValue());
+            if (property == null) {
+                index.remove(mapping.getKey());
+            } else {
+                index.put(mapping.getKey(), property);
+            }
+        }
+        Set<String> ignoreFields = copyOption.ignoreFieldSet();
+        index.keySet().removeAll(ignoreFields);
+        // 属性没有set方法且忽略错误时，直接跳过该属性，不在每次绑定时抛出异常
+        if (copyOption.isUseSetter() && copyOption.isIgnoreError()) {
+            index.values().removeIf(property -> property.getSetter() == null);
+        }
+        return new MapBinder<>(targetClass, index, copyOption);
+    }
+
+    /**
+     * 获取目标类型的默认绑定器，默认绑定器按类缓存
+     *
+     * @param targetClass 目标类型
+     */
+    @SuppressWarnings("unchecked")
+    static <T> MapBinder<T> forClass(Class<T> targetClass) {
+        return (MapBinder<T>) DEFAULT_BINDERS.get(targetClass);
+    }
+
+    public Class<T> getTargetClass() {
+        return this.targetClass;
+    }
+
+    /**
+     * 创建目标bean并绑定Map中的值
+     *
+     * @param source 源Map
+     */
+    public T bind(Map<String, ?> source) {
+        Supplier<T> instantiator = this.instantiator;
+        if (instantiator == null) {
+            instantiator = Instantiators.forClass(this.targetClass);
+            this.instantiator = instantiator;
+        }
+        T target = instantiator.get();
+        this.bind(source, target);
+        return target;
+    }
+
+    /**
+     * 把Map中的值绑定到目标bean
+     *
+     * @param source 源Map
+     * @param target 目标bean
+     */
+    public void bind(Map<String, ?> source, T target) {
+        if (source == null || target == null) {
+            return;
+        }
+        for (Map.Entry<String, ?> entry : source.entrySet()) {
+            PropertyMetadata property = this.index.get(entry.getKey());
+            if (property == null) {
+                continue;
+            }
+            Object value = entry.getValue();
+            if (value == null && this.ignoreNullValue) {
+                continue;
+            }
+            try {
+                property.write(target, value, this.useSetter);
+            } catch (Exception e) {
+                if (!this.ignoreError) {
+                    throw new IllegalArgumentException(
+                            String.format("Can not bind the value of the key '%s' to the field '%s'.",
+                                    entry.getKey(), property.getName()),
+                            e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package org.rdlinux.luava.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 基于{@link MethodHandle}的方法调用器，按方法缓存，返回方法的返回值，void方法返回null。
+ * 提供invoke0到invoke4等按参数个数特化的调用方法，调用时不创建可变参数数组。
+ * <p>
+ * 重载方法按(类, 方法名称, 参数类型)解析一次后缓存，同名同参数个数的方法只有一个时只按参数个数缓存。
+ */
+public final class MethodInvoker {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final ClassCache<MethodIndex> INDEXES = new ClassCache<>(MethodIndex::new);
+    /**
+     * (Method method, Object target, Object[] args)Object
+     */
+    private static final MethodHandle REFLECTIVE_INVOKE;
+
+    static {
+        try {
+            REFLECTIVE_INVOKE = LOOKUP.findStatic(MethodInvoker.class, "invokeReflectively",
+                    MethodType.methodType(Object.class, Method.class, Object.class, Object[].class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Method method;
+    private final int arity;
+    /**
+     * (Object target, Object... args)Object，参数个数与方法一致，静态方法忽略target
+     */
+    private final MethodHandle handle;
+    /**
+     * (Object target, Object[] args)Object
+     */
+    private final MethodHandle spreader;
+
+    private MethodInvoker(Method method) {
+        this.method = method;
+        this.arity = method.getParameterCount();
+        MethodHandle handle;
+        ClassMetadata.trySetAccessible(method);
+        try {
+            handle = LOOKUP.unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            if (method.isVarArgs()) {
+                handle = handle.asFixedArity();
+            }
+        } catch (IllegalAccessException e) {
+            // 无法直接访问时回退为反射调用
+            handle = MethodHandles.insertArguments(REFLECTIVE_INVOKE, 0, method)
+                    .asCollector(Object[].class, this.arity);
+        }
+        this.handle = handle.asType(MethodType.genericMethodType(this.arity + 1));
+        this.spreader = this.handle.asSpreader(Object[].class, this.arity);
+    }
+
+    private static Object invokeReflectively(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 获取方法的调用器
+     *
+     * @param method 方法
+     */
+    static MethodInvoker forMethod(Method method) {
+        return INDEXES.get(method.getDeclaringClass()).invoker(method);
+    }
+
+    /**
+     * 按参数类型精确查找方法的调用器，包括超类中声明的非public方法，子类优先
+     *
+     * @param type           类类型
+     * @param name           方法名称
+     * @param parameterTypes 方法参数类型
+     */
+    static MethodInvoker forParameterTypes(Class<?> type, String name, Class<?>... parameterTypes) {
+        return INDEXES.get(type).findExact(name, parameterTypes == null ? new Class<?>[0] : parameterTypes);
+    }
+
+    /**
+     * 按参数值的运行时类型解析重载方法的调用器，选择参数类型最具体的方法
+     *
+     * @param type 类类型
+     * @param name 方法名称
+     * @param args 参数值
+     */
+    static MethodInvoker forArguments(Class<?> type, String name, Object... args) {
+        return INDEXES.get(type).resolve(name, args == null ? new Object[0] : args);
+    }
+
+    private static RuntimeException wrap(Throwable e) {
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        if (e instanceof IllegalArgumentException) {
+            return (IllegalArgumentException) e;
+        }
+        return new IllegalArgumentException(e);
+    }
+
+    public Method getMethod() {
+        return this.method;
+    }
+
+    /**
+     * 方法参数个数
+     */
+    public int getArity() {
+        return this.arity;
+    }
+
+    private void checkArity(int arity) {
+        if (this.arity != arity) {
+            throw new IllegalArgumentException(String.format("The method %s requires %d arguments, but %d given.",
+                    this.method.getName(), this.arity, arity));
+        }
+    }
+
+    /**
+     * 调用方法
+     *
+     * @param target 调用对象，静态方法时忽略
+     * @param args   参数
+     */
+    public Object invoke(Object target, Object... args) {
+        if (args == null) {
+            args = new Object[0];
+        }
+        this.checkArity(args.length);
+        try {
+            return this.spreader.invokeExact(target, args);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    public Object invoke0(Object target) {
+        this.checkArity(0);
+        try {
+            return this.handle.invokeExact(target);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    public Object invoke1(Object target, Object arg0) {
+        this.checkArity(1);
+        try {
+            return this.handle.invokeExact(target, arg0);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    public Object invoke2(Object target, Object arg0, Object arg1) {
+        this.checkArity(2);
+        try {
+            return this.handle.invokeExact(target, arg0, arg1);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    public Object invoke3(Object target, Object arg0, Object arg1, Object arg2) {
+        this.checkArity(3);
+        try {
+            return this.handle.invokeExact(target, arg0, arg1, arg2);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    public Object invoke4(Object target, Object arg0, Object arg1, Object arg2, Object arg3) {
+        this.checkArity(4);
+        try {
+            return this.handle.invokeExact(target, arg0, arg1, arg2, arg3);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    /**
+     * 单个类的方法索引与调用器缓存
+     */
+    private static final class MethodIndex {
+        /**
+         * 每个类按参数类型缓存的解析结果数量上限，超出后按参数类型解析的调用不再缓存
+         */
+        private static final int MAX_TYPED_RESOLUTIONS = 256;
+        private final Class<?> type;
+        /**
+         * 方法名称 -> 方法，子类声明的方法在前，被覆盖的方法不重复
+         */
+        private final Map<String, List<Method>> methods = new HashMap<>();
+        private final Map<Method, MethodInvoker> invokers = new ConcurrentHashMap<>();
+        /**
+         * 解析结果缓存，key为方法名称和参数个数，或方法名称和参数类型
+         */
+        private final Map<Object, MethodInvoker> resolved = new ConcurrentHashMap<>();
+        /**
+         * 按参数类型缓存的解析结果数量
+         */
+        private final AtomicInteger typedCount = new AtomicInteger();
+
+        MethodIndex(Class<?> type) {
+            this.type = type;
+            Set<String> signatures = new HashSet<>();
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                for (Method method : current.getDeclaredMethods()) {
+                    this.add(method, signatures);
+                }
+            }
+            // 接口的默认方法
+            for (Method method : type.getMethods()) {
+                this.add(method, signatures);
+            }
+        }
+
+        private static String signature(String name, Class<?>[] parameterTypes) {
+            StringBuilder builder = new StringBuilder(name).append('(');
+            for (Class<?> parameterType : parameterTypes) {
+                builder.append(parameterType.getName()).append(',');
+            }
+            return builder.append(')').toString();
+        }
+
+        private static boolean isApplicable(Class<?>[] parameterTypes, Object[] args) {
+            for (int i = 0; i < parameterTypes.length; i++) {
+                Object arg = args[i];
+                if (arg == null) {
+                    if (parameterTypes[i].isPrimitive()) {
+                        return false;
+                    }
+                } else if (!AccessorGenerator.wrap(parameterTypes[i]).isInstance(arg)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * a的参数类型是否都比b的参数类型具体
+         */
+        private static boolean isMoreSpecific(Method a, Method b) {
+            Class<?>[] aTypes = a.getParameterTypes();
+            Class<?>[] bTypes = b.getParameterTypes();
+            for (int i = 0; i < aTypes.length; i++) {
+                if (!AccessorGenerator.wrap(bTypes[i]).isAssignableFrom(AccessorGenerator.wrap(aTypes[i]))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void add(Method method, Set<String> signatures) {
+            if (signatures.add(signature(method.getName(), method.getParameterTypes()))) {
+                this.methods.computeIfAbsent(method.getName(), k -> new ArrayList<>()).add(method);
+            }
+        }
+
+        private IllegalArgumentException notFound(String name) {
+            return new IllegalArgumentException(String.format("Can not find the method named '%s' in %s.", name,
+                    this.type.getName()));
+        }
+
+        MethodInvoker invoker(Method method) {
+            return this.invokers.computeIfAbsent(method, MethodInvoker::new);
+        }
+
+        MethodInvoker findExact(String name, Class<?>[] parameterTypes) {
+            String key = signature(name, parameterTypes);
+            MethodInvoker invoker = this.resolved.get(key);
+            if (invoker != null) {
+                return invoker;
+            }
+            for (Method method : this.methods.getOrDefault(name, Collections.emptyList())) {
+                if (Arrays.equals(method.getParameterTypes(), parameterTypes)) {
+                    invoker = INDEXES.get(method.getDeclaringClass()).invoker(method);
+                    this.resolved.put(key, invoker);
+                    return invoker;
+                }
+            }
+            throw this.notFound(name);
+        }
+
+        MethodInvoker resolve(String name, Object[] args) {
+            ArityKey arityKey = new ArityKey(name, args.length);
+            MethodInvoker invoker = this.resolved.get(arityKey);
+            if (invoker != null) {
+                return invoker;
+            }
+            List<Method> candidates = new ArrayList<>();
+            for (Method method : this.methods.getOrDefault(name, Collections.emptyList())) {
+                if (method.getParameterCount() == args.length && !method.isBridge()) {
+                    candidates.add(method);
+                }
+            }
+            if (candidates.isEmpty()) {
+                throw this.notFound(name);
+            }
+            if (candidates.size() == 1) {
+                // 同名同参数个数的方法唯一，只按参数个数缓存，参数类型不匹配时由调用报错
+                invoker = INDEXES.get(candidates.get(0).getDeclaringClass()).invoker(candidates.get(0));
+                this.resolved.put(arityKey, invoker);
+                return invoker;
+            }
+            Class<?>[] argTypes = new Class<?>[args.length];
+            for (int i = 0; i < args.length; i++) {
+                argTypes[i] = args[i] == null ? null : args[i].getClass();
+            }
+            TypesKey typesKey = new TypesKey(name, argTypes);
+            invoker = this.resolved.get(typesKey);
+            if (invoker != null) {
+                return invoker;
+            }
+            List<Method> applicable = new ArrayList<>();
+            for (Method candidate : candidates) {
+                if (isApplicable(candidate.getParameterTypes(), args)) {
+                    applicable.add(candidate);
+                }
+            }
+            if (applicable.isEmpty()) {
+                throw new IllegalArgumentException(String.format(
+                        "Can not find the method named '%s' in %s for arguments %s.", name, this.type.getName(),
+                        Arrays.toString(argTypes)));
+            }
+            // 选择参数类型比其他所有方法都具体的方法，同样具体时取子类中先声明的方法
+            Method best = null;
+            for (Method candidate : applicable) {
+                boolean mostSpecific = true;
+                for (Method other : applicable) {
+                    if (other != candidate && !isMoreSpecific(candidate, other)) {
+                        mostSpecific = false;
+                        break;
+                    }
+                }
+                if (mostSpecific) {
+                    best = candidate;
+                    break;
+                }
+            }
+            if (best == null) {
+                throw new IllegalArgumentException(String.format(
+                        "Ambiguous method named '%s' in %s for arguments %s.", name, this.type.getName(),
+                        Arrays.toString(argTypes)));
+            }
+            invoker = INDEXES.get(best.getDeclaringClass()).invoker(best);
+            if (this.typedCount.get() < MAX_TYPED_RESOLUTIONS && this.isCacheable(argTypes)
+                    && this.resolved.putIfAbsent(typesKey, invoker) == null) {
+                this.typedCount.incrementAndGet();
+            }
+            return invoker;
+        }
+
+        /**
+         * 参数类型都对该类可见时才按参数类型缓存，缓存随该类回收，不会持有其他类加载器
+         */
+        private boolean isCacheable(Class<?>[] argTypes) {
+            ClassLoader loader = this.type.getClassLoader();
+            for (Class<?> argType : argTypes) {
+                if (argType != null && !ReflectionCache.isVisible(loader, argType.getClassLoader())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class ArityKey {
+        private final String name;
+        private final int arity;
+
+        ArityKey(String name, int arity) {
+            this.name = name;
+            this.arity = arity;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ArityKey)) {
+                return false;
+            }
+            ArityKey that = (ArityKey) o;
+            return this.arity == that.arity && this.name.equals(that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.name.hashCode() * 31 + this.arity;
+        }
+    }
+
+    private static final class TypesKey {
+        private final String name;
+        private final Class<?>[] types;
+        private final int hash;
+
+        TypesKey(String name, Class<?>[] types) {
+            this.name = name;
+            this.types = types;
+            this.hash = name.hashCode() * 31 + Arrays.hashCode(types);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof TypesKey)) {
+                return false;
+            }
+            TypesKey that = (TypesKey) o;
+            return this.name.equals(that.name) && Arrays.equals(this.types, that.types);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.rdlinux.luava.reflection;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 两个同类型bean的属性差异，变化的属性以位集合记录，位的下标对应{@link #getPropertyNames()}中的位置。
+ * 属性的旧值和新值在获取时才从bean中读取，bean在比较之后被修改时读取到的是修改后的值。
+ */
+public final class PropertyDiff {
+    private final DiffPlan plan;
+    private final Object original;
+    private final Object modified;
+    private final BitSet changed;
+
+    PropertyDiff(DiffPlan plan, Object original, Object modified, BitSet changed) {
+        this.plan = plan;
+        this.original = original;
+        this.modified = modified;
+        this.changed = changed;
+    }
+
+    public Class<?> getType() {
+        return this.plan.getType();
+    }
+
+    /**
+     * 是否有属性变化
+     */
+    public boolean hasChanges() {
+        return !this.changed.isEmpty();
+    }
+
+    /**
+     * 变化的属性数量
+     */
+    public int getChangedCount() {
+        return this.changed.cardinality();
+    }
+
+    /**
+     * 变化的属性位集合，返回的集合为副本
+     */
+    public BitSet getChangedBits() {
+        return (BitSet) this.changed.clone();
+    }
+
+    /**
+     * 参与比较的所有属性名称，按属性声明顺序
+     */
+    public List<String> getPropertyNames() {
+        List<String> names = new ArrayList<>(this.plan.size());
+        for (int i = 0; i < this.plan.size(); i++) {
+            names.add(this.plan.name(i));
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * 变化的属性名称，按属性声明顺序
+     */
+    public List<String> getChangedProperties() {
+        List<String> names = new ArrayList<>(this.changed.cardinality());
+        for (int i = this.changed.nextSetBit(0); i >= 0; i = this.changed.nextSetBit(i + 1)) {
+            names.add(this.plan.name(i));
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * 属性是否变化
+     *
+     * @param propertyName 属性名称
+     */
+    public boolean isChanged(String propertyName) {
+        int index = this.plan.indexOf(propertyName);
+        return index >= 0 && this.changed.get(index);
+    }
+
+    /**
+     * 获取属性在原对象中的值
+     *
+     * @param propertyName 属性名称
+     */
+    public Object getOldValue(String propertyName) {
+        return this.plan.read(this.original, this.indexOf(propertyName));
+    }
+
+    /**
+     * 获取属性在修改后对象中的值
+     *
+     * @param propertyName 属性名称
+     */
+    public Object getNewValue(String propertyName) {
+        return this.plan.read(this.modified, this.indexOf(propertyName));
+    }
+
+    private int indexOf(String propertyName) {
+        int index = this.plan.indexOf(propertyName);
+        if (index < 0) {
+            throw new IllegalArgumentException(String.format("Can not find the field named '%s' in %s.",
+                    propertyName, this.plan.getType().getName()));
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "PropertyDiff{type=" + this.plan.getType().getName() + ", changed=" + this.getChangedProperties() + "}";
+    }
+}
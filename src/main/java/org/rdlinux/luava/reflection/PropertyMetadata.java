@@ -0,0 +1,209 @@
+package org.rdlinux.luava.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 属性元数据，包含属性及其get/set方法
+ */
+public final class PropertyMetadata {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    /**
+     * 句柄无法创建的标记
+     */
+    private static final MethodHandle NO_HANDLE = MethodHandles.constant(Object.class, null);
+    private final Field field;
+    private final Method getter;
+    private final Method setter;
+    /**
+     * 生成的get/set方法访问器，首次使用时创建
+     */
+    private volatile Function<Object, Object> getterAccessor;
+    private volatile BiConsumer<Object, Object> setterAccessor;
+    /**
+     * 属性直接访问器，首次使用时创建
+     */
+    private volatile FieldAccessor fieldAccessor;
+    /**
+     * get/set方法的类型化句柄，首次使用时创建，无法创建时为{@link #NO_HANDLE}
+     */
+    private volatile MethodHandle getterHandle;
+    private volatile MethodHandle setterHandle;
+
+    PropertyMetadata(Field field, Method getter, Method setter) {
+        this.field = field;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    public Field getField() {
+        return this.field;
+    }
+
+    public String getName() {
+        return this.field.getName();
+    }
+
+    public Class<?> getType() {
+        return this.field.getType();
+    }
+
+    /**
+     * 获取get方法，不存在时返回null
+     */
+    public Method getGetter() {
+        return this.getter;
+    }
+
+    /**
+     * 获取set方法，不存在时返回null
+     */
+    public Method getSetter() {
+        return this.setter;
+    }
+
+    /**
+     * 获取属性直接访问器
+     */
+    public FieldAccessor getFieldAccessor() {
+        FieldAccessor accessor = this.fieldAccessor;
+        if (accessor == null) {
+            accessor = FieldAccessor.create(this.field);
+            this.fieldAccessor = accessor;
+        }
+        return accessor;
+    }
+
+    Function<Object, Object> getterAccessor() {
+        Function<Object, Object> accessor = this.getterAccessor;
+        if (accessor == null && this.getter != null) {
+            accessor = AccessorGenerator.getter(this.getter);
+            this.getterAccessor = accessor;
+        }
+        return accessor;
+    }
+
+    BiConsumer<Object, Object> setterAccessor() {
+        BiConsumer<Object, Object> accessor = this.setterAccessor;
+        if (accessor == null && this.setter != null) {
+            accessor = AccessorGenerator.setter(this.setter);
+            this.setterAccessor = accessor;
+        }
+        return accessor;
+    }
+
+    /**
+     * 获取类型为(Object)属性类型的读取句柄，基本类型不装箱，无法读取时返回null。句柄按属性缓存
+     *
+     * @param useGetter 是否使用get函数
+     */
+    MethodHandle readHandle(boolean useGetter) {
+        if (!useGetter) {
+            try {
+                return this.getFieldAccessor().typedGetter();
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        MethodHandle handle = this.getterHandle;
+        if (handle == null) {
+            handle = NO_HANDLE;
+            if (this.getter != null) {
+                try {
+                    handle = LOOKUP.unreflect(this.getter)
+                            .asType(MethodType.methodType(this.getType(), Object.class));
+                } catch (IllegalAccessException e) {
+                    handle = NO_HANDLE;
+                }
+            }
+            this.getterHandle = handle;
+        }
+        return handle == NO_HANDLE ? null : handle;
+    }
+
+    /**
+     * 获取类型为(Object,属性类型)void的写入句柄，基本类型不装箱，无法写入时返回null。句柄按属性缓存
+     *
+     * @param useSetter 是否使用set函数
+     */
+    MethodHandle writeHandle(boolean useSetter) {
+        if (!useSetter) {
+            try {
+                return this.getFieldAccessor().typedSetterOrNull();
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        MethodHandle handle = this.setterHandle;
+        if (handle == null) {
+            handle = NO_HANDLE;
+            if (this.setter != null) {
+                try {
+                    handle = LOOKUP.unreflect(this.setter)
+                            .asType(MethodType.methodType(void.class, Object.class, this.getType()));
+                } catch (IllegalAccessException e) {
+                    handle = NO_HANDLE;
+                }
+            }
+            this.setterHandle = handle;
+        }
+        return handle == NO_HANDLE ? null : handle;
+    }
+
+    /**
+     * 读取属性值
+     *
+     * @param bean      要读取的对象
+     * @param useGetter 是否使用get函数
+     */
+    Object read(Object bean, boolean useGetter) {
+        if (!useGetter) {
+            return this.getFieldAccessor().get(bean);
+        }
+        Function<Object, Object> accessor = this.getterAccessor();
+        if (accessor == null) {
+            throw new IllegalArgumentException(String.format(
+                    "Can not find the get method of the field named '%s' in %s.", this.getName(),
+                    bean.getClass().getName()));
+        }
+        try {
+            return accessor.apply(bean);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * 写入属性值
+     *
+     * @param bean      要写入的对象
+     * @param value     要写入的值
+     * @param useSetter 是否使用set函数
+     */
+    void write(Object bean, Object value, boolean useSetter) {
+        if (!useSetter) {
+            this.getFieldAccessor().set(bean, value);
+            return;
+        }
+        BiConsumer<Object, Object> accessor = this.setterAccessor();
+        if (accessor == null) {
+            throw new IllegalArgumentException(String.format(
+                    "Can not find the set method of the field named '%s' in %s.", this.getName(),
+                    bean.getClass().getName()));
+        }
+        try {
+            accessor.accept(bean, value);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,410 @@
+package org.rdlinux.luava.reflection;
+
+import java.lang.reflect.*;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 编译后的属性路径，如order.items[0].sku、attributes[name]、attributes['a.b']。
+ * 路径只解析一次，每一段缓存最近访问的类的属性访问器，可在多线程之间共享并对不同对象重复求值。
+ * <p>
+ * 属性直接读写，不经过get/set方法；当前对象为Map时属性名作为键。
+ * 下标可用于List、数组和Map，用于Map时下标作为字符串键。
+ */
+public final class PropertyPath {
+    private final String path;
+    private final Segment[] segments;
+    private final boolean nullSafe;
+
+    private PropertyPath(String path, Segment[] segments, boolean nullSafe) {
+        this.path = path;
+        this.segments = segments;
+        this.nullSafe = nullSafe;
+    }
+
+    /**
+     * 编译属性路径
+     *
+     * @param path     属性路径
+     * @param nullSafe 是否空安全，true: 中间值为null或下标越界时取值返回null，false: 抛出IllegalArgumentException
+     */
+    static PropertyPath compile(String path, boolean nullSafe) {
+        if (path == null || path.trim().isEmpty()) {
+            throw new IllegalArgumentException("The path can not be whitespace, empty (\"\") or null.");
+        }
+        return new PropertyPath(path, parse(path), nullSafe);
+    }
+
+    private static Segment[] parse(String path) {
+        List<Segment> segments = new ArrayList<>();
+        int length = path.length();
+        int position = 0;
+        while (position < length) {
+            char c = path.charAt(position);
+            if (c == '[') {
+                int start = position + 1;
+                String key;
+                boolean quoted = start < length && (path.charAt(start) == '\'' || path.charAt(start) == '"');
+                if (quoted) {
+                    int end = path.indexOf(path.charAt(start), start + 1);
+                    if (end < 0 || end + 1 >= length || path.charAt(end + 1) != ']') {
+                        throw invalidPath(path, position);
+                    }
+                    key = path.substring(start + 1, end);
+                    position = end + 2;
+                } else {
+                    int end = path.indexOf(']', start);
+                    if (end < 0) {
+                        throw invalidPath(path, position);
+                    }
+                    key = path.substring(start, end).trim();
+                    if (key.isEmpty()) {
+                        throw invalidPath(path, position);
+                    }
+                    position = end + 1;
+                }
+                segments.add(new IndexSegment(path.substring(0, position), key, quoted ? -1 : parseIndex(key)));
+            } else {
+                if (c == '.') {
+                    if (segments.isEmpty()) {
+                        throw invalidPath(path, position);
+                    }
+                    position++;
+                } else if (!segments.isEmpty()) {
+                    throw invalidPath(path, position);
+                }
+                int start = position;
+                while (position < length && path.charAt(position) != '.' && path.charAt(position) != '[') {
+                    position++;
+                }
+                String name = path.substring(start, position).trim();
+                if (name.isEmpty()) {
+                    throw invalidPath(path, start);
+                }
+                segments.add(new PropertySegment(path.substring(0, position), name));
+            }
+        }
+        return segments.toArray(new Segment[0]);
+    }
+
+    private static int parseIndex(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            if (!Character.isDigit(key.charAt(i))) {
+                return -1;
+            }
+        }
+        try {
+            return Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static IllegalArgumentException invalidPath(String path, int position) {
+        return new IllegalArgumentException(String.format("Invalid property path '%s' at position %d.", path,
+                position));
+    }
+
+    /**
+     * 容器类型的类型参数，如List&lt;Item&gt;的元素类型，无法确定时返回Object
+     */
+    private static Type typeArgument(Type containerType, Class<?> genericType, int index) {
+        Class<?> rawClass = TypeResolver.rawClass(containerType);
+        if (!genericType.isAssignableFrom(rawClass)) {
+            return Object.class;
+        }
+        Type argument = TypeResolver.getTypeArguments(rawClass, genericType)[index];
+        if (argument instanceof TypeVariable && containerType instanceof ParameterizedType) {
+            TypeVariable<?>[] variables = rawClass.getTypeParameters();
+            Type[] arguments = ((ParameterizedType) containerType).getActualTypeArguments();
+            for (int i = 0; i < variables.length; i++) {
+                if (variables[i].equals(argument)) {
+                    return arguments[i];
+                }
+            }
+        }
+        return argument;
+    }
+
+    /**
+     * 创建中间对象，下一段为数字下标时创建List或数组，为Object或Map类型时创建LinkedHashMap，其他类型调用无参构造方法
+     */
+    private static Object createValue(Type type, Segment next, String prefix) {
+        Class<?> rawClass = TypeResolver.rawClass(type);
+        int index = next instanceof IndexSegment ? ((IndexSegment) next).index : -1;
+        if (rawClass.isArray()) {
+            if (index < 0) {
+                throw new IllegalArgumentException(String.format("Can not create the array of '%s' without index.",
+                        prefix));
+            }
+            return Array.newInstance(rawClass.getComponentType(), index + 1);
+        }
+        if (index >= 0 && rawClass.isAssignableFrom(ArrayList.class)) {
+            return new ArrayList<>();
+        }
+        if (rawClass.isAssignableFrom(LinkedHashMap.class)) {
+            return new LinkedHashMap<>();
+        }
+        try {
+            return Instantiators.forClass(rawClass).get();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Can not create the value of '%s'.", prefix), e);
+        }
+    }
+
+    public String getPath() {
+        return this.path;
+    }
+
+    public boolean isNullSafe() {
+        return this.nullSafe;
+    }
+
+    /**
+     * 获取路径的值
+     *
+     * @param root 根对象
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object root) {
+        if (root == null) {
+            if (this.nullSafe) {
+                return null;
+            }
+            throw new IllegalArgumentException("The root object can not be null.");
+        }
+        Object current = root;
+        for (int i = 0; i < this.segments.length; i++) {
+            if (current == null) {
+                if (this.nullSafe) {
+                    return null;
+                }
+                throw new IllegalArgumentException(String.format("The value of '%s' is null.",
+                        this.segments[i - 1].prefix));
+            }
+            current = this.segments[i].read(current, this.nullSafe);
+        }
+        return (T) current;
+    }
+
+    /**
+     * 设置路径的值，中间值为null时按属性的声明类型创建，List下标越界时以null补齐
+     *
+     * @param root  根对象
+     * @param value 要设置的值
+     */
+    public void set(Object root, Object value) {
+        if (root == null) {
+            throw new IllegalArgumentException("The root object can not be null.");
+        }
+        Object current = root;
+        Type currentType = root.getClass();
+        int last = this.segments.length - 1;
+        for (int i = 0; i < last; i++) {
+            Segment segment = this.segments[i];
+            Type childType = segment.childType(current, currentType);
+            Object child = segment.read(current, true);
+            if (child == null) {
+                child = createValue(childType, this.segments[i + 1], segment.prefix);
+                segment.write(current, child);
+            } else if (!(childType instanceof ParameterizedType || childType instanceof GenericArrayType)) {
+                // 声明类型没有泛型信息时按实际类型继续解析
+                childType = child.getClass();
+            }
+            current = child;
+            currentType = childType;
+        }
+        this.segments[last].write(current, value);
+    }
+
+    @Override
+    public String toString() {
+        return this.path;
+    }
+
+    private abstract static class Segment {
+        /**
+         * 到该段为止的路径，用于错误信息
+         */
+        final String prefix;
+
+        Segment(String prefix) {
+            this.prefix = prefix;
+        }
+
+        /**
+         * 读取值
+         *
+         * @param target   当前对象，不为null
+         * @param nullSafe 下标越界时是否返回null
+         */
+        abstract Object read(Object target, boolean nullSafe);
+
+        abstract void write(Object target, Object value);
+
+        /**
+         * 该段的值的声明类型
+         */
+        abstract Type childType(Object target, Type targetType);
+    }
+
+    private static final class PropertySegment extends Segment {
+        private final String name;
+        /**
+         * 最近访问的类的属性，同一类型重复求值时不再查找
+         */
+        private volatile Binding binding;
+
+        PropertySegment(String prefix, String name) {
+            super(prefix);
+            this.name = name;
+        }
+
+        private Binding bind(Class<?> type) {
+            Binding binding = this.binding;
+            if (binding == null || binding.type != type) {
+                Field field = ReflectionUtils.getField(type, this.name);
+                if (field == null) {
+                    throw new IllegalArgumentException(String.format("Can not find the field named '%s' in %s.",
+                            this.name, type.getName()));
+                }
+                binding = new Binding(type, field, ReflectionUtils.getFieldAccessor(field));
+                this.binding = binding;
+            }
+            return binding;
+        }
+
+        @Override
+        Object read(Object target, boolean nullSafe) {
+            if (target instanceof Map) {
+                return ((Map<?, ?>) target).get(this.name);
+            }
+            return this.bind(target.getClass()).accessor.get(target);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void write(Object target, Object value) {
+            if (target instanceof Map) {
+                ((Map<Object, Object>) target).put(this.name, value);
+                return;
+            }
+            this.bind(target.getClass()).accessor.set(target, value);
+        }
+
+        @Override
+        Type childType(Object target, Type targetType) {
+            if (target instanceof Map) {
+                return typeArgument(targetType, Map.class, 1);
+            }
+            Binding binding = this.bind(target.getClass());
+            return TypeResolver.resolveFieldType(binding.field, binding.type);
+        }
+    }
+
+    private static final class Binding {
+        private final Class<?> type;
+        private final Field field;
+        private final FieldAccessor accessor;
+
+        Binding(Class<?> type, Field field, FieldAccessor accessor) {
+            this.type = type;
+            this.field = field;
+            this.accessor = accessor;
+        }
+    }
+
+    private static final class IndexSegment extends Segment {
+        private final String key;
+        /**
+         * 数字下标，非数字或带引号时为-1
+         */
+        private final int index;
+
+        IndexSegment(String prefix, String key, int index) {
+            super(prefix);
+            this.key = key;
+            this.index = index;
+        }
+
+        private int checkIndex() {
+            if (this.index < 0) {
+                throw new IllegalArgumentException(String.format("The index of '%s' must be a non-negative integer.",
+                        this.prefix));
+            }
+            return this.index;
+        }
+
+        @Override
+        Object read(Object target, boolean nullSafe) {
+            if (target instanceof Map) {
+                return ((Map<?, ?>) target).get(this.key);
+            }
+            int index = this.checkIndex();
+            int size;
+            if (target instanceof List) {
+                size = ((List<?>) target).size();
+            } else if (target.getClass().isArray()) {
+                size = Array.getLength(target);
+            } else {
+                throw new IllegalArgumentException(String.format("Can not index %s of '%s'.",
+                        target.getClass().getName(), this.prefix));
+            }
+            if (index >= size) {
+                if (nullSafe) {
+                    return null;
+                }
+                throw new IllegalArgumentException(String.format("The index of '%s' is out of range, size: %d.",
+                        this.prefix, size));
+            }
+            return target instanceof List ? ((List<?>) target).get(index) : Array.get(target, index);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void write(Object target, Object value) {
+            if (target instanceof Map) {
+                ((Map<Object, Object>) target).put(this.key, value);
+                return;
+            }
+            int index = this.checkIndex();
+            if (target instanceof List) {
+                List<Object> list = (List<Object>) target;
+                while (list.size() < index) {
+                    list.add(null);
+                }
+                if (index == list.size()) {
+                    list.add(value);
+                } else {
+                    list.set(index, value);
+                }
+            } else if (target.getClass().isArray()) {
+                int length = Array.getLength(target);
+                if (index >= length) {
+                    throw new IllegalArgumentException(String.format(
+                            "The index of '%s' is out of range, length: %d.", this.prefix, length));
+                }
+                Array.set(target, index, value);
+            } else {
+                throw new IllegalArgumentException(String.format("Can not index %s of '%s'.",
+                        target.getClass().getName(), this.prefix));
+            }
+        }
+
+        @Override
+        Type childType(Object target, Type targetType) {
+            if (target instanceof Map) {
+                return typeArgument(targetType, Map.class, 1);
+            }
+            if (target instanceof List) {
+                return typeArgument(targetType, List.class, 0);
+            }
+            if (targetType instanceof GenericArrayType) {
+                return ((GenericArrayType) targetType).getGenericComponentType();
+            }
+            return target.getClass().isArray() ? target.getClass().getComponentType() : Object.class;
+        }
+    }
+}
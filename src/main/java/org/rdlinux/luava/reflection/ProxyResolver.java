@@ -0,0 +1,25 @@
+package org.rdlinux.luava.reflection;
+
+/**
+ * 代理类解析器，用于识别字节码生成的代理类并找到被代理的真实类。
+ * <p>
+ * 自定义解析器可通过{@link ReflectionUtils#registerProxyResolver(ProxyResolver)}注册，
+ * 或在META-INF/services/org.rdlinux.luava.reflection.ProxyResolver中声明后由{@link java.util.ServiceLoader}自动加载。
+ * 解析结果按类缓存，实现不需要自行缓存。
+ */
+public interface ProxyResolver {
+    /**
+     * 判断是否为该解析器能识别的代理类
+     *
+     * @param type 要判断的类类型
+     */
+    boolean isProxyClass(Class<?> type);
+
+    /**
+     * 获取代理类的真实类，只有{@link #isProxyClass(Class)}返回true时才会调用。
+     * 没有真实类时(如jdk动态代理)返回代理类本身
+     *
+     * @param proxyClass 代理类
+     */
+    Class<?> getUserClass(Class<?> proxyClass);
+}
@@ -0,0 +1,78 @@
+package org.rdlinux.luava.reflection;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 代理类解析器注册表，按类缓存解析结果，预热后识别代理类只是一次缓存读取
+ */
+final class ProxyResolverRegistry {
+    private static final List<ProxyResolver> RESOLVERS = new CopyOnWriteArrayList<>();
+    private static final ClassCache<ProxyInfo> CACHE = new ClassCache<>(ProxyResolverRegistry::resolve);
+
+    static {
+        RESOLVERS.addAll(Arrays.asList(BuiltinProxyResolver.values()));
+        try {
+            for (ProxyResolver resolver : ServiceLoader.load(ProxyResolver.class,
+                    ProxyResolverRegistry.class.getClassLoader())) {
+                RESOLVERS.add(resolver);
+            }
+        } catch (ServiceConfigurationError e) {
+            // 自定义解析器加载失败时只使用内置解析器
+        }
+    }
+
+    private ProxyResolverRegistry() {
+    }
+
+    private static ProxyInfo resolve(Class<?> type) {
+        boolean proxy = false;
+        Class<?> current = type;
+        // 代理类可能被多次代理，一直解析到没有解析器能识别为止
+        for (int depth = 0; depth < 16; depth++) {
+            ProxyResolver matched = null;
+            for (ProxyResolver resolver : RESOLVERS) {
+                if (resolver.isProxyClass(current)) {
+                    matched = resolver;
+                    break;
+                }
+            }
+            if (matched == null) {
+                break;
+            }
+            proxy = true;
+            Class<?> userClass = matched.getUserClass(current);
+            if (userClass == null || userClass == current) {
+                break;
+            }
+            current = userClass;
+        }
+        return new ProxyInfo(proxy, current);
+    }
+
+    static void register(ProxyResolver resolver) {
+        if (resolver == null) {
+            throw new IllegalArgumentException("resolver can not be null");
+        }
+        RESOLVERS.add(0, resolver);
+        CACHE.clear();
+    }
+
+    static Class<?> getUserClass(Class<?> type) {
+        return CACHE.get(type).userClass;
+    }
+
+    static boolean isProxyClass(Class<?> type) {
+        return CACHE.get(type).proxy;
+    }
+
+    private static final class ProxyInfo {
+        private final boolean proxy;
+        private final Class<?> userClass;
+
+        ProxyInfo(boolean proxy, Class<?> userClass) {
+            this.proxy = proxy;
+            this.userClass = userClass;
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package org.rdlinux.luava.reflection;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 反射缓存管理。
+ * <p>
+ * 类元数据、方法索引、泛型解析结果等按类缓存的数据存放在{@link ClassValue}中，随类一起回收，
+ * 不会阻止重新部署或运行时生成的类被卸载。
+ * <p>
+ * 拷贝计划等按(源类型, 目标类型)缓存的数据同样存放在类上：存放在类加载器层级更低的一方，
+ * 计划引用的另一方类型对该类本来就是可见的，因此不会额外阻止任何类加载器被回收。
+ * 两者的类加载器没有父子关系(如两个web应用或插件之间)时不缓存计划，每次重新创建。
+ * 计划条目总数有上限，超出时按最近访问时间淘汰，
+ * 上限默认{@value #DEFAULT_MAXIMUM_SIZE}，可通过系统属性-Dluava.reflection.cache.maximumSize修改。
+ */
+public final class ReflectionCache {
+    /**
+     * 默认的计划条目数上限
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 4096;
+    private static final ClassCache<PlanTable> TABLES = new ClassCache<>(ReflectionCache::newTable);
+    /**
+     * 所有计划表的弱引用，用于淘汰和清空，不阻止计划表随类回收
+     */
+    private static final Set<TableRef> TABLE_REFS = ConcurrentHashMap.newKeySet();
+    private static final ReferenceQueue<PlanTable> COLLECTED = new ReferenceQueue<>();
+    private static final AtomicInteger SIZE = new AtomicInteger();
+    /**
+     * 访问时钟，每次新增计划时前进，计划被访问时记录当前时钟，近似LRU
+     */
+    private static final AtomicLong CLOCK = new AtomicLong();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+    private static final Object EVICTION_LOCK = new Object();
+    private static volatile int maximumSize = Math.max(0,
+            Integer.getInteger("luava.reflection.cache.maximumSize", DEFAULT_MAXIMUM_SIZE));
+
+    private ReflectionCache() {
+    }
+
+    public static int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * 设置计划条目数上限，为0时不缓存计划。缩小上限时立即淘汰超出的条目
+     *
+     * @param maximumSize 条目数上限
+     */
+    public static void setMaximumSize(int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize can not be negative");
+        }
+        ReflectionCache.maximumSize = maximumSize;
+        evict();
+    }
+
+    /**
+     * 当前缓存的计划条目数
+     */
+    public static int size() {
+        expungeCollected();
+        return SIZE.get();
+    }
+
+    /**
+     * 使类的所有缓存失效，包括类元数据以及以该类为源类型或目标类型的计划。
+     * 只影响该类本身，子类的缓存需要单独失效
+     *
+     * @param type 类类型
+     */
+    public static void invalidate(Class<?> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("type can not be null");
+        }
+        for (TableRef ref : TABLE_REFS) {
+            PlanTable table = ref.get();
+            if (table == null) {
+                continue;
+            }
+            if (table.owner == type) {
+                table.clear();
+            } else {
+                table.removeIf(type);
+            }
+        }
+        ClassCache.invalidateAll(type);
+    }
+
+    /**
+     * 清空所有缓存
+     */
+    public static void clear() {
+        for (TableRef ref : TABLE_REFS) {
+            PlanTable table = ref.get();
+            if (table != null) {
+                table.clear();
+            }
+        }
+        ClassCache.clearAll();
+    }
+
+    /**
+     * 获取计划缓存统计，无论{@link ReflectionMetrics}是否开启都统计，{@link ReflectionMetrics#reset()}时清零
+     */
+    public static ReflectionMetrics.CacheStats getStats() {
+        return new ReflectionMetrics.CacheStats(HITS.sum(), MISSES.sum(), EVICTIONS.sum(), size());
+    }
+
+    static void resetStats() {
+        HITS.reset();
+        MISSES.reset();
+        EVICTIONS.reset();
+    }
+
+    /**
+     * 获取缓存的计划，不存在时创建并缓存
+     *
+     * @param sourceClass 源类型
+     * @param targetClass 目标类型
+     * @param key         计划的其他区分条件，需实现equals和hashCode，引用的类随计划一起被持有
+     * @param loader      计划创建函数
+     */
+    @SuppressWarnings("unchecked")
+    static <V> V getPlan(Class<?> sourceClass, Class<?> targetClass, Object key, Supplier<? extends V> loader) {
+        ClassLoader sourceLoader = sourceClass.getClassLoader();
+        ClassLoader targetLoader = targetClass.getClassLoader();
+        boolean sourceOwner = isVisible(sourceLoader, targetLoader);
+        if (!sourceOwner && !isVisible(targetLoader, sourceLoader)) {
+            // 类加载器没有父子关系，存放在任何一方都会持有另一方的类加载器
+            MISSES.increment();
+            return loader.get();
+        }
+        PlanTable table = TABLES.get(sourceOwner ? sourceClass : targetClass);
+        PlanKey planKey = new PlanKey(sourceOwner ? targetClass : sourceClass, sourceOwner, key);
+        PlanEntry entry = table.entries.get(planKey);
+        if (entry != null) {
+            entry.lastAccess = CLOCK.get();
+            HITS.increment();
+            return (V) entry.value;
+        }
+        MISSES.increment();
+        V value = loader.get();
+        if (maximumSize == 0) {
+            return value;
+        }
+        PlanEntry created = new PlanEntry(value, CLOCK.incrementAndGet());
+        PlanEntry existing = table.entries.putIfAbsent(planKey, created);
+        if (existing != null) {
+            return (V) existing.value;
+        }
+        table.count.incrementAndGet();
+        if (SIZE.incrementAndGet() > maximumSize) {
+            evict();
+        }
+        return value;
+    }
+
+    /**
+     * loader加载的类是否可从from加载的类直接引用，即loader为启动类加载器、from本身或from的祖先
+     *
+     * @param from   引用方的类加载器
+     * @param loader 被引用方的类加载器
+     */
+    static boolean isVisible(ClassLoader from, ClassLoader loader) {
+        if (loader == null || loader == from) {
+            return true;
+        }
+        for (ClassLoader parent = from == null ? null : from.getParent(); parent != null;
+             parent = parent.getParent()) {
+            if (parent == loader) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static PlanTable newTable(Class<?> owner) {
+        expungeCollected();
+        PlanTable table = new PlanTable(owner);
+        TABLE_REFS.add(new TableRef(table));
+        return table;
+    }
+
+    /**
+     * 移除已随类回收的计划表
+     */
+    private static void expungeCollected() {
+        Reference<? extends PlanTable> ref;
+        while ((ref = COLLECTED.poll()) != null) {
+            TableRef tableRef = (TableRef) ref;
+            if (TABLE_REFS.remove(tableRef)) {
+                SIZE.addAndGet(-tableRef.count.getAndSet(0));
+            }
+        }
+    }
+
+    /**
+     * 淘汰最久未访问的计划，一次淘汰到上限的15/16，避免每次新增都全量扫描
+     */
+    private static void evict() {
+        synchronized (EVICTION_LOCK) {
+            expungeCollected();
+            int maximumSize = ReflectionCache.maximumSize;
+            if (SIZE.get() <= maximumSize) {
+                return;
+            }
+            List<Candidate> candidates = new ArrayList<>(SIZE.get());
+            for (TableRef ref : TABLE_REFS) {
+                PlanTable table = ref.get();
+                if (table == null) {
+                    continue;
+                }
+                for (Map.Entry<PlanKey, PlanEntry> entry : table.entries.entrySet()) {
+                    candidates.add(new Candidate(table, entry.getKey(), entry.getValue()));
+                }
+            }
+            candidates.sort((a, b) -> Long.compare(a.lastAccess, b.lastAccess));
+            int target = maximumSize - (maximumSize >> 4);
+            for (Candidate candidate : candidates) {
+                if (SIZE.get() <= target) {
+                    break;
+                }
+                if (candidate.table.remove(candidate.key, candidate.entry)) {
+                    EVICTIONS.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * 存放在某个类上的计划表
+     */
+    private static final class PlanTable {
+        private final Class<?> owner;
+        private final ConcurrentHashMap<PlanKey, PlanEntry> entries = new ConcurrentHashMap<>();
+        private final AtomicInteger count = new AtomicInteger();
+
+        PlanTable(Class<?> owner) {
+            this.owner = owner;
+        }
+
+        boolean remove(PlanKey key, PlanEntry entry) {
+            if (this.entries.remove(key, entry)) {
+                this.count.decrementAndGet();
+                SIZE.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        void removeIf(Class<?> other) {
+            for (Map.Entry<PlanKey, PlanEntry> entry : this.entries.entrySet()) {
+                if (entry.getKey().other == other) {
+                    this.remove(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+        void clear() {
+            for (Map.Entry<PlanKey, PlanEntry> entry : this.entries.entrySet()) {
+                this.remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * 计划表的弱引用，持有计划表的条目计数，计划表回收后据此修正总条目数
+     */
+    private static final class TableRef extends WeakReference<PlanTable> {
+        private final AtomicInteger count;
+
+        TableRef(PlanTable table) {
+            super(table, COLLECTED);
+            this.count = table.count;
+        }
+    }
+
+    private static final class PlanKey {
+        private final Class<?> other;
+        private final boolean otherIsTarget;
+        private final Object key;
+        private final int hash;
+
+        PlanKey(Class<?> other, boolean otherIsTarget, Object key) {
+            this.other = other;
+            this.otherIsTarget = otherIsTarget;
+            this.key = key;
+            this.hash = (31 * other.hashCode() + Boolean.hashCode(otherIsTarget)) * 31 + Objects.hashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PlanKey)) {
+                return false;
+            }
+            PlanKey planKey = (PlanKey) o;
+            return this.other == planKey.other && this.otherIsTarget == planKey.otherIsTarget
+                    && Objects.equals(this.key, planKey.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    private static final class PlanEntry {
+        private final Object value;
+        /**
+         * 最近访问时的时钟，并发写入时允许丢失更新
+         */
+        private long lastAccess;
+
+        PlanEntry(Object value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    private static final class Candidate {
+        private final PlanTable table;
+        private final PlanKey key;
+        private final PlanEntry entry;
+        /**
+         * 访问时钟快照，排序期间条目仍可能被访问
+         */
+        private final long lastAccess;
+
+        Candidate(PlanTable table, PlanKey key, PlanEntry entry) {
+            this.table = table;
+            this.key = key;
+            this.entry = entry;
+            this.lastAccess = entry.lastAccess;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.rdlinux.luava.reflection;
+
+import jdk.jfr.*;
+
+/**
+ * 自定义JFR事件，单独编译(见pom.xml的compile-jfr)，只在jdk.jfr可用时由{@link JfrSupport}反射加载。
+ * 主代码不能直接引用该类，否则会链接jdk.jfr
+ */
+final class ReflectionEvents {
+    private ReflectionEvents() {
+    }
+
+    static void planCompiled(Class<?> sourceClass, Class<?> targetClass, int steps, long nanos) {
+        PlanCompiledEvent event = new PlanCompiledEvent();
+        if (event.shouldCommit()) {
+            event.sourceClass = sourceClass;
+            event.targetClass = targetClass;
+            event.steps = steps;
+            event.compileNanos = nanos;
+            event.commit();
+        }
+    }
+
+    static void slowCopy(Class<?> sourceClass, Class<?> targetClass, long nanos) {
+        SlowCopyEvent event = new SlowCopyEvent();
+        if (event.shouldCommit()) {
+            event.sourceClass = sourceClass;
+            event.targetClass = targetClass;
+            event.copyNanos = nanos;
+            event.commit();
+        }
+    }
+
+    @Name("org.rdlinux.luava.reflection.PlanCompiled")
+    @Label("Copy Plan Compiled")
+    @Category({"Luava", "Reflection"})
+    @Description("A BeanCopier was compiled for a (source, target, CopyOption) triple")
+    static class PlanCompiledEvent extends Event {
+        @Label("Source Class")
+        Class<?> sourceClass;
+        @Label("Target Class")
+        Class<?> targetClass;
+        @Label("Steps")
+        int steps;
+        @Label("Compile Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long compileNanos;
+    }
+
+    @Name("org.rdlinux.luava.reflection.SlowCopy")
+    @Label("Slow Copy")
+    @Category({"Luava", "Reflection"})
+    @Description("A bean copy took longer than the configured threshold")
+    static class SlowCopyEvent extends Event {
+        @Label("Source Class")
+        Class<?> sourceClass;
+        @Label("Target Class")
+        Class<?> targetClass;
+        @Label("Copy Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long copyNanos;
+    }
+}
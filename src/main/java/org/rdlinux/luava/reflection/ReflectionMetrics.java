@@ -0,0 +1,247 @@
+package org.rdlinux.luava.reflection;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 反射与拷贝热点路径的度量，默认关闭，关闭时热点路径只多一次volatile读。
+ * <p>
+ * 开启后按(源类型, 目标类型)统计拷贝次数和耗时分布，统计类元数据缓存的命中情况，
+ * 并在JFR可用时发出拷贝计划编译事件和慢拷贝事件。
+ * 也可通过系统属性-Dluava.reflection.metrics=true在启动时开启。
+ */
+public final class ReflectionMetrics {
+    static volatile boolean enabled = Boolean.getBoolean("luava.reflection.metrics");
+    private static volatile long slowCopyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final Map<String, CopyStats> COPY_STATS = new ConcurrentHashMap<>();
+    private static final LongAdder METADATA_LOOKUPS = new LongAdder();
+    private static final LongAdder METADATA_MISSES = new LongAdder();
+    private static final LongAdder METADATA_CREATED = new LongAdder();
+
+    private ReflectionMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 开启或关闭度量
+     *
+     * @param enabled 是否开启
+     */
+    public static void setEnabled(boolean enabled) {
+        ReflectionMetrics.enabled = enabled;
+    }
+
+    /**
+     * 设置慢拷贝阈值，单次拷贝耗时超过该值时发出JFR慢拷贝事件，默认1毫秒
+     *
+     * @param threshold 阈值
+     * @param unit      时间单位
+     */
+    public static void setSlowCopyThreshold(long threshold, TimeUnit unit) {
+        slowCopyThresholdNanos = unit.toNanos(threshold);
+    }
+
+    /**
+     * 获取所有类型对的拷贝统计，key为"源类型->目标类型"，只包含有拷贝记录的类型对
+     */
+    public static Map<String, CopyStats> getCopyStats() {
+        Map<String, CopyStats> stats = new HashMap<>();
+        for (Map.Entry<String, CopyStats> entry : COPY_STATS.entrySet()) {
+            if (entry.getValue().getCount() > 0) {
+                stats.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * 获取类元数据缓存统计。类元数据随类回收，条目数无法统计，size始终为0
+     */
+    public static CacheStats getMetadataCacheStats() {
+        long lookups = METADATA_LOOKUPS.sum();
+        long misses = METADATA_MISSES.sum();
+        return new CacheStats(Math.max(0, lookups - misses), misses, 0, 0);
+    }
+
+    /**
+     * 获取类元数据的创建次数，无论度量是否开启都统计，类被回收或缓存失效后重新创建时再次计数
+     */
+    public static long getMetadataCreatedCount() {
+        return METADATA_CREATED.sum();
+    }
+
+    /**
+     * 清空所有统计。拷贝统计在原对象上清零，已编译的拷贝器继续向其记录
+     */
+    public static void reset() {
+        for (CopyStats stats : COPY_STATS.values()) {
+            stats.reset();
+        }
+        METADATA_LOOKUPS.reset();
+        METADATA_MISSES.reset();
+        METADATA_CREATED.reset();
+        ReflectionCache.resetStats();
+    }
+
+    static CopyStats copyStats(Class<?> sourceClass, Class<?> targetClass) {
+        // 以类名为key，统计数据不持有类的引用
+        return COPY_STATS.computeIfAbsent(sourceClass.getName() + "->" + targetClass.getName(),
+                k -> new CopyStats());
+    }
+
+    static void recordMetadataLookup() {
+        METADATA_LOOKUPS.increment();
+    }
+
+    static void recordMetadataCreated() {
+        METADATA_CREATED.increment();
+        if (enabled) {
+            METADATA_MISSES.increment();
+        }
+    }
+
+    static void recordCopy(CopyStats stats, Class<?> sourceClass, Class<?> targetClass, long nanos) {
+        stats.record(nanos);
+        if (nanos >= slowCopyThresholdNanos) {
+            JfrSupport.slowCopy(sourceClass, targetClass, nanos);
+        }
+    }
+
+    static void recordPlanCompiled(Class<?> sourceClass, Class<?> targetClass, int steps, long nanos) {
+        JfrSupport.planCompiled(sourceClass, targetClass, steps, nanos);
+    }
+
+    /**
+     * 单个类型对的拷贝统计，耗时按2的幂分桶
+     */
+    public static final class CopyStats {
+        private static final int BUCKETS = 64;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+        CopyStats() {
+            for (int i = 0; i < BUCKETS; i++) {
+                this.histogram[i] = new LongAdder();
+            }
+        }
+
+        void record(long nanos) {
+            this.count.increment();
+            this.totalNanos.add(nanos);
+            this.maxNanos.accumulate(nanos);
+            this.histogram[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(0, nanos)))].increment();
+        }
+
+        void reset() {
+            this.count.reset();
+            this.totalNanos.reset();
+            this.maxNanos.reset();
+            for (LongAdder bucket : this.histogram) {
+                bucket.reset();
+            }
+        }
+
+        public long getCount() {
+            return this.count.sum();
+        }
+
+        public long getTotalNanos() {
+            return this.totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return this.maxNanos.get();
+        }
+
+        public double getMeanNanos() {
+            long count = this.getCount();
+            return count == 0 ? 0 : (double) this.getTotalNanos() / count;
+        }
+
+        /**
+         * 获取耗时百分位的近似值，返回所在分桶的上限，不超过最大耗时
+         *
+         * @param percentile 百分位，取值0到1
+         */
+        public long getPercentileNanos(double percentile) {
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = this.histogram[i].sum();
+                total += counts[i];
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(percentile * total);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank && counts[i] > 0) {
+                    return i == 0 ? 0 : Math.min((1L << i) - 1, this.getMaxNanos());
+                }
+            }
+            return this.getMaxNanos();
+        }
+
+        @Override
+        public String toString() {
+            return "CopyStats{count=" + this.getCount() + ", meanNanos=" + (long) this.getMeanNanos() + ", p99Nanos="
+                    + this.getPercentileNanos(0.99) + ", maxNanos=" + this.getMaxNanos() + "}";
+        }
+    }
+
+    /**
+     * 缓存统计
+     */
+    public static final class CacheStats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long size;
+
+        CacheStats(long hits, long misses, long evictions, long size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+        }
+
+        public long getHits() {
+            return this.hits;
+        }
+
+        public long getMisses() {
+            return this.misses;
+        }
+
+        public long getEvictions() {
+            return this.evictions;
+        }
+
+        public long getSize() {
+            return this.size;
+        }
+
+        public double getHitRate() {
+            long total = this.hits + this.misses;
+            return total == 0 ? 0 : (double) this.hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return "CacheStats{hits=" + this.hits + ", misses=" + this.misses + ", evictions=" + this.evictions
+                    + ", size=" + this.size + "}";
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package org.rdlinux.luava.reflection;
 
 import java.lang.reflect.*;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class ReflectionUtils {
     /**
@@ -12,13 +14,7 @@ public class ReflectionUtils {
      * @param objClass 要查找的类类型
      */
     public static List<Field> getAllFields(Class<?> objClass) {
-        objClass = getRealCalssOfProxyClass(objClass);
-        List<Field> fields = new LinkedList<>();
-        while (objClass != Object.class) {
-            fields.addAll(Arrays.asList(objClass.getDeclaredFields()));
-            objClass = objClass.getSuperclass();
-        }
-        return fields;
+        return new ArrayList<>(Arrays.asList(ClassMetadata.forClass(objClass).fieldArray()));
     }
 
     /**
@@ -29,7 +25,7 @@ public class ReflectionUtils {
      * @param fieldType 属性类型
      */
     public static Field getField(Class<?> objClass, String fieldName, Class<?> fieldType) {
-        List<Field> fields = getAllFields(objClass);
+        Field[] fields = ClassMetadata.forClass(objClass).fieldArray();
         for (Field field : fields) {
             if (field.getName().equals(fieldName) && field.getType() == fieldType) {
                 return field;
@@ -45,13 +41,7 @@ public class ReflectionUtils {
      * @param fieldName 属性名称
      */
     public static Field getField(Class<?> objClass, String fieldName) {
-        List<Field> fields = getAllFields(objClass);
-        for (Field field : fields) {
-            if (field.getName().equals(fieldName)) {
-                return field;
-            }
-        }
-        return null;
+        return ClassMetadata.forClass(objClass).getField(fieldName);
     }
 
     /**
@@ -64,18 +54,17 @@ public class ReflectionUtils {
         if (objClass == null || field == null) {
             return null;
         }
-        objClass = getRealCalssOfProxyClass(objClass);
-        String fieldName = field.getName();
-        String funSuffix = fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
-        Method methodOfSet = null;
-        try {
-            methodOfSet = objClass.getMethod("set" + funSuffix, field.getType());
-        } catch (NoSuchMethodException | SecurityException e) {
-            if (objClass == Object.class) {
-                throw new IllegalArgumentException(e);
-            } else {
-                return getMethodOfFieldSet(objClass.getSuperclass(), field);
-            }
+        ClassMetadata metadata = ClassMetadata.forClass(objClass);
+        PropertyMetadata property = metadata.getProperty(field);
+        Method methodOfSet;
+        if (property != null) {
+            methodOfSet = property.getSetter();
+        } else {
+            methodOfSet = metadata.findSetter(field);
+        }
+        if (methodOfSet == null) {
+            throw new IllegalArgumentException(String.format("Can not find the set method of the field named '%s' in %s.",
+                    field.getName(), metadata.getType().getName()));
         }
         return methodOfSet;
     }
@@ -105,27 +94,17 @@ public class ReflectionUtils {
         if (objClass == null || field == null) {
             return null;
         }
-        objClass = getRealCalssOfProxyClass(objClass);
-        String fieldName = field.getName();
-        String prefix = "get";
-        String funSuffix = fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
-        if (boolean.class.isAssignableFrom(field.getType())) {
-            if (fieldName.matches("^is[A-Z0-9_]+.*$")) {
-                prefix = "";
-                funSuffix = fieldName;
-            } else {
-                prefix = "is";
-            }
+        ClassMetadata metadata = ClassMetadata.forClass(objClass);
+        PropertyMetadata property = metadata.getProperty(field);
+        Method methodOfGet;
+        if (property != null) {
+            methodOfGet = property.getGetter();
+        } else {
+            methodOfGet = metadata.findGetter(field);
         }
-        Method methodOfGet = null;
-        try {
-            methodOfGet = objClass.getMethod(prefix + funSuffix);
-        } catch (NoSuchMethodException | SecurityException e) {
-            if (objClass == Object.class) {
-                throw new IllegalArgumentException(e);
-            } else {
-                return getMethodOfFieldGet(objClass.getSuperclass(), field);
-            }
+        if (methodOfGet == null) {
+            throw new IllegalArgumentException(String.format("Can not find the get method of the field named '%s' in %s.",
+                    field.getName(), metadata.getType().getName()));
         }
         return methodOfGet;
     }
@@ -157,17 +136,21 @@ public class ReflectionUtils {
         if (obj == null || field == null) {
             return;
         }
+        PropertyMetadata property = ClassMetadata.forClass(obj.getClass()).getProperty(field);
+        if (property != null) {
+            property.write(obj, value, useSetter);
+            return;
+        }
         Class<?> objClass = getRealCalssOfProxyClass(obj.getClass());
         if (!useSetter) {
             field.setAccessible(true);
             try {
-                field.set(objClass, value);
+                field.set(obj, value);
             } catch (IllegalArgumentException | IllegalAccessException e) {
                 throw new IllegalArgumentException(e);
             }
         } else {
             Method methodOfSet = getMethodOfFieldSet(objClass, field);
-            methodOfSet.setAccessible(true);
             try {
                 methodOfSet.invoke(obj, value);
             } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
@@ -229,6 +212,10 @@ public class ReflectionUtils {
         if (obj == null || field == null) {
             return null;
         }
+        PropertyMetadata property = ClassMetadata.forClass(obj.getClass()).getProperty(field);
+        if (property != null) {
+            return (T) property.read(obj, useGetter);
+        }
         Class<?> objClass = getRealCalssOfProxyClass(obj.getClass());
         T result = null;
         if (!useGetter) {
@@ -240,7 +227,6 @@ public class ReflectionUtils {
             }
         } else {
             Method getMethod = getMethodOfFieldGet(objClass, field);
-            getMethod.setAccessible(true);
             try {
                 result = (T) getMethod.invoke(obj);
             } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
@@ -289,6 +275,55 @@ public class ReflectionUtils {
         return getFieldValue(obj, fieldName, false);
     }
 
+    /**
+     * 编译属性路径，如order.items[0].sku，编译结果可重复用于不同对象的取值和设值。
+     * 中间值为null或下标越界时取值抛出IllegalArgumentException
+     *
+     * @param path 属性路径
+     */
+    public static PropertyPath compilePath(String path) {
+        return PropertyPath.compile(path, false);
+    }
+
+    /**
+     * 编译属性路径，如order.items[0].sku，编译结果可重复用于不同对象的取值和设值
+     *
+     * @param path     属性路径
+     * @param nullSafe 是否空安全，true: 中间值为null或下标越界时取值返回null
+     */
+    public static PropertyPath compilePath(String path, boolean nullSafe) {
+        return PropertyPath.compile(path, nullSafe);
+    }
+
+    /**
+     * 获取属性的直接访问器，访问器基于MethodHandle并按属性缓存，提供getInt/setLong等不装箱的读写方法
+     *
+     * @param field 属性
+     */
+    public static FieldAccessor getFieldAccessor(Field field) {
+        if (field == null) {
+            return null;
+        }
+        PropertyMetadata property = ClassMetadata.forClass(field.getDeclaringClass()).getProperty(field);
+        if (property != null) {
+            return property.getFieldAccessor();
+        }
+        return FieldAccessor.create(field);
+    }
+
+    /**
+     * 获取属性的直接访问器，属性不存在时返回null
+     *
+     * @param objClass  要查找的类类型
+     * @param fieldName 属性名称
+     */
+    public static FieldAccessor getFieldAccessor(Class<?> objClass, String fieldName) {
+        if (objClass == null || fieldName == null || fieldName.isEmpty()) {
+            return null;
+        }
+        return getFieldAccessor(getField(objClass, fieldName));
+    }
+
     /**
      * 根据set方法和get方法获取属性名称
      *
@@ -318,22 +353,40 @@ public class ReflectionUtils {
      * @param objClass 要获取的类类型
      */
     public static Class<?> getRealCalssOfProxyClass(Class<?> objClass) {
-        while (objClass.getSimpleName().contains("CGLIB$")) {
-            objClass = objClass.getSuperclass();
-        }
-        return objClass;
+        return ProxyResolverRegistry.getUserClass(objClass);
     }
 
     /**
-     * 获取类的父类泛型类型参数
+     * 注册代理类解析器，后注册的解析器优先，注册后已缓存的解析结果会失效
+     *
+     * @param resolver 代理类解析器
+     */
+    public static void registerProxyResolver(ProxyResolver resolver) {
+        ProxyResolverRegistry.register(resolver);
+    }
+
+    /**
+     * 获取类的父类泛型类型参数，父类不是参数化类型时沿类层次向上查找最近的参数化父类，
+     * 类型参数可经过多层父类传递。类型参数为参数化类型时返回其原始类，无法解析时返回其上界
      *
      * @param objClass 要获取的类类型
      * @param order    获取第几个泛型参数
      */
     public static Class<?> getGenericSuperclass(Class<?> objClass, int order) {
-        Type genType = objClass.getGenericSuperclass();
-        Type[] params = ((ParameterizedType) genType).getActualTypeArguments();
-        return (Class<?>) params[order];
+        Class<?> superclass = objClass.getSuperclass();
+        while (superclass != null && superclass.getTypeParameters().length == 0) {
+            superclass = superclass.getSuperclass();
+        }
+        if (superclass == null) {
+            throw new IllegalArgumentException(String.format("The superclass of %s is not generic.",
+                    objClass.getName()));
+        }
+        Type[] params = TypeResolver.getTypeArguments(objClass, superclass);
+        if (order < 0 || order >= params.length) {
+            throw new IllegalArgumentException(String.format("The superclass %s has %d type parameters.",
+                    superclass.getName(), params.length));
+        }
+        return TypeResolver.rawClass(params[order]);
     }
 
     /**
@@ -343,18 +396,28 @@ public class ReflectionUtils {
      * @param order 获取第几个泛型参数
      */
     public static Class<?> getFiledGenericClass(Field field, int order) {
-        ParameterizedType parameterizedType = (ParameterizedType) field.getGenericType();
-        if (parameterizedType == null) {
+        return ReflectionUtils.getFiledGenericClass(field.getDeclaringClass(), field, order);
+    }
+
+    /**
+     * 获取field在指定类中的泛型类型参数,eg 父类中声明List&lt;T&gt;, 子类绑定T时获取T的实际类型。
+     * 类型参数为参数化类型时返回其原始类,eg List&lt;Map&lt;String, X&gt;&gt;返回Map
+     *
+     * @param objClass field所在的类或其子类
+     * @param field    要获取的field
+     * @param order    获取第几个泛型参数
+     */
+    public static Class<?> getFiledGenericClass(Class<?> objClass, Field field, int order) {
+        Type type = TypeResolver.resolveFieldType(field, objClass);
+        if (!(type instanceof ParameterizedType)) {
             throw new IllegalArgumentException("必须指定泛型类型");
         }
-        Type type = parameterizedType.getActualTypeArguments()[0];
-        Class<?> genericsCalss = null;
-        try {
-            genericsCalss = Class.forName(type.getTypeName());
-            return genericsCalss;
-        } catch (ClassNotFoundException e) {
-            throw new IllegalArgumentException(e);
+        Type[] params = ((ParameterizedType) type).getActualTypeArguments();
+        if (order < 0 || order >= params.length) {
+            throw new IllegalArgumentException(String.format("The field named '%s' has %d type parameters.",
+                    field.getName(), params.length));
         }
+        return TypeResolver.rawClass(params[order]);
     }
 
     /**
@@ -363,32 +426,41 @@ public class ReflectionUtils {
      * @param objClass 要判断的类类型
      */
     public static boolean isProxyClass(Class<?> objClass) {
-        if (objClass.getSimpleName().contains("CGLIB$")) {
-            return true;
-        } else {
-            return false;
-        }
+        return ProxyResolverRegistry.isProxyClass(objClass);
     }
 
     /**
-     * 获取方法
+     * 获取方法，包括超类中声明的非public方法，子类优先，结果按类缓存
      *
      * @param objClass       要获取的对象的类类型
      * @param name           方法名称
      * @param parameterTypes 方法参数类型
      */
     public static Method getMethod(Class<?> objClass, String name, Class<?>... parameterTypes) {
-        try {
-            Method method = objClass.getDeclaredMethod(name, parameterTypes);
-            method.setAccessible(true);
-            return method;
-        } catch (NoSuchMethodException | SecurityException e) {
-            if (objClass == Object.class) {
-                throw new IllegalArgumentException(e);
-            } else {
-                return getMethod(objClass.getSuperclass(), name, parameterTypes);
-            }
+        return MethodInvoker.forParameterTypes(objClass, name, parameterTypes).getMethod();
+    }
+
+    /**
+     * 获取方法调用器，调用器按方法缓存
+     *
+     * @param method 方法
+     */
+    public static MethodInvoker getMethodInvoker(Method method) {
+        if (method == null) {
+            return null;
         }
+        return MethodInvoker.forMethod(method);
+    }
+
+    /**
+     * 按参数类型获取方法调用器，包括超类中声明的非public方法，子类优先，结果按类缓存
+     *
+     * @param objClass       要获取的对象的类类型
+     * @param name           方法名称
+     * @param parameterTypes 方法参数类型
+     */
+    public static MethodInvoker getMethodInvoker(Class<?> objClass, String name, Class<?>... parameterTypes) {
+        return MethodInvoker.forParameterTypes(objClass, name, parameterTypes);
     }
 
     /**
@@ -397,25 +469,52 @@ public class ReflectionUtils {
      * @param object 需要执行的对象
      * @param method 需要执行的方法
      * @param args   参数
+     * @return 方法的返回值，void方法返回null
      */
-    public static void invokeMethod(Object object, Method method, Object... args) {
-        method.setAccessible(true);
-        try {
-            method.invoke(object, args);
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-            throw new IllegalArgumentException(e);
-        }
+    public static Object invokeMethod(Object object, Method method, Object... args) {
+        return MethodInvoker.forMethod(method).invoke(object, args);
     }
 
     /**
-     * 执行方法
+     * 执行方法，按参数的运行时类型选择重载方法，解析结果按(类, 方法名称, 参数类型)缓存
      *
      * @param object     需要执行的对象
      * @param methodName 需要执行的方法名称
      * @param args       参数
+     * @return 方法的返回值，void方法返回null
      */
-    public static void invokeMethod(Object object, String methodName, Object... args) {
-        Method method = getMethod(object.getClass(), methodName);
-        invokeMethod(object, method, args);
+    public static Object invokeMethod(Object object, String methodName, Object... args) {
+        return MethodInvoker.forArguments(object.getClass(), methodName, args).invoke(object, args);
+    }
+
+    /**
+     * 获取无参构造方法的实例创建器，创建器按类缓存。
+     * public类的public构造方法通过{@link java.lang.invoke.LambdaMetafactory}直接调用，其他构造方法回退为句柄或反射调用
+     *
+     * @param type 类类型
+     */
+    public static <T> Supplier<T> instantiator(Class<T> type) {
+        return Instantiators.forClass(type);
+    }
+
+    /**
+     * 按参数类型获取构造方法的实例创建器，包括非public构造方法，创建器按构造方法缓存。
+     * 参数数组的长度和类型必须与构造方法一致，不一致时抛出IllegalArgumentException
+     *
+     * @param type           类类型
+     * @param parameterTypes 构造方法参数类型
+     */
+    public static <T> Function<Object[], T> instantiator(Class<T> type, Class<?>... parameterTypes) {
+        if (type == null) {
+            throw new IllegalArgumentException("type can not be null");
+        }
+        Constructor<T> constructor;
+        try {
+            constructor = type.getDeclaredConstructor(parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(String.format("Can not find the constructor %s%s.", type.getName(),
+                    Arrays.toString(parameterTypes)), e);
+        }
+        return Instantiators.forConstructor(constructor);
     }
 }
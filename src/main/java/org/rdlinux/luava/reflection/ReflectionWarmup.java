@@ -0,0 +1,369 @@
+package org.rdlinux.luava.reflection;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 启动预热，在有界线程池中并行构建类元数据、get/set方法访问器以及bean拷贝器，
+ * 避免部署后第一次访问各个类时的延迟尖刺。
+ * <pre>
+ * WarmupReport report = new ReflectionWarmup()
+ *         .addPackage("com.example.dto")
+ *         .addPair(UserEntity.class, UserDto.class)
+ *         .run();
+ * </pre>
+ */
+public final class ReflectionWarmup {
+    private final Set<Class<?>> classes = new LinkedHashSet<>();
+    private final Map<Class<?>, Set<Class<?>>> pairs = new LinkedHashMap<>();
+    private final List<String> packages = new ArrayList<>();
+    private ClassLoader classLoader;
+    private CopyOption copyOption;
+    private int parallelism = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    /**
+     * 添加要预热的类
+     *
+     * @param types 类类型
+     */
+    public ReflectionWarmup addClasses(Class<?>... types) {
+        if (types != null) {
+            for (Class<?> type : types) {
+                if (type != null) {
+                    this.classes.add(type);
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 添加要预热的类
+     *
+     * @param types 类类型
+     */
+    public ReflectionWarmup addClasses(Collection<? extends Class<?>> types) {
+        if (types != null) {
+            this.addClasses(types.toArray(new Class<?>[0]));
+        }
+        return this;
+    }
+
+    /**
+     * 添加要预热的拷贝类型对，源类型和目标类型的元数据同时预热
+     *
+     * @param sourceClass 源类型
+     * @param targetClass 目标类型
+     */
+    public ReflectionWarmup addPair(Class<?> sourceClass, Class<?> targetClass) {
+        if (sourceClass == null || targetClass == null) {
+            throw new IllegalArgumentException("sourceClass and targetClass can not be null");
+        }
+        this.pairs.computeIfAbsent(sourceClass, k -> new LinkedHashSet<>()).add(targetClass);
+        return this;
+    }
+
+    /**
+     * 添加要预热的包，扫描类路径中该包及其子包下的所有类，目录和jar包均可扫描
+     *
+     * @param packageName 包名称
+     */
+    public ReflectionWarmup addPackage(String packageName) {
+        if (packageName == null) {
+            throw new IllegalArgumentException("packageName can not be null");
+        }
+        this.packages.add(packageName);
+        return this;
+    }
+
+    /**
+     * 设置扫描和加载类使用的类加载器，默认为当前线程的上下文类加载器
+     *
+     * @param classLoader 类加载器
+     */
+    public ReflectionWarmup setClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        return this;
+    }
+
+    /**
+     * 设置预热拷贝器使用的拷贝选项，预热的拷贝器即{@link BeanUtils#copyProperties(Object, Object, CopyOption)}
+     * 以相同的拷贝选项读取的拷贝器。设置时生成快照，之后修改拷贝选项不影响预热。
+     * 未设置时预热{@link BeanUtils#copyProperties(Object, Object, String...)}使用的拷贝器
+     *
+     * @param copyOption 拷贝选项
+     */
+    public ReflectionWarmup setCopyOption(CopyOption copyOption) {
+        this.copyOption = copyOption == null ? null : copyOption.freeze();
+        return this;
+    }
+
+    /**
+     * 设置并行线程数，默认为CPU核数，最多4个
+     *
+     * @param parallelism 线程数
+     */
+    public ReflectionWarmup setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be greater than 0");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    private ClassLoader classLoader() {
+        if (this.classLoader != null) {
+            return this.classLoader;
+        }
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return contextClassLoader != null ? contextClassLoader : ReflectionWarmup.class.getClassLoader();
+    }
+
+    /**
+     * 执行预热，阻塞直到所有任务完成。单个类预热失败不影响其他类，失败原因记录在报告中。
+     * 等待期间线程被中断时停止预热并保留中断状态，没有完成的任务以{@link InterruptedException}记为失败
+     */
+    public WarmupReport run() {
+        long start = System.nanoTime();
+        List<WarmupTask> tasks = new ArrayList<>();
+        Set<Class<?>> classes = new LinkedHashSet<>(this.classes);
+        ClassLoader classLoader = this.classLoader();
+        for (String packageName : this.packages) {
+            Set<String> classNames;
+            try {
+                classNames = ClasspathScanner.scan(packageName, classLoader);
+            } catch (IOException e) {
+                tasks.add(new WarmupTask(packageName, () -> {
+                    throw e;
+                }));
+                continue;
+            }
+            for (String className : classNames) {
+                Class<?> type;
+                try {
+                    type = Class.forName(className, false, classLoader);
+                } catch (ClassNotFoundException | LinkageError e) {
+                    tasks.add(new WarmupTask(className, () -> {
+                        throw e;
+                    }));
+                    continue;
+                }
+                if (!type.isInterface() && !type.isAnonymousClass() && !type.isSynthetic()) {
+                    classes.add(type);
+                }
+            }
+        }
+        for (Class<?> type : classes) {
+            tasks.add(new WarmupTask(type.getName(), () -> warmUpClass(type)));
+        }
+        CopyOption copyOption = this.copyOption;
+        for (Map.Entry<Class<?>, Set<Class<?>>> entry : this.pairs.entrySet()) {
+            for (Class<?> targetClass : entry.getValue()) {
+                Class<?> sourceClass = entry.getKey();
+                tasks.add(new WarmupTask(sourceClass.getName() + "->" + targetClass.getName(),
+                        () -> warmUpPair(sourceClass, targetClass, copyOption)));
+            }
+        }
+        this.execute(tasks);
+        List<WarmupReport.Entry> entries = new ArrayList<>(tasks.size());
+        for (WarmupTask task : tasks) {
+            entries.add(task.entry());
+        }
+        return new WarmupReport(entries, System.nanoTime() - start);
+    }
+
+    private void execute(List<WarmupTask> tasks) {
+        int threads = Math.min(this.parallelism, Math.max(1, tasks.size()));
+        if (threads == 1) {
+            tasks.forEach(WarmupTask::run);
+            return;
+        }
+        AtomicInteger counter = new AtomicInteger();
+        // 有界队列，队列满时由提交线程执行任务
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 4), runnable -> {
+            Thread thread = new Thread(runnable, "luava-reflection-warmup-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+        try {
+            List<Future<?>> futures = new ArrayList<>(tasks.size());
+            for (WarmupTask task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // 任务内部已捕获异常
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 预热类元数据以及所有属性的get/set方法访问器和属性直接访问器，
+     * 继承自JDK类的属性在模块系统下通常无法直接访问，不预热其属性直接访问器
+     */
+    private static void warmUpClass(Class<?> type) {
+        ClassMetadata metadata = ClassMetadata.forClass(type);
+        for (PropertyMetadata property : metadata.propertyArray()) {
+            property.getterAccessor();
+            property.setterAccessor();
+            if (property.getField().getDeclaringClass().getClassLoader() != null) {
+                property.getFieldAccessor();
+            }
+        }
+    }
+
+    /**
+     * 预热拷贝类型对，填充拷贝方法读取的缓存：未设置拷贝选项时为编译期生成的拷贝器和无忽略属性的拷贝器，
+     * 否则为该拷贝选项的快照对应的拷贝器
+     */
+    private static void warmUpPair(Class<?> sourceClass, Class<?> targetClass, CopyOption copyOption) {
+        warmUpClass(sourceClass);
+        warmUpClass(targetClass);
+        if (copyOption == null) {
+            GeneratedCopierRegistry.find(sourceClass, targetClass);
+            BeanUtils.cachedCopier(sourceClass, targetClass);
+        } else {
+            BeanUtils.copier(sourceClass, targetClass, copyOption);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Action {
+        void run() throws Throwable;
+    }
+
+    private static final class WarmupTask implements Runnable {
+        private final String name;
+        private final Action action;
+        private volatile WarmupReport.Entry entry;
+
+        WarmupTask(String name, Action action) {
+            this.name = name;
+            this.action = action;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            Throwable error = null;
+            try {
+                this.action.run();
+            } catch (Throwable e) {
+                error = e;
+            }
+            this.entry = new WarmupReport.Entry(this.name, System.nanoTime() - start, error);
+        }
+
+        /**
+         * 预热记录，任务因中断没有完成时记为失败
+         */
+        WarmupReport.Entry entry() {
+            WarmupReport.Entry entry = this.entry;
+            if (entry == null) {
+                entry = new WarmupReport.Entry(this.name, 0, new InterruptedException("The warmup was interrupted."));
+            }
+            return entry;
+        }
+    }
+
+    /**
+     * 预热报告，每个类或拷贝类型对一条记录
+     */
+    public static final class WarmupReport {
+        private final List<Entry> entries;
+        private final long totalNanos;
+
+        WarmupReport(List<Entry> entries, long totalNanos) {
+            this.entries = Collections.unmodifiableList(entries);
+            this.totalNanos = totalNanos;
+        }
+
+        public List<Entry> getEntries() {
+            return this.entries;
+        }
+
+        /**
+         * 预热总耗时，包括扫描类路径
+         */
+        public long getTotalNanos() {
+            return this.totalNanos;
+        }
+
+        /**
+         * 预热失败的记录
+         */
+        public List<Entry> getFailures() {
+            List<Entry> failures = new ArrayList<>();
+            for (Entry entry : this.entries) {
+                if (entry.getError() != null) {
+                    failures.add(entry);
+                }
+            }
+            return failures;
+        }
+
+        /**
+         * 按耗时从高到低排列的记录
+         *
+         * @param limit 最多返回的记录数
+         */
+        public List<Entry> getSlowest(int limit) {
+            List<Entry> sorted = new ArrayList<>(this.entries);
+            sorted.sort(Comparator.comparingLong(Entry::getNanos).reversed());
+            return sorted.subList(0, Math.min(Math.max(0, limit), sorted.size()));
+        }
+
+        @Override
+        public String toString() {
+            return "WarmupReport{entries=" + this.entries.size() + ", failures=" + this.getFailures().size()
+                    + ", totalMillis=" + TimeUnit.NANOSECONDS.toMillis(this.totalNanos) + "}";
+        }
+
+        /**
+         * 单个类或拷贝类型对的预热记录
+         */
+        public static final class Entry {
+            private final String name;
+            private final long nanos;
+            private final Throwable error;
+
+            Entry(String name, long nanos, Throwable error) {
+                this.name = name;
+                this.nanos = nanos;
+                this.error = error;
+            }
+
+            /**
+             * 类名称，拷贝类型对为"源类型->目标类型"
+             */
+            public String getName() {
+                return this.name;
+            }
+
+            public long getNanos() {
+                return this.nanos;
+            }
+
+            /**
+             * 预热失败的原因，成功时为null
+             */
+            public Throwable getError() {
+                return this.error;
+            }
+
+            @Override
+            public String toString() {
+                return this.name + "=" + TimeUnit.NANOSECONDS.toMicros(this.nanos) + "us"
+                        + (this.error == null ? "" : " (" + this.error + ")");
+            }
+        }
+    }
+}
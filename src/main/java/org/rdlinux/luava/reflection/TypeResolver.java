@@ -0,0 +1,330 @@
+package org.rdlinux.luava.reflection;
+
+import java.lang.reflect.*;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 泛型类型解析器，沿类层次解析类型变量，支持通配符、数组以及嵌套的参数化类型。
+ * 每个类的类型变量绑定关系和解析后的属性类型只计算一次。
+ */
+public final class TypeResolver {
+    /**
+     * 类型变量到实际类型的绑定，包括所有超类和接口的类型变量
+     */
+    private static final ClassCache<Map<TypeVariable<?>, Type>> BINDINGS = new ClassCache<>(type -> {
+        Map<TypeVariable<?>, Type> bindings = new HashMap<>();
+        collectBindings(type, bindings);
+        return Collections.unmodifiableMap(bindings);
+    });
+    /**
+     * 在类中解析后的属性类型
+     */
+    private static final ClassCache<Map<Field, Type>> FIELD_TYPES = new ClassCache<>(type -> new ConcurrentHashMap<>());
+
+    private TypeResolver() {
+    }
+
+    private static void collectBindings(Class<?> type, Map<TypeVariable<?>, Type> bindings) {
+        Type superclass = type.getGenericSuperclass();
+        if (superclass != null) {
+            bind(superclass, bindings);
+            collectBindings(type.getSuperclass(), bindings);
+        }
+        for (Type genericInterface : type.getGenericInterfaces()) {
+            bind(genericInterface, bindings);
+            collectBindings(rawClass(genericInterface), bindings);
+        }
+    }
+
+    private static void bind(Type type, Map<TypeVariable<?>, Type> bindings) {
+        if (!(type instanceof ParameterizedType)) {
+            return;
+        }
+        ParameterizedType parameterizedType = (ParameterizedType) type;
+        TypeVariable<?>[] variables = rawClass(parameterizedType).getTypeParameters();
+        Type[] arguments = parameterizedType.getActualTypeArguments();
+        for (int i = 0; i < variables.length; i++) {
+            // 子类先绑定，实际类型中引用的子类类型变量已可解析
+            bindings.putIfAbsent(variables[i], resolve(arguments[i], bindings));
+        }
+    }
+
+    /**
+     * 在类的上下文中解析类型，类型中出现的类型变量替换为该类及其超类绑定的实际类型，无法解析的类型变量保持不变
+     *
+     * @param type    要解析的类型
+     * @param context 上下文类
+     */
+    public static Type resolve(Type type, Class<?> context) {
+        if (type == null) {
+            throw new IllegalArgumentException("type can not be null");
+        }
+        if (context == null || type instanceof Class) {
+            return type;
+        }
+        return resolve(type, BINDINGS.get(context));
+    }
+
+    private static Type resolve(Type type, Map<TypeVariable<?>, Type> bindings) {
+        if (type instanceof Class) {
+            return type;
+        } else if (type instanceof TypeVariable) {
+            Type bound = bindings.get(type);
+            return bound == null ? type : bound;
+        } else if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            Type[] arguments = parameterizedType.getActualTypeArguments();
+            boolean changed = false;
+            for (int i = 0; i < arguments.length; i++) {
+                Type argument = resolve(arguments[i], bindings);
+                changed |= argument != arguments[i];
+                arguments[i] = argument;
+            }
+            Type owner = parameterizedType.getOwnerType();
+            Type resolvedOwner = owner == null ? null : resolve(owner, bindings);
+            if (!changed && resolvedOwner == owner) {
+                return type;
+            }
+            return new ResolvedParameterizedType(rawClass(parameterizedType), arguments, resolvedOwner);
+        } else if (type instanceof GenericArrayType) {
+            Type component = ((GenericArrayType) type).getGenericComponentType();
+            Type resolved = resolve(component, bindings);
+            if (resolved == component) {
+                return type;
+            }
+            if (resolved instanceof Class) {
+                return Array.newInstance((Class<?>) resolved, 0).getClass();
+            }
+            return new ResolvedGenericArrayType(resolved);
+        } else if (type instanceof WildcardType) {
+            WildcardType wildcardType = (WildcardType) type;
+            Type[] upperBounds = resolveAll(wildcardType.getUpperBounds(), bindings);
+            Type[] lowerBounds = resolveAll(wildcardType.getLowerBounds(), bindings);
+            if (upperBounds == wildcardType.getUpperBounds() && lowerBounds == wildcardType.getLowerBounds()) {
+                return type;
+            }
+            return new ResolvedWildcardType(upperBounds, lowerBounds);
+        }
+        return type;
+    }
+
+    private static Type[] resolveAll(Type[] types, Map<TypeVariable<?>, Type> bindings) {
+        Type[] resolved = null;
+        for (int i = 0; i < types.length; i++) {
+            Type type = resolve(types[i], bindings);
+            if (type != types[i]) {
+                if (resolved == null) {
+                    resolved = types.clone();
+                }
+                resolved[i] = type;
+            }
+        }
+        return resolved == null ? types : resolved;
+    }
+
+    /**
+     * 获取类型的原始类：参数化类型取其原始类，泛型数组取原始类的数组，
+     * 通配符有下界时取下界，否则取上界，类型变量取其第一个上界
+     *
+     * @param type 类型
+     */
+    public static Class<?> rawClass(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        } else if (type instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        } else if (type instanceof GenericArrayType) {
+            Class<?> component = rawClass(((GenericArrayType) type).getGenericComponentType());
+            return Array.newInstance(component, 0).getClass();
+        } else if (type instanceof WildcardType) {
+            WildcardType wildcardType = (WildcardType) type;
+            Type[] lowerBounds = wildcardType.getLowerBounds();
+            return rawClass(lowerBounds.length > 0 ? lowerBounds[0] : wildcardType.getUpperBounds()[0]);
+        } else if (type instanceof TypeVariable) {
+            return rawClass(((TypeVariable<?>) type).getBounds()[0]);
+        }
+        return Object.class;
+    }
+
+    /**
+     * 获取属性在类中的实际类型，结果按类缓存
+     *
+     * @param field   属性
+     * @param context 上下文类，为属性的声明类或其子类
+     */
+    public static Type resolveFieldType(Field field, Class<?> context) {
+        if (field == null) {
+            throw new IllegalArgumentException("field can not be null");
+        }
+        if (context == null) {
+            context = field.getDeclaringClass();
+        }
+        Map<Field, Type> fieldTypes = FIELD_TYPES.get(context);
+        Type type = fieldTypes.get(field);
+        if (type == null) {
+            type = resolve(field.getGenericType(), context);
+            fieldTypes.put(field, type);
+        }
+        return type;
+    }
+
+    /**
+     * 获取类型在类中的实际类型参数，如Child extends Base&lt;String&gt;时，
+     * getTypeArguments(Child.class, Base.class)返回[String]。
+     * 类型参数可经过多层超类或接口传递，无法解析的类型参数返回其类型变量
+     *
+     * @param type        类
+     * @param genericType 类的泛型超类或泛型接口
+     */
+    public static Type[] getTypeArguments(Class<?> type, Class<?> genericType) {
+        if (type == null || genericType == null) {
+            throw new IllegalArgumentException("type and genericType can not be null");
+        }
+        if (!genericType.isAssignableFrom(type)) {
+            throw new IllegalArgumentException(String.format("%s is not assignable from %s.",
+                    genericType.getName(), type.getName()));
+        }
+        Map<TypeVariable<?>, Type> bindings = BINDINGS.get(type);
+        TypeVariable<?>[] variables = genericType.getTypeParameters();
+        Type[] arguments = new Type[variables.length];
+        for (int i = 0; i < variables.length; i++) {
+            Type argument = bindings.get(variables[i]);
+            arguments[i] = argument == null ? variables[i] : argument;
+        }
+        return arguments;
+    }
+
+    private static final class ResolvedParameterizedType implements ParameterizedType {
+        private final Class<?> rawType;
+        private final Type[] arguments;
+        private final Type ownerType;
+
+        ResolvedParameterizedType(Class<?> rawType, Type[] arguments, Type ownerType) {
+            this.rawType = rawType;
+            this.arguments = arguments;
+            this.ownerType = ownerType;
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return this.arguments.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return this.rawType;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return this.ownerType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ParameterizedType)) {
+                return false;
+            }
+            ParameterizedType that = (ParameterizedType) o;
+            return this.rawType.equals(that.getRawType()) && Objects.equals(this.ownerType, that.getOwnerType())
+                    && Arrays.equals(this.arguments, that.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(this.arguments) ^ Objects.hashCode(this.ownerType) ^ this.rawType.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder(this.rawType.getName()).append('<');
+            for (int i = 0; i < this.arguments.length; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(this.arguments[i].getTypeName());
+            }
+            return builder.append('>').toString();
+        }
+    }
+
+    private static final class ResolvedGenericArrayType implements GenericArrayType {
+        private final Type componentType;
+
+        ResolvedGenericArrayType(Type componentType) {
+            this.componentType = componentType;
+        }
+
+        @Override
+        public Type getGenericComponentType() {
+            return this.componentType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof GenericArrayType
+                    && this.componentType.equals(((GenericArrayType) o).getGenericComponentType());
+        }
+
+        @Override
+        public int hashCode() {
+            return this.componentType.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return this.componentType.getTypeName() + "[]";
+        }
+    }
+
+    private static final class ResolvedWildcardType implements WildcardType {
+        private final Type[] upperBounds;
+        private final Type[] lowerBounds;
+
+        ResolvedWildcardType(Type[] upperBounds, Type[] lowerBounds) {
+            this.upperBounds = upperBounds;
+            this.lowerBounds = lowerBounds;
+        }
+
+        @Override
+        public Type[] getUpperBounds() {
+            return this.upperBounds.clone();
+        }
+
+        @Override
+        public Type[] getLowerBounds() {
+            return this.lowerBounds.clone();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof WildcardType)) {
+                return false;
+            }
+            WildcardType that = (WildcardType) o;
+            return Arrays.equals(this.upperBounds, that.getUpperBounds())
+                    && Arrays.equals(this.lowerBounds, that.getLowerBounds());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(this.upperBounds) ^ Arrays.hashCode(this.lowerBounds);
+        }
+
+        @Override
+        public String toString() {
+            if (this.lowerBounds.length > 0) {
+                return "? super " + this.lowerBounds[0].getTypeName();
+            }
+            if (this.upperBounds.length == 0 || this.upperBounds[0] == Object.class) {
+                return "?";
+            }
+            return "? extends " + this.upperBounds[0].getTypeName();
+        }
+    }
+}
@@ -4,14 +4,85 @@ import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.rdlinux.luava.reflection.BeanCopier;
 import org.rdlinux.luava.reflection.BeanUtils;
+import org.rdlinux.luava.reflection.ClassMetadata;
+import org.rdlinux.luava.reflection.Converter;
 import org.rdlinux.luava.reflection.CopyOption;
+import org.rdlinux.luava.reflection.GeneratedCopier;
+import org.rdlinux.luava.reflection.MapBinder;
+import org.rdlinux.luava.reflection.PropertyDiff;
+import org.rdlinux.luava.reflection.ReflectionCache;
+import org.rdlinux.luava.reflection.ReflectionMetrics;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.beans.ConstructorProperties;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class BeanUtilsTest {
 
+    /**
+     * 模拟编译期生成的拷贝器，只在generatedCopierTest中通过线程上下文类加载器声明
+     */
+    public static class NumberCopier implements GeneratedCopier<NumberB, NumberA> {
+        static final AtomicInteger COPIES = new AtomicInteger();
+
+        @Override
+        public Class<NumberB> getSourceClass() {
+            return NumberB.class;
+        }
+
+        @Override
+        public Class<NumberA> getTargetClass() {
+            return NumberA.class;
+        }
+
+        @Override
+        public void copy(NumberB source, NumberA target) {
+            COPIES.incrementAndGet();
+            if (source.getCount() != null) {
+                target.setCount(source.getCount());
+            }
+        }
+
+        @Override
+        public boolean isDefaultOption() {
+            return true;
+        }
+    }
+
+    /**
+     * 拷贝规则不是默认设置的生成拷贝器，不替代copyProperties(source, target)
+     */
+    public static class IgnoringNumberCopier implements GeneratedCopier<NumberA, NumberB> {
+        static final AtomicInteger COPIES = new AtomicInteger();
+
+        @Override
+        public Class<NumberA> getSourceClass() {
+            return NumberA.class;
+        }
+
+        @Override
+        public Class<NumberB> getTargetClass() {
+            return NumberB.class;
+        }
+
+        @Override
+        public void copy(NumberA source, NumberB target) {
+            COPIES.incrementAndGet();
+        }
+    }
+
     private static ItemA itemA = new ItemA();
     private static ItemB itemB = new ItemB();
 
@@ -108,6 +179,584 @@ public class BeanUtilsTest {
         Assert.assertEquals(itemA.getSubItems().get(0).getName(), targetB.getItems().get(0).getName());
     }
 
+    @Test
+    public void compileTest() {
+        CopyOption option = new CopyOption();
+        option.addIgnoreFields("sex");
+        option.addFieldMapping("code", "number");
+        option.addFieldMapping("subItem", "item");
+        BeanCopier<ItemA, ItemB> copier = BeanUtils.compile(ItemA.class, ItemB.class, option);
+        // 编译之后修改拷贝选项不影响已编译的拷贝器
+        option.addIgnoreFields("code");
+        for (int i = 0; i < 3; i++) {
+            ItemB targetB = new ItemB();
+            copier.copy(itemA, targetB);
+            Assert.assertEquals(itemA.getCode(), targetB.getNumber());
+            Assert.assertEquals(0, targetB.getScore());
+            Assert.assertSame(itemA.getSubItem(), targetB.getItem());
+            Assert.assertNull(targetB.getItems());
+        }
+    }
+
+    @Test
+    public void copyWithFieldAccessTest() {
+        CopyOption option = new CopyOption().setUseGetter(false).setUseSetter(false);
+        ItemA targetA = new ItemA();
+        BeanUtils.copyProperties(itemA, targetA, option);
+        Assert.assertEquals(itemA.getCode(), targetA.getCode());
+        Assert.assertEquals(itemA.isSex(), targetA.isSex());
+        Assert.assertSame(itemA.getSubItems(), targetA.getSubItems());
+    }
+
+    @Test
+    public void readErrorTest() {
+        // get方法抛出异常时与写入失败一样按ignoreError处理
+        FailingItem source = new FailingItem();
+        source.setSex(true);
+        try {
+            BeanUtils.copyProperties(source, new ItemA(), new CopyOption());
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals("Can not copy the value of the field named 'code' to the field 'code'.",
+                    e.getMessage());
+        }
+        ItemA target = new ItemA();
+        BeanUtils.copyProperties(source, target, new CopyOption().setIgnoreError(true));
+        Assert.assertNull(target.getCode());
+        Assert.assertTrue(target.isSex());
+    }
+
+    @Test
+    public void copyPrimitiveTest() {
+        NumberA numberA = new NumberA();
+        numberA.setCount(3);
+        numberA.setTotal(4L);
+        numberA.setRate(0.5);
+        numberA.setEnabled(true);
+        for (CopyOption option : new CopyOption[]{new CopyOption(),
+                new CopyOption().setUseGetter(false).setUseSetter(false)}) {
+            NumberA targetA = new NumberA();
+            BeanUtils.copyProperties(numberA, targetA, option);
+            Assert.assertEquals(3, targetA.getCount());
+            Assert.assertEquals(4L, targetA.getTotal());
+            Assert.assertEquals(0.5, targetA.getRate(), 0);
+            Assert.assertTrue(targetA.isEnabled());
+
+            NumberB targetB = new NumberB();
+            BeanUtils.copyProperties(numberA, targetB, option);
+            Assert.assertEquals(Integer.valueOf(3), targetB.getCount());
+            Assert.assertEquals(Long.valueOf(4L), targetB.getTotal());
+            Assert.assertEquals(Double.valueOf(0.5), targetB.getRate());
+
+            targetA = new NumberA();
+            BeanUtils.copyProperties(targetB, targetA, option);
+            Assert.assertEquals(3, targetA.getCount());
+            Assert.assertEquals(4L, targetA.getTotal());
+        }
+    }
+
+    @Test
+    public void metricsTest() {
+        ReflectionMetrics.reset();
+        ReflectionMetrics.setEnabled(true);
+        try {
+            NumberA numberA = new NumberA();
+            numberA.setCount(3);
+            BeanCopier<NumberA, NumberB> copier = BeanUtils.compile(NumberA.class, NumberB.class, null);
+            for (int i = 0; i < 10; i++) {
+                copier.copy(numberA, new NumberB());
+            }
+            ReflectionMetrics.CopyStats stats = ReflectionMetrics.getCopyStats()
+                    .get(NumberA.class.getName() + "->" + NumberB.class.getName());
+            Assert.assertEquals(10, stats.getCount());
+            Assert.assertTrue(stats.getMaxNanos() >= stats.getPercentileNanos(0.5));
+            Assert.assertTrue(ReflectionMetrics.getMetadataCacheStats().getHits() > 0);
+
+            // 清空统计后已编译的拷贝器继续记录
+            ReflectionMetrics.reset();
+            Assert.assertTrue(ReflectionMetrics.getCopyStats().isEmpty());
+            copier.copy(numberA, new NumberB());
+            stats = ReflectionMetrics.getCopyStats().get(NumberA.class.getName() + "->" + NumberB.class.getName());
+            Assert.assertEquals(1, stats.getCount());
+
+            long created = ReflectionMetrics.getMetadataCreatedCount();
+            ReflectionCache.invalidate(NumberA.class);
+            ClassMetadata.forClass(NumberA.class);
+            Assert.assertEquals(created + 1, ReflectionMetrics.getMetadataCreatedCount());
+        } finally {
+            ReflectionMetrics.setEnabled(false);
+            ReflectionMetrics.reset();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void deepCopyTest() {
+        Node root = new Node();
+        root.name = "root";
+        Node child = new Node();
+        child.name = "child";
+        child.parent = root;
+        root.children.add(child);
+        root.children.add(child);
+        root.tags = new int[]{1, 2};
+        root.attributes.put("self", root);
+        root.created = new Date(1000);
+
+        Node copy = BeanUtils.deepCopy(root);
+        Assert.assertNotSame(root, copy);
+        Assert.assertEquals("root", copy.name);
+        Assert.assertNotSame(root.children, copy.children);
+        Assert.assertEquals(2, copy.children.size());
+        Assert.assertNotSame(child, copy.children.get(0));
+        // 共享引用和循环引用保持不变
+        Assert.assertSame(copy.children.get(0), copy.children.get(1));
+        Assert.assertSame(copy, copy.children.get(0).parent);
+        Assert.assertSame(copy, copy.attributes.get("self"));
+        Assert.assertNotSame(root.tags, copy.tags);
+        Assert.assertArrayEquals(root.tags, copy.tags);
+        Assert.assertNotSame(root.created, copy.created);
+        Assert.assertEquals(root.created, copy.created);
+        Assert.assertSame("root", BeanUtils.deepCopy("root"));
+        Assert.assertEquals(Arrays.asList(1, 2), BeanUtils.deepCopy(Collections.unmodifiableList(Arrays.asList(1, 2))));
+
+        // 可变的JDK类型复制其内容
+        Map<String, Object> holder = new HashMap<>();
+        BitSet bits = new BitSet();
+        bits.set(3);
+        int[] values = {1};
+        holder.put("counter", new AtomicInteger(5));
+        holder.put("text", new StringBuilder("a"));
+        holder.put("bits", bits);
+        holder.put("optional", Optional.of(values));
+        holder.put("reference", new AtomicReference<>(holder));
+        Map<String, Object> holderCopy = BeanUtils.deepCopy(holder);
+        Assert.assertNotSame(holder.get("counter"), holderCopy.get("counter"));
+        Assert.assertEquals(5, ((AtomicInteger) holderCopy.get("counter")).get());
+        Assert.assertNotSame(holder.get("text"), holderCopy.get("text"));
+        Assert.assertEquals("a", holderCopy.get("text").toString());
+        Assert.assertNotSame(bits, holderCopy.get("bits"));
+        Assert.assertEquals(bits, holderCopy.get("bits"));
+        int[] copiedValues = ((Optional<int[]>) holderCopy.get("optional")).get();
+        Assert.assertNotSame(values, copiedValues);
+        Assert.assertArrayEquals(values, copiedValues);
+        Assert.assertSame(holderCopy, ((AtomicReference<?>) holderCopy.get("reference")).get());
+
+        Node target = new Node();
+        BeanUtils.deepCopyProperties(root, target);
+        Assert.assertNotSame(root.children, target.children);
+        Assert.assertSame(target, target.children.get(0).parent);
+        Assert.assertSame(target, target.attributes.get("self"));
+        target = new Node();
+        BeanUtils.copyProperties(root, target);
+        Assert.assertSame(root.children, target.children);
+    }
+
+    @Test
+    public void converterTest() {
+        NumberA numberA = new NumberA();
+        numberA.setCount(3);
+        numberA.setTotal(4L);
+        numberA.setRate(2.0);
+        CopyOption option = new CopyOption().addFieldMapping("count", "rate").addFieldMapping("rate", "count")
+                .addIgnoreFields("total", "enabled");
+        // 默认不使用内置转换器，类型不兼容时拷贝失败
+        try {
+            BeanUtils.copyProperties(numberA, new NumberB(), option);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Can not copy"));
+        }
+        option.setUseBuiltinConverters(true);
+        NumberB numberB = new NumberB();
+        BeanUtils.copyProperties(numberA, numberB, option);
+        Assert.assertEquals(Double.valueOf(3), numberB.getRate());
+        Assert.assertEquals(Integer.valueOf(2), numberB.getCount());
+        // 收窄转换不能精确表示时失败，忽略错误时跳过该属性
+        numberA.setRate(1.5);
+        try {
+            BeanUtils.copyProperties(numberA, new NumberB(), option);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getCause().getMessage().contains("exactly"));
+        }
+        numberB = new NumberB();
+        BeanUtils.copyProperties(numberA, numberB, new CopyOption().addFieldMapping("rate", "count")
+                .addIgnoreFields("count", "total", "enabled").setIgnoreError(true).setUseBuiltinConverters(true));
+        Assert.assertNull(numberB.getCount());
+
+        ItemA itemA = new ItemA();
+        itemA.setCode("42");
+        ItemB itemB = new ItemB();
+        BeanUtils.copyProperties(itemA, itemB, new CopyOption().addFieldMapping("code", "score")
+                .addIgnoreFields("sex", "subItem", "subItems").setUseBuiltinConverters(true));
+        Assert.assertEquals(42, itemB.getScore());
+        for (String code : new String[]{"3.7", "3000000000"}) {
+            itemA.setCode(code);
+            try {
+                BeanUtils.copyProperties(itemA, new ItemB(), new CopyOption().addFieldMapping("code", "score")
+                        .addIgnoreFields("sex", "subItem", "subItems").setUseBuiltinConverters(true));
+                Assert.fail(code);
+            } catch (IllegalArgumentException e) {
+                Assert.assertTrue(e.getCause().getMessage().contains("exactly"));
+            }
+        }
+
+        // 注册的转换器优先于内置转换器，也可用于没有内置转换器的类型
+        option = new CopyOption().addFieldMapping("sex", "score").addIgnoreFields("code", "subItem", "subItems")
+                .addConverter(boolean.class, int.class, sex -> sex ? 1 : 0);
+        itemB = new ItemB();
+        BeanUtils.copyProperties(BeanUtilsTest.itemA, itemB, option);
+        Assert.assertEquals(1, itemB.getScore());
+    }
+
+    @Test
+    public void generatedCopierTest() throws Exception {
+        // 只在本测试中通过线程上下文类加载器声明生成的拷贝器
+        Path services = Files.createTempDirectory("copiers");
+        Path file = services.resolve("META-INF/services/" + GeneratedCopier.class.getName());
+        Files.createDirectories(file.getParent());
+        Files.write(file, Arrays.asList(NumberCopier.class.getName(), IgnoringNumberCopier.class.getName()));
+        Thread thread = Thread.currentThread();
+        ClassLoader contextLoader = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{services.toUri().toURL()},
+                BeanUtilsTest.class.getClassLoader())) {
+            thread.setContextClassLoader(loader);
+            ReflectionCache.invalidate(NumberA.class);
+            ReflectionCache.invalidate(NumberB.class);
+            NumberB numberB = new NumberB();
+            numberB.setCount(5);
+            int copies = NumberCopier.COPIES.get();
+            NumberA numberA = new NumberA();
+            BeanUtils.copyProperties(numberB, numberA);
+            Assert.assertEquals(5, numberA.getCount());
+            Assert.assertEquals(copies + 1, NumberCopier.COPIES.get());
+            // 指定忽略属性时使用运行时编译的拷贝器
+            BeanUtils.copyProperties(numberB, new NumberA(), "total", "rate");
+            Assert.assertEquals(copies + 1, NumberCopier.COPIES.get());
+            // 拷贝规则不是默认设置的生成拷贝器不被使用
+            numberA.setCount(7);
+            BeanUtils.copyProperties(numberA, numberB);
+            Assert.assertEquals(Integer.valueOf(7), numberB.getCount());
+            Assert.assertEquals(0, IgnoringNumberCopier.COPIES.get());
+        } finally {
+            thread.setContextClassLoader(contextLoader);
+            ReflectionCache.invalidate(NumberA.class);
+            ReflectionCache.invalidate(NumberB.class);
+        }
+        // 其他测试中的拷贝不受影响
+        int copies = NumberCopier.COPIES.get();
+        NumberB numberB = new NumberB();
+        numberB.setCount(5);
+        numberB.setTotal(6L);
+        numberB.setRate(1.5);
+        NumberA numberA = new NumberA();
+        BeanUtils.copyProperties(numberB, numberA);
+        Assert.assertEquals(6L, numberA.getTotal());
+        Assert.assertEquals(copies, NumberCopier.COPIES.get());
+    }
+
+    @Test
+    public void copyAllTest() {
+        List<NumberA> sources = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            NumberA numberA = new NumberA();
+            numberA.setCount(i);
+            sources.add(i == 10 ? null : numberA);
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<NumberB> targets = BeanUtils.copyAll(sources, NumberB::new, null, 100, pool);
+            Assert.assertEquals(sources.size(), targets.size());
+            Assert.assertNull(targets.get(10));
+            for (int i = 0; i < sources.size(); i++) {
+                if (i != 10) {
+                    Assert.assertEquals(Integer.valueOf(i), targets.get(i).getCount());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        List<NumberA> copies = BeanUtils.copyAll(sources.subList(0, 5), NumberA.class, null);
+        Assert.assertEquals(4, copies.get(4).getCount());
+    }
+
+    @Test
+    public void asMapTest() {
+        ItemA source = new ItemA();
+        source.setCode("code");
+        Map<String, Object> map = BeanUtils.asMap(source);
+        Assert.assertEquals(4, map.size());
+        Assert.assertEquals("code", map.get("code"));
+        Assert.assertEquals(false, map.get("sex"));
+        Assert.assertEquals("code", map.put("code", "changed"));
+        Assert.assertEquals("changed", source.getCode());
+        source.setSex(true);
+        Assert.assertEquals(true, map.get("sex"));
+
+        Map<String, Object> projected = BeanUtils.asMap(source, "code");
+        Assert.assertEquals(1, projected.size());
+        Assert.assertFalse(projected.containsKey("sex"));
+        Assert.assertEquals(Collections.singletonMap("code", "changed"), new HashMap<>(projected));
+
+        Assert.assertEquals("changed", BeanUtils.beanToMap(source).get("code"));
+    }
+
+    @Test
+    public void mapToBeanTest() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("code", "code");
+        row.put("sex", true);
+        row.put("unknown", 1);
+        ItemA bean = BeanUtils.mapToBean(row, ItemA.class);
+        Assert.assertEquals("code", bean.getCode());
+        Assert.assertTrue(bean.isSex());
+
+        row.put("sex", null);
+        CopyOption option = new CopyOption().addFieldMapping("code", "number").setIgnoreNullValue(true);
+        MapBinder<ItemB> binder = BeanUtils.compileBinder(ItemB.class, option);
+        ItemB itemB = binder.bind(row);
+        Assert.assertEquals("code", itemB.getNumber());
+
+        row.put("score", new SubItem());
+        this.expectedException.expect(IllegalArgumentException.class);
+        this.expectedException.expectMessage("Can not bind the value of the key 'score' to the field 'score'.");
+        binder.bind(row);
+    }
+
+    @Test
+    public void cacheTest() throws Exception {
+        ReflectionCache.clear();
+        ReflectionMetrics.reset();
+        Assert.assertEquals(0, ReflectionCache.size());
+        BeanUtils.copyProperties(itemA, new ItemA());
+        BeanUtils.copyProperties(itemA, new ItemA());
+        // 不指定拷贝选项的各个入口共用同一个拷贝器
+        BeanUtils.copyProperties(itemA, new ItemA(), new CopyOption());
+        Assert.assertEquals(1, BeanUtils.map(Stream.of(itemA), ItemA.class).collect(Collectors.toList()).size());
+        BeanUtils.copyAll(Collections.singletonList(itemA), ItemA.class, null);
+        Assert.assertEquals(1, ReflectionCache.size());
+        // 度量关闭时同样统计命中和未命中
+        Assert.assertFalse(ReflectionMetrics.isEnabled());
+        Assert.assertEquals(1, ReflectionCache.getStats().getMisses());
+        Assert.assertTrue(ReflectionCache.getStats().getHits() >= 4);
+        BeanUtils.copyProperties(itemA, new ItemA(), "code");
+        BeanUtils.copyProperties(itemA, new StudentA());
+        Assert.assertEquals(3, ReflectionCache.size());
+        ReflectionCache.invalidate(StudentA.class);
+        Assert.assertEquals(2, ReflectionCache.size());
+
+        ClassMetadata metadata = ClassMetadata.forClass(ItemA.class);
+        ReflectionCache.invalidate(ItemA.class);
+        Assert.assertEquals(0, ReflectionCache.size());
+        Assert.assertNotSame(metadata, ClassMetadata.forClass(ItemA.class));
+
+        // 类加载器没有父子关系时不缓存计划，避免一方持有另一方的类加载器
+        URL classes = NumberA.class.getProtectionDomain().getCodeSource().getLocation();
+        ClassLoader parent = ClassLoader.getSystemClassLoader().getParent();
+        try (URLClassLoader first = new URLClassLoader(new URL[]{classes}, parent);
+             URLClassLoader second = new URLClassLoader(new URL[]{classes}, parent)) {
+            Constructor<?> sourceConstructor = first.loadClass(NumberA.class.getName())
+                    .getDeclaredConstructor();
+            Constructor<?> targetConstructor = second.loadClass(NumberA.class.getName())
+                    .getDeclaredConstructor();
+            sourceConstructor.setAccessible(true);
+            targetConstructor.setAccessible(true);
+            BeanUtils.copyProperties(sourceConstructor.newInstance(), targetConstructor.newInstance());
+            Assert.assertEquals(0, ReflectionCache.size());
+        }
+
+        int maximumSize = ReflectionCache.getMaximumSize();
+        try {
+            ReflectionCache.setMaximumSize(16);
+            for (int i = 0; i < 40; i++) {
+                BeanUtils.copyProperties(itemA, new ItemA(), "field" + i);
+            }
+            Assert.assertTrue(ReflectionCache.size() <= 16);
+            Assert.assertTrue(ReflectionCache.getStats().getEvictions() > 0);
+            ItemA targetA = new ItemA();
+            BeanUtils.copyProperties(itemA, targetA, "field39");
+            Assert.assertEquals(itemA.getCode(), targetA.getCode());
+        } finally {
+            ReflectionCache.setMaximumSize(maximumSize);
+            ReflectionCache.clear();
+        }
+    }
+
+    @Test
+    public void diffTest() {
+        NumberA original = new NumberA();
+        original.setCount(1);
+        original.setTotal(10L);
+        original.setRate(Double.NaN);
+        NumberA modified = new NumberA();
+        modified.setCount(2);
+        modified.setTotal(10L);
+        modified.setRate(Double.NaN);
+        modified.setEnabled(true);
+        PropertyDiff diff = BeanUtils.diff(original, modified);
+        Assert.assertEquals(Arrays.asList("count", "total", "rate", "enabled"), diff.getPropertyNames());
+        Assert.assertEquals(Arrays.asList("count", "enabled"), diff.getChangedProperties());
+        Assert.assertEquals(2, diff.getChangedCount());
+        Assert.assertTrue(diff.getChangedBits().get(0));
+        Assert.assertEquals(1, diff.getOldValue("count"));
+        Assert.assertEquals(2, diff.getNewValue("count"));
+        Assert.assertFalse(diff.isChanged("rate"));
+
+        diff = BeanUtils.diff(original, modified, new CopyOption().addIgnoreFields("count").setUseGetter(false));
+        Assert.assertEquals(Collections.singletonList("enabled"), diff.getChangedProperties());
+        Assert.assertFalse(BeanUtils.diff(itemA, itemA).hasChanges());
+
+        ItemA changed = new ItemA();
+        BeanUtils.copyProperties(itemA, changed);
+        changed.setSubItems(new ArrayList<>(itemA.getSubItems()));
+        Assert.assertFalse(BeanUtils.diff(itemA, changed).hasChanges());
+        changed.setCode("changed");
+        Assert.assertEquals(Collections.singletonList("code"), BeanUtils.diff(itemA, changed).getChangedProperties());
+        try {
+            BeanUtils.diff(itemA, new ItemB());
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Can not compare"));
+        }
+    }
+
+    @Test
+    public void frozenOptionTest() {
+        CopyOption option = new CopyOption().addIgnoreFields("sex", "code").addFieldMapping("subItem", "item");
+        CopyOption frozen = option.freeze();
+        Assert.assertTrue(frozen.isFrozen());
+        Assert.assertSame(frozen, frozen.freeze());
+        CopyOption other = new CopyOption().addIgnoreFields("code", "sex").addFieldMapping("subItem", "item")
+                .freeze();
+        Assert.assertEquals(frozen, other);
+        Assert.assertEquals(frozen.hashCode(), other.hashCode());
+        Assert.assertNotEquals(option, new CopyOption().addIgnoreFields("sex", "code")
+                .addFieldMapping("subItem", "item"));
+        option.addIgnoreFields("subItems");
+        Assert.assertEquals(Arrays.asList("sex", "code"), frozen.getIgnoreFields());
+        try {
+            frozen.setIgnoreError(true);
+            Assert.fail();
+        } catch (UnsupportedOperationException e) {
+            Assert.assertEquals("The CopyOption is frozen.", e.getMessage());
+        }
+        try {
+            frozen.getIgnoreFields().add("subItems");
+            Assert.fail();
+        } catch (UnsupportedOperationException ignored) {
+            // 快照的忽略属性不可修改
+        }
+
+        ReflectionCache.clear();
+        ItemB targetB = new ItemB();
+        BeanUtils.copyProperties(itemA, targetB, frozen);
+        BeanUtils.copyProperties(itemA, new ItemB(), other);
+        Assert.assertEquals(1, ReflectionCache.size());
+        Assert.assertEquals(0, targetB.getScore());
+        Assert.assertEquals(itemA.getSubItem().getName(), targetB.getItem().getName());
+        Assert.assertNull(targetB.getNumber());
+
+        // 设置相同的未冻结拷贝选项复用同一个拷贝器
+        for (int i = 0; i < 3; i++) {
+            BeanUtils.copyProperties(itemA, new ItemB(), new CopyOption().addIgnoreFields("code", "sex")
+                    .addFieldMapping("subItem", "item"));
+            BeanUtils.copyTo(itemA, ItemB.class, new CopyOption().addIgnoreFields("code"));
+        }
+        Assert.assertEquals(2, ReflectionCache.size());
+
+        // 同一快照的Map绑定器与从Map拷贝属性的拷贝器分别缓存
+        Map<String, Object> row = new HashMap<>();
+        row.put("code", "code");
+        CopyOption mapping = new CopyOption().addFieldMapping("code", "number").freeze();
+        Assert.assertEquals("code", BeanUtils.mapToBean(row, ItemB.class, mapping).getNumber());
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Function<Map, ItemB> mapper = BeanUtils.mapper(Map.class, ItemB.class, mapping);
+        Assert.assertNotNull(mapper.apply(row));
+        Assert.assertEquals("code", BeanUtils.mapToBean(row, ItemB.class, mapping).getNumber());
+
+        // 相等的快照按源类型最具体的转换器转换，与注册顺序无关
+        Converter<Object, String> general = value -> "object";
+        Converter<Number, String> specific = value -> "number";
+        CopyOption first = new CopyOption().addFieldMapping("count", "number")
+                .addConverter(Object.class, String.class, general)
+                .addConverter(Number.class, String.class, specific).freeze();
+        CopyOption second = new CopyOption().addFieldMapping("count", "number")
+                .addConverter(Number.class, String.class, specific)
+                .addConverter(Object.class, String.class, general).freeze();
+        Assert.assertEquals(first, second);
+        NumberB numberB = new NumberB();
+        numberB.setCount(1);
+        for (CopyOption converterOption : Arrays.asList(first, second)) {
+            ItemB converted = new ItemB();
+            BeanUtils.copyProperties(numberB, converted, converterOption);
+            Assert.assertEquals("number", converted.getNumber());
+        }
+        ReflectionCache.clear();
+    }
+
+    @Test
+    public void mapperTest() {
+        CopyOption option = new CopyOption().addFieldMapping("code", "number").freeze();
+        Function<ItemA, ItemB> mapper = BeanUtils.mapper(ItemA.class, ItemB.class, option);
+        ItemB itemB = mapper.apply(itemA);
+        Assert.assertEquals(itemA.getCode(), itemB.getNumber());
+        Assert.assertNull(mapper.apply(null));
+
+        List<ItemA> sources = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            ItemA source = new ItemA();
+            source.setCode(String.valueOf(i));
+            sources.add(i == 10 ? null : source);
+        }
+        Spliterator<ItemB> spliterator = BeanUtils.map(sources.stream(), ItemB.class, option).spliterator();
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED
+                | Spliterator.ORDERED));
+        Assert.assertEquals(5000, spliterator.getExactSizeIfKnown());
+
+        List<ItemB> targets = BeanUtils.map(sources.parallelStream(), ItemB.class, option)
+                .collect(Collectors.toList());
+        Assert.assertEquals(5000, targets.size());
+        Assert.assertNull(targets.get(10));
+        Assert.assertEquals("4999", targets.get(4999).getNumber());
+        List<ItemA> copies = BeanUtils.map(sources.stream().filter(Objects::nonNull).limit(3), ItemA.class)
+                .collect(Collectors.toList());
+        Assert.assertEquals("2", copies.get(2).getCode());
+    }
+
+    @Test
+    public void copyToTest() {
+        ImmutableItem immutable = BeanUtils.copyTo(itemA, ImmutableItem.class);
+        Assert.assertEquals(itemA.getCode(), immutable.getCode());
+        Assert.assertEquals(itemA.isSex(), immutable.isSex());
+        Assert.assertEquals(0, immutable.getScore());
+        Assert.assertNull(BeanUtils.copyTo(null, ImmutableItem.class));
+
+        CopyOption option = new CopyOption().addFieldMapping("code", "number").addFieldMapping("subItem", "item")
+                .freeze();
+        AnnotatedItem annotated = BeanUtils.copyTo(itemA, AnnotatedItem.class, option);
+        Assert.assertEquals(itemA.getCode(), annotated.getNumber());
+        Assert.assertSame(itemA.getSubItem(), annotated.getItem());
+        annotated = BeanUtils.copyTo(itemA, AnnotatedItem.class, new CopyOption().addIgnoreFields("subItem"));
+        Assert.assertNull(annotated.getNumber());
+        Assert.assertNull(annotated.getItem());
+
+        // 没有可用的构造方法时使用无参构造方法拷贝属性
+        ItemA copy = BeanUtils.copyTo(itemA, ItemA.class);
+        Assert.assertEquals(itemA.getCode(), copy.getCode());
+        Assert.assertEquals(itemA.getSubItems(), copy.getSubItems());
+
+        // 构造方法参数以外的属性(包括继承的属性)继续拷贝
+        PartialItem partial = BeanUtils.copyTo(itemA, PartialItem.class);
+        Assert.assertTrue(partial.isSex());
+        Assert.assertEquals(itemA.getCode(), partial.getCode());
+        Assert.assertSame(itemA.getSubItems(), partial.getSubItems());
+        // 构造方法没有覆盖所有属性时优先使用无参构造方法
+        NoArgsItem noArgs = BeanUtils.copyTo(itemA, NoArgsItem.class);
+        Assert.assertFalse(noArgs.isCreatedByConstructor());
+        Assert.assertTrue(noArgs.isSex());
+        Assert.assertEquals(itemA.getCode(), noArgs.getCode());
+    }
 
     @Test
     public void test() {
@@ -267,3 +916,253 @@ class SubItem {
         this.name = name;
     }
 }
+
+class NumberA {
+    private int count;
+    private long total;
+    private double rate;
+    private boolean enabled;
+
+    public int getCount() {
+        return this.count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public long getTotal() {
+        return this.total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public double getRate() {
+        return this.rate;
+    }
+
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
+
+class NumberB {
+    private Integer count;
+    private Long total;
+    private Double rate;
+
+    public Integer getCount() {
+        return this.count;
+    }
+
+    public void setCount(Integer count) {
+        this.count = count;
+    }
+
+    public Long getTotal() {
+        return this.total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+
+    public Double getRate() {
+        return this.rate;
+    }
+
+    public void setRate(Double rate) {
+        this.rate = rate;
+    }
+}
+
+class Node {
+    String name;
+    Node parent;
+    List<Node> children = new ArrayList<>();
+    Map<String, Object> attributes = new HashMap<>();
+    int[] tags;
+    Date created;
+
+    public String getName() {
+        return this.name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Node getParent() {
+        return this.parent;
+    }
+
+    public void setParent(Node parent) {
+        this.parent = parent;
+    }
+
+    public List<Node> getChildren() {
+        return this.children;
+    }
+
+    public void setChildren(List<Node> children) {
+        this.children = children;
+    }
+
+    public Map<String, Object> getAttributes() {
+        return this.attributes;
+    }
+
+    public void setAttributes(Map<String, Object> attributes) {
+        this.attributes = attributes;
+    }
+
+    public int[] getTags() {
+        return this.tags;
+    }
+
+    public void setTags(int[] tags) {
+        this.tags = tags;
+    }
+
+    public Date getCreated() {
+        return this.created;
+    }
+
+    public void setCreated(Date created) {
+        this.created = created;
+    }
+}
+
+class ImmutableItem {
+    private final String code;
+    private final boolean sex;
+    private final int score;
+
+    ImmutableItem(String code, boolean sex, int score) {
+        this.code = code;
+        this.sex = sex;
+        this.score = score;
+    }
+
+    public String getCode() {
+        return this.code;
+    }
+
+    public boolean isSex() {
+        return this.sex;
+    }
+
+    public int getScore() {
+        return this.score;
+    }
+}
+
+class AnnotatedItem {
+    private final String number;
+    private final SubItem item;
+
+    @ConstructorProperties({"number", "item"})
+    AnnotatedItem(String number, SubItem item) {
+        this.number = number;
+        this.item = item;
+    }
+
+    public String getNumber() {
+        return this.number;
+    }
+
+    public SubItem getItem() {
+        return this.item;
+    }
+}
+
+class BaseItem {
+    private String code;
+
+    public String getCode() {
+        return this.code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+}
+
+class PartialItem extends BaseItem {
+    private final boolean sex;
+    private List<SubItem> subItems;
+
+    @ConstructorProperties("sex")
+    PartialItem(boolean sex) {
+        this.sex = sex;
+    }
+
+    public boolean isSex() {
+        return this.sex;
+    }
+
+    public List<SubItem> getSubItems() {
+        return this.subItems;
+    }
+
+    public void setSubItems(List<SubItem> subItems) {
+        this.subItems = subItems;
+    }
+}
+
+class NoArgsItem extends BaseItem {
+    private boolean sex;
+    private boolean createdByConstructor;
+
+    NoArgsItem() {
+    }
+
+    @ConstructorProperties("sex")
+    NoArgsItem(boolean sex) {
+        this.sex = sex;
+        this.createdByConstructor = true;
+    }
+
+    public boolean isSex() {
+        return this.sex;
+    }
+
+    public void setSex(boolean sex) {
+        this.sex = sex;
+    }
+
+    public boolean isCreatedByConstructor() {
+        return this.createdByConstructor;
+    }
+}
+
+class FailingItem {
+    private String code;
+    private boolean sex;
+
+    public String getCode() {
+        throw new IllegalStateException("code");
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public boolean isSex() {
+        return this.sex;
+    }
+
+    public void setSex(boolean sex) {
+        this.sex = sex;
+    }
+}
@@ -0,0 +1,440 @@
+package org.rdlinux.luava;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.rdlinux.luava.reflection.BeanUtils;
+import org.rdlinux.luava.reflection.ClassMetadata;
+import org.rdlinux.luava.reflection.CopyOption;
+import org.rdlinux.luava.reflection.FieldAccessor;
+import org.rdlinux.luava.reflection.MethodInvoker;
+import org.rdlinux.luava.reflection.PropertyPath;
+import org.rdlinux.luava.reflection.ProxyResolver;
+import org.rdlinux.luava.reflection.ReflectionCache;
+import org.rdlinux.luava.reflection.ReflectionUtils;
+import org.rdlinux.luava.reflection.ReflectionWarmup;
+import org.rdlinux.luava.reflection.TypeResolver;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class ReflectionUtilsTest {
+
+    @Test
+    public void metadataTest() {
+        Assert.assertSame(ClassMetadata.forClass(Child.class), ClassMetadata.forClass(Child.class));
+        List<Field> fields = ReflectionUtils.getAllFields(Child.class);
+        Assert.assertEquals(5, fields.size());
+        Field name = ReflectionUtils.getField(Child.class, "name");
+        Assert.assertEquals(Child.class, name.getDeclaringClass());
+        Assert.assertEquals(Parent.class, ReflectionUtils.getField(Child.class, "id").getDeclaringClass());
+
+        Method getter = ReflectionUtils.getMethodOfFieldGet(Child.class, "enabled");
+        Assert.assertEquals("isEnabled", getter.getName());
+        Method setter = ReflectionUtils.getMethodOfFieldSet(Child.class, "id");
+        Assert.assertEquals("setId", setter.getName());
+        Assert.assertNull(ClassMetadata.forClass(Child.class).getProperty("isOld").getGetter());
+        Assert.assertEquals("setIsOld", ClassMetadata.forClass(Child.class).getProperty("isOld").getSetter().getName());
+
+        Child child = new Child();
+        ReflectionUtils.setFieldValue(child, "id", 5L, true);
+        Assert.assertEquals(Long.valueOf(5L), ReflectionUtils.getFieldValue(child, "id", true));
+    }
+
+    @Test
+    public void generatedAccessorTest() {
+        PublicBean bean = new PublicBean();
+        ReflectionUtils.setFieldValue(bean, "count", 3, true);
+        ReflectionUtils.setFieldValue(bean, "label", "a", true);
+        Assert.assertEquals(3, bean.getCount());
+        Assert.assertEquals(Integer.valueOf(3), ReflectionUtils.getFieldValue(bean, "count", true));
+        Assert.assertEquals("a", ReflectionUtils.getFieldValue(bean, "label", true));
+        try {
+            ReflectionUtils.setFieldValue(bean, "count", null, true);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(3, bean.getCount());
+        }
+    }
+
+    @Test
+    public void fieldAccessorTest() {
+        Child child = new Child();
+        ReflectionUtils.setFieldValue(child, "name", "child");
+        Assert.assertEquals("child", child.getName());
+        Assert.assertEquals("child", ReflectionUtils.getFieldValue(child, "name"));
+
+        FieldAccessor accessor = ReflectionUtils.getFieldAccessor(PublicBean.class, "count");
+        PublicBean bean = new PublicBean();
+        accessor.setInt(bean, 7);
+        Assert.assertEquals(7, accessor.getInt(bean));
+        Assert.assertEquals(7, accessor.get(bean));
+        Assert.assertSame(accessor, ReflectionUtils.getFieldAccessor(PublicBean.class, "count"));
+        try {
+            accessor.getLong(bean);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(7, bean.getCount());
+        }
+    }
+
+    @Test
+    public void proxyClassTest() {
+        Assert.assertTrue(ReflectionUtils.isProxyClass(Child$$EnhancerBySpringCGLIB$$1.class));
+        Assert.assertEquals(Child.class, ReflectionUtils.getRealCalssOfProxyClass(Child$$EnhancerBySpringCGLIB$$1.class));
+        Assert.assertSame(ClassMetadata.forClass(Child.class),
+                ClassMetadata.forClass(Child$$EnhancerBySpringCGLIB$$1.class));
+        Assert.assertFalse(ReflectionUtils.isProxyClass(Child.class));
+        Object jdkProxy = Proxy.newProxyInstance(this.getClass().getClassLoader(), new Class[]{Runnable.class},
+                (proxy, method, args) -> null);
+        Assert.assertTrue(ReflectionUtils.isProxyClass(jdkProxy.getClass()));
+
+        ReflectionUtils.registerProxyResolver(new ProxyResolver() {
+            @Override
+            public boolean isProxyClass(Class<?> type) {
+                return type == CustomProxy.class;
+            }
+
+            @Override
+            public Class<?> getUserClass(Class<?> proxyClass) {
+                return Parent.class;
+            }
+        });
+        Assert.assertEquals(Parent.class, ReflectionUtils.getRealCalssOfProxyClass(CustomProxy.class));
+    }
+
+    @Test
+    public void genericTypeTest() throws Exception {
+        Assert.assertEquals(String.class, ReflectionUtils.getGenericSuperclass(StringRepository.class, 0));
+        Assert.assertEquals(Long.class, ReflectionUtils.getGenericSuperclass(StringRepository.class, 1));
+        // 父类不是参数化类型时向上查找
+        Assert.assertEquals(Long.class, ReflectionUtils.getGenericSuperclass(SubStringRepository.class, 1));
+        Assert.assertEquals(Long.class, ReflectionUtils.getGenericSuperclass(CachedStringRepository.class, 0));
+        // 类型参数经过多层父类传递
+        Assert.assertArrayEquals(new Type[]{String.class, Long.class},
+                TypeResolver.getTypeArguments(CachedStringRepository.class, Repository.class));
+
+        Field values = Repository.class.getDeclaredField("values");
+        Assert.assertEquals(Map.class, ReflectionUtils.getFiledGenericClass(values, 0));
+        Field ids = Repository.class.getDeclaredField("ids");
+        Assert.assertEquals(String.class, ReflectionUtils.getFiledGenericClass(ids, 0));
+        Assert.assertEquals(Object.class, ReflectionUtils.getFiledGenericClass(ids, 1));
+        Assert.assertEquals(Long.class, ReflectionUtils.getFiledGenericClass(CachedStringRepository.class, ids, 1));
+        Type type = TypeResolver.resolveFieldType(values, CachedStringRepository.class);
+        Assert.assertEquals("java.util.List<java.util.Map<java.lang.String, java.lang.String>>", type.getTypeName());
+        Assert.assertEquals(String[].class,
+                TypeResolver.resolveFieldType(Repository.class.getDeclaredField("array"), StringRepository.class));
+    }
+
+    @Test
+    public void methodInvokerTest() {
+        Greeter greeter = new Greeter();
+        Assert.assertEquals("hello int 1", ReflectionUtils.invokeMethod(greeter, "greet", 1));
+        Assert.assertEquals("hello string a", ReflectionUtils.invokeMethod(greeter, "greet", "a"));
+        Assert.assertEquals("hello object 1.5", ReflectionUtils.invokeMethod(greeter, "greet", 1.5));
+        Assert.assertEquals("hello a b", ReflectionUtils.invokeMethod(greeter, "greet", "a", "b"));
+        Assert.assertEquals(3, ReflectionUtils.invokeMethod(greeter, "count"));
+        Assert.assertNull(ReflectionUtils.invokeMethod(greeter, "reset"));
+        Assert.assertEquals(0, ReflectionUtils.invokeMethod(greeter, "count"));
+
+        MethodInvoker invoker = ReflectionUtils.getMethodInvoker(Greeter.class, "greet", String.class, String.class);
+        Assert.assertSame(invoker, ReflectionUtils.getMethodInvoker(invoker.getMethod()));
+        Assert.assertEquals("hello x y", invoker.invoke2(greeter, "x", "y"));
+        Assert.assertEquals("hello x y", invoker.invoke(greeter, "x", "y"));
+        Assert.assertEquals(Greeter.class, ReflectionUtils.getMethod(Greeter.class, "count").getDeclaringClass());
+        Assert.assertEquals("static 2",
+                ReflectionUtils.getMethodInvoker(Greeter.class, "twice", int.class).invoke1(null, 1));
+        try {
+            invoker.invoke1(greeter, "x");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().contains("requires 2 arguments"));
+        }
+    }
+
+    @Test
+    public void warmupTest() {
+        ReflectionWarmup.WarmupReport report = new ReflectionWarmup()
+                .addClasses(Child.class, PublicBean.class)
+                .addPair(Child.class, PublicBean.class)
+                .addPackage("org.rdlinux.luava")
+                .setParallelism(2)
+                .run();
+        Assert.assertTrue(report.getFailures().toString(), report.getFailures().isEmpty());
+        List<String> names = new ArrayList<>();
+        for (ReflectionWarmup.WarmupReport.Entry entry : report.getEntries()) {
+            Assert.assertTrue(entry.getNanos() >= 0);
+            names.add(entry.getName());
+        }
+        Assert.assertTrue(names.contains(Child.class.getName()));
+        Assert.assertTrue(names.contains(ReflectionUtils.class.getName()));
+        Assert.assertTrue(names.contains(Child.class.getName() + "->" + PublicBean.class.getName()));
+        Assert.assertFalse(names.contains(ReflectionWarmup.class.getName() + "$Action"));
+        Assert.assertEquals(1, report.getSlowest(1).size());
+
+        // 预热的拷贝器即拷贝方法读取的拷贝器
+        ReflectionCache.clear();
+        new ReflectionWarmup().addPair(Child.class, PublicBean.class).run();
+        new ReflectionWarmup().addPair(Child.class, PublicBean.class)
+                .setCopyOption(new CopyOption().addIgnoreFields("name")).run();
+        Assert.assertEquals(2, ReflectionCache.size());
+        BeanUtils.copyProperties(new Child(), new PublicBean());
+        BeanUtils.copyProperties(new Child(), new PublicBean(), new CopyOption().addIgnoreFields("name"));
+        Assert.assertEquals(2, ReflectionCache.size());
+        ReflectionCache.clear();
+    }
+
+    @Test
+    public void interruptedWarmupTest() {
+        // 中断时没有完成的任务记为失败，报告仍可使用
+        Thread.currentThread().interrupt();
+        ReflectionWarmup.WarmupReport report;
+        try {
+            report = new ReflectionWarmup().addPackage("org.rdlinux.luava").setParallelism(2).run();
+        } finally {
+            Assert.assertTrue(Thread.interrupted());
+        }
+        for (ReflectionWarmup.WarmupReport.Entry entry : report.getEntries()) {
+            Assert.assertNotNull(entry);
+        }
+        for (ReflectionWarmup.WarmupReport.Entry failure : report.getFailures()) {
+            Assert.assertTrue(failure.getError() instanceof InterruptedException);
+        }
+        Assert.assertNotNull(report.toString());
+        Assert.assertEquals(1, report.getSlowest(1).size());
+    }
+
+    @Test
+    public void instantiatorTest() {
+        Supplier<PublicBean> publicBean = ReflectionUtils.instantiator(PublicBean.class);
+        Assert.assertSame(publicBean, ReflectionUtils.instantiator(PublicBean.class));
+        Assert.assertNotSame(publicBean.get(), publicBean.get());
+        Assert.assertEquals(PublicBean.class, publicBean.get().getClass());
+        // 非public类回退为句柄调用
+        Assert.assertEquals(3, ReflectionUtils.invokeMethod(ReflectionUtils.instantiator(Greeter.class).get(), "count"));
+
+        Function<Object[], Greeter> greeter = ReflectionUtils.instantiator(Greeter.class, int.class);
+        Assert.assertSame(greeter, ReflectionUtils.instantiator(Greeter.class, int.class));
+        Assert.assertEquals(7, ReflectionUtils.invokeMethod(greeter.apply(new Object[]{7}), "count"));
+        try {
+            greeter.apply(new Object[]{"7"});
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().contains("argument 0"));
+        }
+        try {
+            greeter.apply(new Object[0]);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().contains("requires 1 arguments"));
+        }
+        try {
+            ReflectionUtils.instantiator(Number.class);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().contains("abstract"));
+        }
+        try {
+            ReflectionUtils.instantiator(Greeter.class, String.class);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getCause() instanceof NoSuchMethodException);
+        }
+    }
+
+    @Test
+    public void propertyPathTest() {
+        PropertyPath sku = ReflectionUtils.compilePath("order.items[0].sku");
+        Cart cart = new Cart();
+        sku.set(cart, "A-1");
+        Assert.assertNotNull(cart.order);
+        Assert.assertEquals(1, cart.order.items.size());
+        Assert.assertEquals("A-1", sku.get(cart));
+        // 编译结果可重复用于不同对象
+        Cart other = new Cart();
+        ReflectionUtils.compilePath("order.items[2].sku").set(other, "C-3");
+        Assert.assertEquals(3, other.order.items.size());
+        Assert.assertNull(other.order.items.get(0));
+        Assert.assertEquals("C-3", ReflectionUtils.compilePath("order.items[2].sku").get(other));
+        try {
+            sku.get(other);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().contains("'order.items[0]'"));
+        }
+        Assert.assertNull(ReflectionUtils.compilePath("order.items[0].sku", true).get(other));
+        Assert.assertNull(ReflectionUtils.compilePath("order.items[5].sku", true).get(other));
+        Assert.assertNull(ReflectionUtils.compilePath("order.items[0].sku", true).get(new Cart()));
+
+        PropertyPath attribute = ReflectionUtils.compilePath("order.attributes['a.b'].labels[1]");
+        attribute.set(cart, "x");
+        Assert.assertEquals("x", attribute.get(cart));
+        Assert.assertEquals(2, ((Object[]) cart.order.attributes.get("a.b").labels).length);
+        PropertyPath nested = ReflectionUtils.compilePath("order.extra.owner.name");
+        nested.set(cart, "tom");
+        Assert.assertEquals("tom", nested.get(cart));
+        Assert.assertTrue(cart.order.extra instanceof Map);
+        ReflectionUtils.compilePath("order.count").set(cart, 3);
+        Assert.assertEquals(3, cart.order.count);
+
+        for (String invalid : new String[]{"", "a..b", ".a", "a.", "a[", "a[]", "a['b]", "a[0]b"}) {
+            try {
+                ReflectionUtils.compilePath(invalid);
+                Assert.fail(invalid);
+            } catch (IllegalArgumentException e) {
+                Assert.assertNotNull(e.getMessage());
+            }
+        }
+        try {
+            ReflectionUtils.compilePath("order.missing").get(cart);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage().contains("missing"));
+        }
+    }
+
+    public static class PublicBean {
+        private int count;
+        private String label;
+
+        public int getCount() {
+            return this.count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public String getLabel() {
+            return this.label;
+        }
+
+        public void setLabel(String label) {
+            this.label = label;
+        }
+    }
+}
+
+class Parent {
+    private Long id;
+    private String name;
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+}
+
+class Child extends Parent {
+    private String name;
+    private boolean enabled;
+    private boolean isOld;
+
+    public void setIsOld(boolean isOld) {
+        this.isOld = isOld;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
+
+class Child$$EnhancerBySpringCGLIB$$1 extends Child {
+}
+
+class CustomProxy extends Child {
+}
+
+class Repository<T, ID> {
+    List<Map<String, T>> values;
+    Map<String, ? extends ID> ids;
+    T[] array;
+}
+
+class KeyedRepository<K> extends Repository<String, K> {
+}
+
+class StringRepository extends Repository<String, Long> {
+}
+
+class SubStringRepository extends StringRepository {
+}
+
+class CachedStringRepository extends KeyedRepository<Long> {
+}
+
+class Greeter {
+    private int count = 3;
+
+    Greeter() {
+    }
+
+    private Greeter(int count) {
+        this.count = count;
+    }
+
+    private static String twice(int value) {
+        return "static " + value * 2;
+    }
+
+    public String greet(Object value) {
+        return "hello object " + value;
+    }
+
+    public String greet(int value) {
+        return "hello int " + value;
+    }
+
+    public String greet(String value) {
+        return "hello string " + value;
+    }
+
+    public String greet(String first, String second) {
+        return "hello " + first + " " + second;
+    }
+
+    public void reset() {
+        this.count = 0;
+    }
+
+    private int count() {
+        return this.count;
+    }
+}
+
+class Cart {
+    Order order;
+}
+
+class Order {
+    int count;
+    List<OrderItem> items;
+    Map<String, OrderItem> attributes;
+    Object extra;
+}
+
+class OrderItem {
+    String sku;
+    String[] labels;
+}